@@ -0,0 +1,55 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.generator.benchmark;
+
+import org.openjdk.jmh.Main;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Entry point of the benchmark jar: delegates to the JMH command line and enables the
+ * GC profiler unless another profiler is requested, so every run reports the allocation
+ * rate per operation ({@code gc.alloc.rate.norm}) next to the throughput.
+ * <p><em>Example usage:</em></p>
+ * <pre>
+ * java -jar benchmark/target/benchmarks.jar                        # everything, with -prof gc
+ * java -jar benchmark/target/benchmarks.jar GeneratorsBenchmark -p factory=strings,urls
+ * java -jar benchmark/target/benchmarks.jar -rf json -rff 3.1.json # for comparing releases
+ * </pre>
+ *
+ * @author Oliver Wolff
+ * @since 3.1
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+        // entry point only
+    }
+
+    /**
+     * @param args the JMH command line arguments
+     * @throws Exception if JMH fails
+     */
+    public static void main(String[] args) throws Exception {
+        var arguments = new ArrayList<>(List.of(args));
+        if (!arguments.contains("-prof")) {
+            arguments.add("-prof");
+            arguments.add("gc");
+        }
+        Main.main(arguments.toArray(String[]::new));
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.generator.benchmark;
+
+import de.cuioss.test.generator.Generators;
+import de.cuioss.test.generator.TypedGenerator;
+import de.cuioss.test.generator.internal.RandomContext;
+import de.cuioss.test.generator.junit.parameterized.GeneratorType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@code next()} of the generator behind every {@link GeneratorType} constant,
+ * including the domain generators, single-threaded and with four threads sharing one
+ * generator, each in the shared and the thread-local mode of {@link RandomContext}.
+ * <p>
+ * The generators are created the way {@code @CompositeTypeGeneratorSource} does: domain
+ * types via their public no-argument constructor, all others via their parameterless
+ * factory method.
+ * </p>
+ *
+ * @author Oliver Wolff
+ * @since 3.1
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GeneratorTypeBenchmark {
+
+    /** Empty, so JMH runs every constant. */
+    @Param
+    public GeneratorType type;
+
+    @Param({"false", "true"})
+    public boolean threadLocal;
+
+    private TypedGenerator<?> generator;
+
+    @Setup(Level.Iteration)
+    public void setUp() throws ReflectiveOperationException {
+        RandomContext.setThreadLocal(threadLocal);
+        generator = create(type);
+    }
+
+    @Benchmark
+    public Object next() {
+        return generator.next();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Object nextContended() {
+        return generator.next();
+    }
+
+    private static TypedGenerator<?> create(GeneratorType type) throws ReflectiveOperationException {
+        try {
+            if (type.getMethodName() == null) {
+                return (TypedGenerator<?>) type.getFactoryClass().getDeclaredConstructor().newInstance();
+            }
+            return (TypedGenerator<?>) Generators.class.getMethod(type.getMethodName()).invoke(null);
+        } catch (InvocationTargetException e) {
+            throw new IllegalStateException("Unable to create generator for " + type, e.getCause());
+        }
+    }
+}
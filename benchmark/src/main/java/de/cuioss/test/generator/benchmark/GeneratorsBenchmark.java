@@ -0,0 +1,186 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.generator.benchmark;
+
+import de.cuioss.test.generator.Generators;
+import de.cuioss.test.generator.impl.UniqueValuesGenerator;
+import de.cuioss.test.generator.internal.RandomContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Measures {@code next()} of every factory method of {@link Generators}, single-threaded
+ * and with four threads sharing one generator, each in the shared and the thread-local
+ * mode of {@link RandomContext}.
+ * <p>
+ * Generators are created once per iteration, so a generator that rebuilds its delegates
+ * on every call shows up as a drop in throughput and a rise of {@code gc.alloc.rate.norm}.
+ * </p>
+ *
+ * @author Oliver Wolff
+ * @since 3.1
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GeneratorsBenchmark {
+
+    /** Unique generators remember every value; resetting them bounds the heap. */
+    private static final int UNIQUE_RESET_MASK = (1 << 16) - 1;
+
+    /** The benchmarked factory methods; the constant names double as {@code -p factory=...} values. */
+    @SuppressWarnings("java:S115") // named like the factory methods
+    public enum Factory {
+        enumValues(() -> Generators.enumValues(TimeUnit.class)::next),
+        enumValuesIfAvailable(() -> Generators.enumValuesIfAvailable(TimeUnit.class).orElseThrow()::next),
+        nonEmptyStrings(() -> Generators.nonEmptyStrings()::next),
+        nonBlankStrings(() -> Generators.nonBlankStrings()::next),
+        strings(() -> Generators.strings()::next),
+        stringsBounded(() -> Generators.strings(1, 64)::next),
+        stringsAlphabet(() -> Generators.strings("0123456789abcdef", 1, 64)::next),
+        letterStrings(() -> Generators.letterStrings()::next),
+        letterStringsBounded(() -> Generators.letterStrings(1, 64)::next),
+        fixedValues(() -> Generators.fixedValues("a", "b", "c", "d")::next),
+        weightedValues(() -> Generators.weightedValues(String.class, List.of("a", "b", "c", "d"),
+                70.0, 20.0, 9.0, 1.0)::next),
+        uniqueValues(GeneratorsBenchmark::resettingUniqueValues),
+        uniqueIntegers(() -> Generators.uniqueIntegers(Integer.MIN_VALUE, Integer.MAX_VALUE)::next),
+        uniqueLongs(() -> Generators.uniqueLongs(Long.MIN_VALUE, Long.MAX_VALUE)::next),
+        gaussianDoubles(() -> Generators.gaussianDoubles(0.0, 1.0)::next),
+        exponentialDoubles(() -> Generators.exponentialDoubles(1.0)::next),
+        histogramDoubles(() -> Generators.histogramDoubles(histogramFile())::next),
+        zipfIntegers(() -> Generators.zipfIntegers(10_000, 1.1)::next),
+        zipfLongs(() -> Generators.zipfLongs(1_000_000_000L, 1.1)::next),
+        asCollectionGenerator(() -> {
+            var collections = Generators.asCollectionGenerator(Generators.integers());
+            return () -> collections.list(16);
+        }),
+        booleans(() -> Generators.booleans()::next),
+        booleanObjects(() -> Generators.booleanObjects()::next),
+        bytes(() -> Generators.bytes()::next),
+        byteObjects(() -> Generators.byteObjects()::next),
+        characters(() -> Generators.characters()::next),
+        characterObjects(() -> Generators.characterObjects()::next),
+        doubles(() -> Generators.doubles()::next),
+        doublesRange(() -> Generators.doubles(0.0, 100.0)::next),
+        doubleObjects(() -> Generators.doubleObjects()::next),
+        floats(() -> Generators.floats()::next),
+        floatsRange(() -> Generators.floats(0.0f, 100.0f)::next),
+        floatObjects(() -> Generators.floatObjects()::next),
+        integers(() -> Generators.integers()::next),
+        integersRange(() -> Generators.integers(0, 100)::next),
+        integerObjects(() -> Generators.integerObjects()::next),
+        numbers(() -> Generators.numbers()::next),
+        shorts(() -> Generators.shorts()::next),
+        shortObjects(() -> Generators.shortObjects()::next),
+        longs(() -> Generators.longs()::next),
+        longsRange(() -> Generators.longs(0L, 100L)::next),
+        longObjects(() -> Generators.longObjects()::next),
+        dates(() -> Generators.dates()::next),
+        localDates(() -> Generators.localDates()::next),
+        localTimes(() -> Generators.localTimes()::next),
+        localDateTimes(() -> Generators.localDateTimes()::next),
+        zonedDateTimes(() -> Generators.zonedDateTimes()::next),
+        timeZones(() -> Generators.timeZones()::next),
+        zoneIds(() -> Generators.zoneIds()::next),
+        zoneOffsets(() -> Generators.zoneOffsets()::next),
+        temporals(() -> Generators.temporals()::next),
+        classTypes(() -> Generators.classTypes()::next),
+        locales(() -> Generators.locales()::next),
+        serializables(() -> Generators.serializables()::next),
+        runtimeExceptions(() -> Generators.runtimeExceptions()::next),
+        throwables(() -> Generators.throwables()::next),
+        urls(() -> Generators.urls()::next);
+
+        private final Supplier<Supplier<?>> creator;
+
+        Factory(Supplier<Supplier<?>> creator) {
+            this.creator = creator;
+        }
+    }
+
+    /** Empty, so JMH runs every constant. */
+    @Param
+    public Factory factory;
+
+    @Param({"false", "true"})
+    public boolean threadLocal;
+
+    private Supplier<?> generator;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        RandomContext.setThreadLocal(threadLocal);
+        generator = factory.creator.get();
+    }
+
+    @Benchmark
+    public Object next() {
+        return generator.get();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Object nextContended() {
+        return generator.get();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Supplier<?> resettingUniqueValues() {
+        var unique = (UniqueValuesGenerator<Long>) Generators.uniqueValues(Generators.longs());
+        var count = new AtomicInteger();
+        return () -> {
+            if ((count.incrementAndGet() & UNIQUE_RESET_MASK) == 0) {
+                unique.reset();
+            }
+            return unique.next();
+        };
+    }
+
+    private static Path histogramFile() {
+        try {
+            var file = Files.createTempFile("generator-benchmark", ".hist");
+            file.toFile().deleteOnExit();
+            Files.write(file, List.of("0,1024,70", "1024,65536,25", "65536,1048576,5"));
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
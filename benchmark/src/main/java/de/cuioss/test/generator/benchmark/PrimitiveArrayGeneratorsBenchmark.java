@@ -0,0 +1,105 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.generator.benchmark;
+
+import de.cuioss.test.generator.impl.PrimitiveArrayGenerators;
+import de.cuioss.test.generator.internal.RandomContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures array creation via {@link PrimitiveArrayGenerators#next(int, int)} and bulk
+ * filling of an existing array via {@link PrimitiveArrayGenerators#fillArray(Object, int, int)}
+ * for every primitive type, single-threaded and with four threads, each in the shared and
+ * the thread-local mode of {@link RandomContext}.
+ *
+ * @author Oliver Wolff
+ * @since 3.1
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrimitiveArrayGeneratorsBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Config {
+
+        /** Empty, so JMH runs every constant. */
+        @Param
+        public PrimitiveArrayGenerators generator;
+
+        @Param({"16", "1024"})
+        public int size;
+
+        @Param({"false", "true"})
+        public boolean threadLocal;
+
+        @Setup
+        public void setUp() {
+            RandomContext.setThreadLocal(threadLocal);
+        }
+    }
+
+    /** One target array per thread, so filling measures the generator, not false sharing. */
+    @State(Scope.Thread)
+    public static class Target {
+
+        Object array;
+
+        @Setup
+        public void setUp(Config config) {
+            array = config.generator.next(config.size, config.size);
+        }
+    }
+
+    @Benchmark
+    public Object next(Config config) {
+        return config.generator.next(config.size, config.size);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Object nextContended(Config config) {
+        return config.generator.next(config.size, config.size);
+    }
+
+    @Benchmark
+    public Object fill(Config config, Target target) {
+        config.generator.fillArray(target.array, 0, config.size);
+        return target.array;
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Object fillContended(Config config, Target target) {
+        config.generator.fillArray(target.array, 0, config.size);
+        return target.array;
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.generator.junit.parameterized;
+
+import de.cuioss.test.generator.Generators;
+import de.cuioss.test.generator.TypedGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link JpmsReflectionHelper#invokeMethod} once its method handle is cached, for
+ * a parameterless and a parameterized static factory method and for an instance method.
+ * <p>
+ * Lives in the package of the helper, which is package-private.
+ * </p>
+ *
+ * @author Oliver Wolff
+ * @since 3.1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JpmsReflectionHelperBenchmark {
+
+    private Method staticFactory;
+    private Method parameterizedFactory;
+    private Method instanceMethod;
+    private TypedGenerator<Integer> target;
+    private final Object[] bounds = {0, 100};
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        staticFactory = Generators.class.getMethod("integers");
+        parameterizedFactory = Generators.class.getMethod("integers", int.class, int.class);
+        instanceMethod = TypedGenerator.class.getMethod("getType");
+        target = Generators.integers();
+    }
+
+    @Benchmark
+    public Object staticFactory() throws ReflectiveOperationException {
+        return JpmsReflectionHelper.invokeMethod(staticFactory, null);
+    }
+
+    @Benchmark
+    public Object parameterizedFactory() throws ReflectiveOperationException {
+        return JpmsReflectionHelper.invokeMethod(parameterizedFactory, null, bounds);
+    }
+
+    @Benchmark
+    public Object instanceMethod() throws ReflectiveOperationException {
+        return JpmsReflectionHelper.invokeMethod(instanceMethod, target);
+    }
+}
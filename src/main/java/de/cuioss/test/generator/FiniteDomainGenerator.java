@@ -0,0 +1,59 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.generator;
+
+/**
+ * A {@link TypedGenerator} drawing from a finite, enumerable set of distinct values.
+ * <p>
+ * The values are addressed by an index in {@code [0, domainSize())}; distinct indices map to
+ * distinct values. This allows callers like
+ * {@link de.cuioss.test.generator.impl.CollectionGenerator#distinctSet(int)} to sample
+ * without replacement instead of drawing and discarding duplicates, and to fail fast if more
+ * distinct values are requested than the domain holds.
+ * </p>
+ *
+ * <p><em>Usage example:</em></p>
+ * <pre>
+ * {@code
+ * FiniteDomainGenerator<Integer> generator = new IntegerGenerator(1, 6);
+ * long size = generator.domainSize(); // 6
+ * Integer first = generator.valueAt(0); // 1
+ * }
+ * </pre>
+ *
+ * @param <T> the type of the generated values
+ * @author Oliver Wolff
+ * @since 3.1
+ */
+public interface FiniteDomainGenerator<T> extends TypedGenerator<T> {
+
+    /**
+     * @return the number of distinct values this generator can produce. Domains of
+     * {@link Long#MAX_VALUE} or more values report {@link Long#MAX_VALUE}; as
+     * {@link #valueAt(long)} then only reaches a part of the domain, callers must not sample
+     * such domains by index.
+     */
+    long domainSize();
+
+    /**
+     * Returns the value at the given position of the domain.
+     *
+     * @param index the position, must be within {@code [0, domainSize())}
+     * @return the value at the given position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    T valueAt(long index);
+}
@@ -22,8 +22,11 @@ import de.cuioss.test.generator.impl.CollectionGenerator;
 import de.cuioss.test.generator.impl.DateGenerator;
 import de.cuioss.test.generator.impl.DecoratorGenerator;
 import de.cuioss.test.generator.impl.DoubleGenerator;
+import de.cuioss.test.generator.impl.ExponentialGenerator;
 import de.cuioss.test.generator.impl.FixedValuesGenerator;
 import de.cuioss.test.generator.impl.FloatObjectGenerator;
+import de.cuioss.test.generator.impl.GaussianGenerator;
+import de.cuioss.test.generator.impl.HistogramGenerator;
 import de.cuioss.test.generator.impl.IntegerGenerator;
 import de.cuioss.test.generator.impl.LocalDateGenerator;
 import de.cuioss.test.generator.impl.LocalDateTimeGenerator;
@@ -34,13 +37,21 @@ import de.cuioss.test.generator.impl.NumberGenerator;
 import de.cuioss.test.generator.impl.ShortObjectGenerator;
 import de.cuioss.test.generator.impl.StringGenerator;
 import de.cuioss.test.generator.impl.URLGenerator;
+import de.cuioss.test.generator.impl.UniqueIntegerRangeGenerator;
+import de.cuioss.test.generator.impl.UniqueRangeGenerator;
 import de.cuioss.test.generator.impl.UniqueValuesGenerator;
+import de.cuioss.test.generator.impl.WeightedValuesGenerator;
 import de.cuioss.test.generator.impl.ZoneOffsetGenerator;
+import de.cuioss.test.generator.impl.ZipfGenerator;
 import de.cuioss.test.generator.impl.ZonedDateTimeGenerator;
+import de.cuioss.test.generator.internal.ZoneCatalogue;
 import lombok.experimental.UtilityClass;
 
+import java.io.IOException;
 import java.io.Serializable;
+import java.io.UncheckedIOException;
 import java.net.URL;
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -54,6 +65,7 @@ import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.TimeZone;
 
@@ -62,10 +74,12 @@ import static java.util.Objects.requireNonNull;
 /**
  * Provides factory methods for creating {@link TypedGenerator}s for various Java types.
  * <p>
- * Generators are thread-safe for value generation. Reproducibility via a fixed seed is
- * guaranteed only for single-threaded execution: because all generators share one
- * {@link java.util.Random} instance, concurrent use interleaves draws and makes the value
- * stream non-deterministic.
+ * Generators are thread-safe for value generation. By default all generators share one
+ * {@link java.util.Random} instance, so reproducibility via a fixed seed is guaranteed only
+ * for single-threaded execution: concurrent use interleaves draws and makes the value stream
+ * non-deterministic. For parallel test execution enable the thread-local mode of
+ * {@link de.cuioss.test.generator.internal.RandomContext}, which gives every thread its own
+ * seeded generator.
  * </p>
  *
  * <p>The generators are organized into the following categories:</p>
@@ -108,13 +122,88 @@ import static java.util.Objects.requireNonNull;
 @UtilityClass
 public class Generators {
 
-    /** Cached list of all available {@link TimeZone}s; rebuilding it per call is expensive. */
-    private static final List<TimeZone> TIME_ZONES =
-            Arrays.stream(TimeZone.getAvailableIDs()).map(TimeZone::getTimeZone).toList();
+    /**
+     * Canonical instances of the stateless generators returned by the parameterless factory
+     * methods. They hold no mutable state, so every caller can share them, and repeated
+     * factory calls, e.g. per value inside other generators, allocate nothing. Initialized
+     * on first use; generators created here must not call back into this class from their
+     * static initializers.
+     */
+    private static final class Shared {
+        static final TypedGenerator<Boolean> BOOLEAN_OBJECTS = new BooleanGenerator();
+        static final TypedGenerator<Boolean> BOOLEANS = new DecoratorGenerator<>(boolean.class, BOOLEAN_OBJECTS);
+        static final TypedGenerator<Byte> BYTE_OBJECTS = new ByteGenerator();
+        static final TypedGenerator<Byte> BYTES = new DecoratorGenerator<>(byte.class, BYTE_OBJECTS);
+        static final TypedGenerator<Character> CHARACTER_OBJECTS = new CharacterGenerator();
+        static final TypedGenerator<Character> CHARACTERS = new DecoratorGenerator<>(char.class, CHARACTER_OBJECTS);
+        static final TypedGenerator<Double> DOUBLE_OBJECTS = new DoubleGenerator();
+        static final TypedGenerator<Double> DOUBLES = new DecoratorGenerator<>(double.class, DOUBLE_OBJECTS);
+        static final TypedGenerator<Float> FLOAT_OBJECTS = new FloatObjectGenerator();
+        static final TypedGenerator<Float> FLOATS = new DecoratorGenerator<>(float.class, FLOAT_OBJECTS);
+        static final TypedGenerator<Integer> INTEGER_OBJECTS = new IntegerGenerator();
+        static final TypedGenerator<Integer> INTEGERS = new DecoratorGenerator<>(int.class, INTEGER_OBJECTS);
+        static final TypedGenerator<Number> NUMBERS = new NumberGenerator();
+        static final TypedGenerator<Short> SHORT_OBJECTS = new ShortObjectGenerator();
+        static final TypedGenerator<Short> SHORTS = new DecoratorGenerator<>(short.class, SHORT_OBJECTS);
+        static final TypedGenerator<Long> LONG_OBJECTS = new LongGenerator();
+        static final TypedGenerator<Long> LONGS = new DecoratorGenerator<>(long.class, LONG_OBJECTS);
+        static final TypedGenerator<Date> DATES = new DateGenerator();
+        static final TypedGenerator<LocalDate> LOCAL_DATES = new LocalDateGenerator();
+        static final TypedGenerator<LocalTime> LOCAL_TIMES = new LocalTimeGenerator();
+        static final TypedGenerator<LocalDateTime> LOCAL_DATE_TIMES = new LocalDateTimeGenerator();
+        @SuppressWarnings("rawtypes")
+        static final TypedGenerator<Class> CLASS_TYPES = new FixedValuesGenerator<>(Class.class,
+                List.of(Integer.class, String.class, Boolean.class, Float.class));
+    }
+
+    /**
+     * Canonical instances of the generators drawing from the {@link ZoneCatalogue}. Kept apart
+     * from {@link Shared}, so the zone database is only loaded once a zone is actually requested.
+     */
+    private static final class SharedZones {
+        static final TypedGenerator<TimeZone> TIME_ZONE_VALUES =
+                new FixedValuesGenerator<>(TimeZone.class, ZoneCatalogue.timeZones());
+        static final TypedGenerator<ZoneId> ZONE_ID_VALUES =
+                new FixedValuesGenerator<>(ZoneId.class, ZoneCatalogue.zoneIds());
+        static final TypedGenerator<ZoneOffset> ZONE_OFFSETS = new ZoneOffsetGenerator();
+    }
+
+    /**
+     * Canonical {@link ZonedDateTime} based generators, kept apart from {@link Shared} as
+     * loading {@code java.time.zone} is only paid for once such a value is requested.
+     */
+    private static final class SharedZonedDateTimes {
+        static final TypedGenerator<ZonedDateTime> ZONED_DATE_TIMES = new ZonedDateTimeGenerator();
+        static final TypedGenerator<Temporal> TEMPORALS = new TypedGenerator<>() {
+
+            @Override
+            public Class<Temporal> getType() {
+                return Temporal.class;
+            }
+
+            @Override
+            public Temporal next() {
+                return ZONED_DATE_TIMES.next().toInstant();
+            }
+        };
+    }
+
+    /**
+     * The canonical {@link Locale} generator. {@link Locale#getAvailableLocales()} initializes
+     * the locale service providers, so it is kept apart from {@link Shared}.
+     */
+    private static final class SharedLocales {
+        static final TypedGenerator<Locale> LOCALES = new FixedValuesGenerator<>(Locale.class,
+                Arrays.asList(Locale.getAvailableLocales()));
+    }
 
-    /** Cached list of all available {@link ZoneId}s; rebuilding it per call is expensive. */
-    private static final List<ZoneId> ZONE_IDS =
-            ZoneId.getAvailableZoneIds().stream().map(ZoneId::of).toList();
+    /**
+     * The canonical {@link URL} generator, kept apart from {@link Shared}, so the URL classes
+     * and protocol handlers are only loaded once a URL is requested.
+     */
+    private static final class SharedUrls {
+        static final TypedGenerator<URL> URLS = new URLGenerator();
+    }
 
     /**
      * Factory method for creating a generator for a possible given enum.
@@ -311,6 +400,58 @@ public class Generators {
         return fixedValues(determineTypeFromFirstElement(values), values);
     }
 
+    /**
+     * Factory method for creating a {@link TypedGenerator} selecting from a number of
+     * fixed values, each with a probability proportional to its weight. Sampling is
+     * O(1) regardless of the number of values, see {@link WeightedValuesGenerator}.
+     *
+     * <p><em>Example usage:</em></p>
+     * <pre>
+     * var generator = Generators.weightedValues(String.class,
+     *         NameLibrary.LAST_NAMES_GERMAN, 10.0, 7.0, 4.0, 4.0, 3.0, 3.0, 3.0, 2.0, 2.0, 1.0);
+     * </pre>
+     *
+     * @param <T>     The type of values
+     * @param type    of the value
+     * @param values  to be generated from
+     * @param weights the weight for each value, at the same position
+     * @return a {@link TypedGenerator} for the given weighted values
+     * @throws IllegalArgumentException if values is empty, the sizes differ, a weight is
+     *                                  negative or not finite, or all weights are zero
+     * @throws NullPointerException     if values or weights is null
+     */
+    public static <T> TypedGenerator<T> weightedValues(final Class<T> type, final List<T> values,
+            final double... weights) {
+        return new WeightedValuesGenerator<>(type, values, weights);
+    }
+
+    /**
+     * Factory method for creating a {@link TypedGenerator} selecting from the keys of
+     * the given map, each with a probability proportional to its mapped weight. Use an
+     * ordered map, e.g. {@link java.util.LinkedHashMap}, for sequences reproducible by
+     * seed.
+     *
+     * @param <T>     The type of values
+     * @param type    of the value
+     * @param weights the values mapped to their weights
+     * @return a {@link TypedGenerator} for the given weighted values
+     * @throws IllegalArgumentException if weights is empty, a weight is negative or not
+     *                                  finite, or all weights are zero
+     * @throws NullPointerException     if weights or one of its weights is null
+     */
+    public static <T> TypedGenerator<T> weightedValues(final Class<T> type,
+            final Map<T, ? extends Number> weights) {
+        requireNonNull(weights, "weights must not be null");
+        var values = new ArrayList<T>(weights.size());
+        var weightArray = new double[weights.size()];
+        var index = 0;
+        for (var entry : weights.entrySet()) {
+            values.add(entry.getKey());
+            weightArray[index++] = requireNonNull(entry.getValue(), "weight must not be null").doubleValue();
+        }
+        return new WeightedValuesGenerator<>(type, values, weightArray);
+    }
+
     /* Combined generators */
 
     /**
@@ -338,6 +479,108 @@ public class Generators {
         return new UniqueValuesGenerator<>(source);
     }
 
+    /**
+     * Factory method for creating a generator returning every integer of the given range
+     * exactly once, in a pseudo-random order. Unlike {@link #uniqueValues(TypedGenerator)}
+     * it needs neither retries nor memory for the values returned so far.
+     *
+     * @param low  lower bound of range
+     * @param high upper bound of range
+     * @return a {@link UniqueIntegerRangeGenerator} throwing an {@link IllegalStateException}
+     *         once the range is exhausted, see {@link UniqueIntegerRangeGenerator#reset()}
+     * @throws IllegalArgumentException if {@code high < low}
+     */
+    public static UniqueIntegerRangeGenerator uniqueIntegers(final int low, final int high) {
+        return new UniqueIntegerRangeGenerator(low, high);
+    }
+
+    /**
+     * Factory method for creating a generator returning every long of the given range
+     * exactly once, in a pseudo-random order, see {@link UniqueRangeGenerator}.
+     *
+     * @param low  lower bound of range
+     * @param high upper bound of range
+     * @return a {@link UniqueRangeGenerator} throwing an {@link IllegalStateException} once
+     *         the range is exhausted, see {@link UniqueRangeGenerator#reset()}
+     * @throws IllegalArgumentException if {@code high < low}
+     */
+    public static UniqueRangeGenerator uniqueLongs(final long low, final long high) {
+        return new UniqueRangeGenerator(low, high);
+    }
+
+    /* Distributions */
+
+    /**
+     * Factory method for creating a generator of normally distributed doubles, see
+     * {@link GaussianGenerator}.
+     *
+     * @param mean              the mean, must be finite
+     * @param standardDeviation the standard deviation, must be finite and {@code >= 0}
+     * @return a {@link TypedDoubleGenerator} for normally distributed values
+     * @throws IllegalArgumentException if a parameter is out of range
+     */
+    public static TypedDoubleGenerator gaussianDoubles(final double mean, final double standardDeviation) {
+        return new GaussianGenerator(mean, standardDeviation);
+    }
+
+    /**
+     * Factory method for creating a generator of exponentially distributed, non-negative
+     * doubles, see {@link ExponentialGenerator}.
+     *
+     * @param mean the mean, must be finite and {@code > 0}
+     * @return a {@link TypedDoubleGenerator} for exponentially distributed values
+     * @throws IllegalArgumentException if mean is out of range
+     */
+    public static TypedDoubleGenerator exponentialDoubles(final double mean) {
+        return new ExponentialGenerator(mean);
+    }
+
+    /**
+     * Factory method for creating a generator of doubles following the histogram in the
+     * given file, see {@link HistogramGenerator} for the format.
+     *
+     * @param file the histogram file
+     * @return a {@link TypedDoubleGenerator} for values following the histogram
+     * @throws UncheckedIOException     if the file cannot be read
+     * @throws IllegalArgumentException if the file contains no bins or an invalid line
+     */
+    public static TypedDoubleGenerator histogramDoubles(final Path file) {
+        try {
+            return HistogramGenerator.fromFile(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read histogram from " + file, e);
+        }
+    }
+
+    /**
+     * Factory method for creating a generator of Zipf distributed ranks in
+     * {@code [1, numberOfElements]}, where rank 1 is the most frequent, see
+     * {@link ZipfGenerator}.
+     *
+     * @param numberOfElements the number of ranks, must be {@code > 0}
+     * @param exponent         the exponent, must be finite and {@code > 0}
+     * @return a {@link TypedGenerator} for Zipf distributed integers
+     * @throws IllegalArgumentException if a parameter is out of range
+     */
+    public static TypedGenerator<Integer> zipfIntegers(final int numberOfElements, final double exponent) {
+        var delegate = new ZipfGenerator(numberOfElements, exponent);
+        return (TypedIntGenerator) () -> (int) delegate.nextLong();
+    }
+
+    /**
+     * Factory method for creating a generator of Zipf distributed ranks in
+     * {@code [1, numberOfElements]}, where rank 1 is the most frequent, see
+     * {@link ZipfGenerator}.
+     *
+     * @param numberOfElements the number of ranks, must be {@code > 0}
+     * @param exponent         the exponent, must be finite and {@code > 0}
+     * @return a {@link TypedGenerator} for Zipf distributed longs
+     * @throws IllegalArgumentException if a parameter is out of range
+     */
+    public static TypedGenerator<Long> zipfLongs(final long numberOfElements, final double exponent) {
+        return new ZipfGenerator(numberOfElements, exponent);
+    }
+
     /**
      * Factory method for creating a {@link CollectionGenerator} generating
      * {@link Collection}s from the given {@link TypedGenerator} .
@@ -358,7 +601,7 @@ public class Generators {
      * @return a {@link TypedGenerator} for boolean primitives
      */
     public static TypedGenerator<Boolean> booleans() {
-        return new DecoratorGenerator<>(boolean.class, booleanObjects());
+        return Shared.BOOLEANS;
     }
 
     /**
@@ -367,7 +610,7 @@ public class Generators {
      * @return a {@link TypedGenerator} for {@link Boolean}
      */
     public static TypedGenerator<Boolean> booleanObjects() {
-        return new BooleanGenerator();
+        return Shared.BOOLEAN_OBJECTS;
     }
 
     /**
@@ -376,7 +619,7 @@ public class Generators {
      * @return a {@link TypedGenerator} for byte primitives
      */
     public static TypedGenerator<Byte> bytes() {
-        return new DecoratorGenerator<>(byte.class, byteObjects());
+        return Shared.BYTES;
     }
 
     /**
@@ -385,7 +628,7 @@ public class Generators {
      * @return a {@link TypedGenerator} for {@link Byte}
      */
     public static TypedGenerator<Byte> byteObjects() {
-        return new ByteGenerator();
+        return Shared.BYTE_OBJECTS;
     }
 
     /**
@@ -394,7 +637,7 @@ public class Generators {
      * @return a {@link TypedGenerator} for char primitives
      */
     public static TypedGenerator<Character> characters() {
-        return new DecoratorGenerator<>(char.class, characterObjects());
+        return Shared.CHARACTERS;
     }
 
     /**
@@ -403,7 +646,7 @@ public class Generators {
      * @return a {@link TypedGenerator} for {@link Character}
      */
     public static TypedGenerator<Character> characterObjects() {
-        return new CharacterGenerator();
+        return Shared.CHARACTER_OBJECTS;
     }
 
     /**
@@ -412,7 +655,7 @@ public class Generators {
      * @return a {@link TypedGenerator} for double primitives
      */
     public static TypedGenerator<Double> doubles() {
-        return new DecoratorGenerator<>(double.class, doubleObjects());
+        return Shared.DOUBLES;
     }
 
     /**
@@ -432,7 +675,7 @@ public class Generators {
      * @return a {@link TypedGenerator} for {@link Double}
      */
     public static TypedGenerator<Double> doubleObjects() {
-        return new DoubleGenerator();
+        return Shared.DOUBLE_OBJECTS;
     }
 
     /**
@@ -441,7 +684,7 @@ public class Generators {
      * @return a {@link TypedGenerator} for float primitives
      */
     public static TypedGenerator<Float> floats() {
-        return new DecoratorGenerator<>(float.class, floatObjects());
+        return Shared.FLOATS;
     }
 
     /**
@@ -461,7 +704,7 @@ public class Generators {
      * @return a {@link TypedGenerator} for {@link Float}
      */
     public static TypedGenerator<Float> floatObjects() {
-        return new FloatObjectGenerator();
+        return Shared.FLOAT_OBJECTS;
     }
 
     /**
@@ -470,7 +713,7 @@ public class Generators {
      * @return a {@link TypedGenerator} for integer primitives
      */
     public static TypedGenerator<Integer> integers() {
-        return new DecoratorGenerator<>(int.class, integerObjects());
+        return Shared.INTEGERS;
     }
 
     /**
@@ -490,7 +733,7 @@ public class Generators {
      * @return a {@link TypedGenerator} for {@link Integer}
      */
     public static TypedGenerator<Integer> integerObjects() {
-        return new IntegerGenerator();
+        return Shared.INTEGER_OBJECTS;
     }
 
     /**
@@ -499,7 +742,7 @@ public class Generators {
      * @return a {@link TypedGenerator} for {@link Number}
      */
     public static TypedGenerator<Number> numbers() {
-        return new NumberGenerator();
+        return Shared.NUMBERS;
     }
 
     /**
@@ -508,7 +751,7 @@ public class Generators {
      * @return a {@link TypedGenerator} for short primitives
      */
     public static TypedGenerator<Short> shorts() {
-        return new DecoratorGenerator<>(short.class, shortObjects());
+        return Shared.SHORTS;
     }
 
     /**
@@ -517,7 +760,7 @@ public class Generators {
      * @return a {@link TypedGenerator} for {@link Short}
      */
     public static TypedGenerator<Short> shortObjects() {
-        return new ShortObjectGenerator();
+        return Shared.SHORT_OBJECTS;
     }
 
     /**
@@ -526,7 +769,7 @@ public class Generators {
      * @return a {@link TypedGenerator} for long primitives
      */
     public static TypedGenerator<Long> longs() {
-        return new DecoratorGenerator<>(long.class, longObjects());
+        return Shared.LONGS;
     }
 
     /**
@@ -547,7 +790,7 @@ public class Generators {
      * @return a {@link TypedGenerator} for {@link Long}
      */
     public static TypedGenerator<Long> longObjects() {
-        return new LongGenerator();
+        return Shared.LONG_OBJECTS;
     }
 
     /**
@@ -556,7 +799,7 @@ public class Generators {
      * @return a {@link TypedGenerator} for {@link Date}
      */
     public static TypedGenerator<Date> dates() {
-        return new DateGenerator();
+        return Shared.DATES;
     }
 
     /**
@@ -565,7 +808,7 @@ public class Generators {
      * @return a {@link TypedGenerator} for {@link LocalDate}
      */
     public static TypedGenerator<LocalDate> localDates() {
-        return new LocalDateGenerator();
+        return Shared.LOCAL_DATES;
     }
 
     /**
@@ -574,7 +817,7 @@ public class Generators {
      * @return a {@link TypedGenerator} for {@link LocalTime}
      */
     public static TypedGenerator<LocalTime> localTimes() {
-        return new LocalTimeGenerator();
+        return Shared.LOCAL_TIMES;
     }
 
     /**
@@ -584,7 +827,7 @@ public class Generators {
      * @return a {@link TypedGenerator} for {@link LocalDateTime}
      */
     public static TypedGenerator<LocalDateTime> localDateTimes() {
-        return new LocalDateTimeGenerator();
+        return Shared.LOCAL_DATE_TIMES;
     }
 
     /**
@@ -594,7 +837,7 @@ public class Generators {
      * @return a {@link TypedGenerator} for {@link ZonedDateTime}
      */
     public static TypedGenerator<ZonedDateTime> zonedDateTimes() {
-        return new ZonedDateTimeGenerator();
+        return SharedZonedDateTimes.ZONED_DATE_TIMES;
     }
 
     /**
@@ -603,7 +846,7 @@ public class Generators {
      * @return a {@link TypedGenerator} for {@link TimeZone}
      */
     public static TypedGenerator<TimeZone> timeZones() {
-        return fixedValues(TimeZone.class, TIME_ZONES);
+        return SharedZones.TIME_ZONE_VALUES;
     }
 
     /**
@@ -612,16 +855,19 @@ public class Generators {
      * @return a {@link TypedGenerator} for {@link ZoneId}
      */
     public static TypedGenerator<ZoneId> zoneIds() {
-        return fixedValues(ZoneId.class, ZONE_IDS);
+        return SharedZones.ZONE_ID_VALUES;
     }
 
     /**
      * Factory method for creating a {@link TypedGenerator} for {@link ZoneOffset}.
+     * The offsets are resolved once, when first used; use
+     * {@link ZoneOffsetGenerator#ZoneOffsetGenerator(java.time.Instant, ZoneOffsetGenerator.Weighting)}
+     * for offsets at a fixed instant.
      *
      * @return a {@link TypedGenerator} for {@link ZoneOffset}
      */
     public static TypedGenerator<ZoneOffset> zoneOffsets() {
-        return new ZoneOffsetGenerator();
+        return SharedZones.ZONE_OFFSETS;
     }
 
     /**
@@ -630,18 +876,7 @@ public class Generators {
      * @return a {@link TypedGenerator} for {@link Temporal}s
      */
     public static TypedGenerator<Temporal> temporals() {
-        return new TypedGenerator<>() {
-
-            @Override
-            public Class<Temporal> getType() {
-                return Temporal.class;
-            }
-
-            @Override
-            public Temporal next() {
-                return zonedDateTimes().next().toInstant();
-            }
-        };
+        return SharedZonedDateTimes.TEMPORALS;
     }
 
     // Advanced Java Types
@@ -654,7 +889,7 @@ public class Generators {
      */
     @SuppressWarnings("rawtypes")
     public static TypedGenerator<Class> classTypes() {
-        return fixedValues(Class.class, Integer.class, String.class, Boolean.class, Float.class);
+        return Shared.CLASS_TYPES;
     }
 
     /**
@@ -664,7 +899,7 @@ public class Generators {
      * @return a {@link TypedGenerator} for all {@link Locale}s
      */
     public static TypedGenerator<Locale> locales() {
-        return fixedValues(Locale.class, Locale.getAvailableLocales());
+        return SharedLocales.LOCALES;
     }
 
     /**
@@ -719,7 +954,7 @@ public class Generators {
      * @return a {@link TypedGenerator} for all {@link URL}s
      */
     public static TypedGenerator<URL> urls() {
-        return new URLGenerator();
+        return SharedUrls.URLS;
     }
 
     /**
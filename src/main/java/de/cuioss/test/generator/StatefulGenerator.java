@@ -0,0 +1,50 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.generator;
+
+/**
+ * A {@link TypedGenerator} whose values depend on the values it returned before, e.g. because
+ * it never repeats one.
+ * <p>
+ * Such a generator must not be shared between independent consumers. The parameterized test
+ * sources therefore never cache an instance of it, see
+ * {@link de.cuioss.test.generator.junit.parameterized.TypeGeneratorSource#cacheGenerator()}.
+ * A generator delegating to a stateful one should implement this interface as well; otherwise
+ * it needs {@code cacheGenerator = false} to get a fresh instance per test method.
+ * </p>
+ *
+ * <p><em>Usage example:</em></p>
+ * <pre>
+ * {@code
+ * StatefulGenerator<Long> dice = new UniqueRangeGenerator(1, 6);
+ * Long first = dice.next();
+ * dice.reset(); // same order again
+ * }
+ * </pre>
+ *
+ * @param <T> the type of the generated values
+ * @see de.cuioss.test.generator.impl.UniqueValuesGenerator
+ * @see de.cuioss.test.generator.impl.UniqueRangeGenerator
+ * @author Oliver Wolff
+ * @since 3.1
+ */
+public interface StatefulGenerator<T> extends TypedGenerator<T> {
+
+    /**
+     * Forgets the values returned so far, so that the generator starts over.
+     */
+    void reset();
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.generator;
+
+/**
+ * A {@link TypedGenerator} for {@code double} values that provides an unboxed accessor.
+ * <p>
+ * Callers that consume primitive values should use {@link #nextDouble()}: it does not allocate a
+ * {@link Double} per value. {@link #next()} boxes the result of {@link #nextDouble()}.
+ * </p>
+ *
+ * <p><em>Usage example:</em></p>
+ * <pre>
+ * {@code
+ * TypedDoubleGenerator generator = new DoubleGenerator(0.0, 1.0);
+ * double value = generator.nextDouble();
+ * }
+ * </pre>
+ *
+ * @author Oliver Wolff
+ * @since 3.1
+ */
+public interface TypedDoubleGenerator extends TypedGenerator<Double> {
+
+    /**
+     * Generates the next value without boxing.
+     *
+     * @return the next {@code double} value
+     */
+    double nextDouble();
+
+    /**
+     * @return the boxed result of {@link #nextDouble()}
+     */
+    @Override
+    default Double next() {
+        return nextDouble();
+    }
+
+    /**
+     * @return {@link Double}{@code .class}
+     */
+    @Override
+    default Class<Double> getType() {
+        return Double.class;
+    }
+}
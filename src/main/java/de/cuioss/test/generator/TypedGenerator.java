@@ -15,6 +15,18 @@
  */
 package de.cuioss.test.generator;
 
+import de.cuioss.test.generator.internal.GeneratorSpliterator;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static de.cuioss.test.generator.internal.GeneratorPreconditions.checkCount;
+import static de.cuioss.test.generator.internal.GeneratorPreconditions.prepareTarget;
+
 /**
  * A generator creates instances of type T for testing purposes.
  * Implementations must ensure thread-safety and handle null values appropriately.
@@ -38,6 +50,9 @@ package de.cuioss.test.generator;
  * 
  * // Get type information
  * Class<String> type = generator.getType();
+ *
+ * // Generate many values, in parallel if desired
+ * List<String> values = generator.stream(10_000).parallel().toList();
  * }
  * </pre>
  *
@@ -75,4 +90,79 @@ public interface TypedGenerator<T> {
      * null value generation.
      */
     T next();
+
+    /**
+     * Generates {@code n} values at once. The default implementation delegates to
+     * {@link #nextInto(Collection, int)}; generators that can produce values in bulk should
+     * override that method instead.
+     *
+     * @param n the number of values, must be {@code >= 0}
+     * @return a new, mutable {@link List} containing {@code n} values
+     * @throws IllegalArgumentException if {@code n} is negative
+     */
+    default List<T> next(int n) {
+        checkCount("n", n);
+        return nextInto(new ArrayList<>(n), n);
+    }
+
+    /**
+     * Generates {@code n} values and adds them to the given collection. The default
+     * implementation calls {@link #next()} {@code n} times; implementations may override it
+     * with a batch fast path. Note that a {@link java.util.Set} target may end up with fewer
+     * than {@code n} additional elements.
+     *
+     * @param target the collection to add the values to, must not be null
+     * @param n      the number of values, must be {@code >= 0}
+     * @param <C>    the type of the target collection
+     * @return the given target, for chaining
+     * @throws IllegalArgumentException if {@code n} is negative
+     */
+    default <C extends Collection<? super T>> C nextInto(C target, int n) {
+        prepareTarget(target, n);
+        for (var i = 0; i < n; i++) {
+            target.add(next());
+        }
+        return target;
+    }
+
+    /**
+     * Provides an unbounded, lazily evaluated stream of generated values, to be limited by
+     * the caller, e.g. with {@link Stream#limit(long)}.
+     *
+     * @return an infinite stream of values
+     * @see #spliterator(long)
+     */
+    default Stream<T> stream() {
+        return StreamSupport.stream(GeneratorSpliterator.unbounded(this), false);
+    }
+
+    /**
+     * Provides a lazily evaluated stream of exactly {@code n} generated values.
+     * The stream may be turned {@link Stream#parallel() parallel}, see {@link #spliterator(long)}.
+     *
+     * @param n the number of values, must be {@code >= 0}
+     * @return a stream of {@code n} values
+     * @throws IllegalArgumentException if {@code n} is negative
+     */
+    default Stream<T> stream(long n) {
+        return StreamSupport.stream(spliterator(n), false);
+    }
+
+    /**
+     * Provides a splittable {@link Spliterator} of exactly {@code n} generated values.
+     * <p>
+     * Each split draws from its own random generator, derived deterministically from the seed
+     * in effect when this method is called. For a given seed, sequential and parallel
+     * traversal therefore yield the same values in the same encounter order. This relies on
+     * {@link #next()} being thread-safe and drawing its randomness from
+     * {@link de.cuioss.test.generator.internal.RandomContext}.
+     * </p>
+     *
+     * @param n the number of values, must be {@code >= 0}
+     * @return a spliterator over {@code n} values
+     * @throws IllegalArgumentException if {@code n} is negative
+     */
+    default Spliterator<T> spliterator(long n) {
+        return GeneratorSpliterator.of(this, n);
+    }
 }
@@ -0,0 +1,60 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.generator;
+
+/**
+ * A {@link TypedGenerator} for {@code long} values that provides an unboxed accessor.
+ * <p>
+ * Callers that consume primitive values should use {@link #nextLong()}: it does not allocate a
+ * {@link Long} per value. {@link #next()} boxes the result of {@link #nextLong()}.
+ * </p>
+ *
+ * <p><em>Usage example:</em></p>
+ * <pre>
+ * {@code
+ * TypedLongGenerator generator = new LongGenerator(1L, 100L);
+ * long value = generator.nextLong();
+ * }
+ * </pre>
+ *
+ * @author Oliver Wolff
+ * @since 3.1
+ */
+public interface TypedLongGenerator extends TypedGenerator<Long> {
+
+    /**
+     * Generates the next value without boxing.
+     *
+     * @return the next {@code long} value
+     */
+    long nextLong();
+
+    /**
+     * @return the boxed result of {@link #nextLong()}
+     */
+    @Override
+    default Long next() {
+        return nextLong();
+    }
+
+    /**
+     * @return {@link Long}{@code .class}
+     */
+    @Override
+    default Class<Long> getType() {
+        return Long.class;
+    }
+}
@@ -16,8 +16,17 @@
 package de.cuioss.test.generator.domain;
 
 import de.cuioss.test.generator.TypedGenerator;
+import de.cuioss.test.generator.internal.RandomContext;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 
 import static de.cuioss.test.generator.Generators.fixedValues;
+import static de.cuioss.test.generator.internal.GeneratorPreconditions.checkCount;
+import static java.util.Objects.requireNonNull;
 
 /**
  * Provides a collection of placeholder texts (blind texts) for testing purposes.
@@ -36,7 +45,14 @@ import static de.cuioss.test.generator.Generators.fixedValues;
  * <pre>
  * var generator = new BlindTextGenerator();
  * String text = generator.next(); // Returns one of eight predefined texts
+ *
+ * // Stream 1 GiB of paragraphs without building any String
+ * generator.writeTo(outputStream, 1L &lt;&lt; 30);
  * </pre>
+ * <p>
+ * The streaming methods write randomly chosen texts as paragraphs, each terminated by
+ * {@code '\n'}, and stop exactly at the requested count, possibly within a paragraph.
+ * </p>
  * 
  * <p>The texts vary in length and content, making them suitable for different testing scenarios
  * such as layout testing, text field validation, or content display testing.</p>
@@ -62,6 +78,11 @@ public class BlindTextGenerator implements TypedGenerator<String> {
 
     private static final String TEXT8 = "Zwei flinke Boxer jagen die quirlige Eva und ihren Mops durch Sylt. Franz jagt im komplett verwahrlosten Taxi quer durch Bayern. Zwölf Boxkämpfer jagen Viktor quer über den großen Sylter Deich. Vogel Quax zwickt Johnys Pferd Bim. Sylvia wagt quick den Jux bei Pforzheim. Polyfon zwitschernd aßen Mäxchens Vögel Rüben,";
 
+    private static final List<String> TEXTS = List.of(TEXT1, TEXT2, TEXT3, TEXT4, TEXT5, TEXT6, TEXT7, TEXT8);
+
+    private static final List<byte[]> UTF_8_TEXTS = TEXTS.stream()
+            .map(text -> (text + '\n').getBytes(StandardCharsets.UTF_8)).toList();
+
     private final TypedGenerator<String> contents = fixedValues(TEXT1, TEXT2, TEXT3, TEXT4, TEXT5, TEXT6, TEXT7, TEXT8);
 
     @Override
@@ -69,6 +90,71 @@ public class BlindTextGenerator implements TypedGenerator<String> {
         return contents.next();
     }
 
+    /**
+     * Writes {@code charCount} characters of random paragraphs to the given {@link Writer}.
+     *
+     * @param out       the target, must not be null; it is neither flushed nor closed
+     * @param charCount the number of characters to write, including line breaks, must be {@code >= 0}
+     * @throws IOException              if writing fails
+     * @throws IllegalArgumentException if {@code charCount} is negative
+     */
+    public void writeTo(Writer out, long charCount) throws IOException {
+        requireNonNull(out, "out must not be null");
+        checkCount("charCount", charCount);
+        final var random = RandomContext.generator();
+        for (var remaining = charCount; remaining > 0; ) {
+            final var text = TEXTS.get(random.nextInt(TEXTS.size()));
+            final var length = (int) Math.min(text.length(), remaining);
+            out.write(text, 0, length);
+            remaining -= length;
+            if (remaining > 0) {
+                out.write('\n');
+                remaining--;
+            }
+        }
+    }
+
+    /**
+     * Writes {@code byteCount} bytes of random paragraphs, encoded as UTF-8, to the given
+     * {@link OutputStream}. The texts are encoded once. The last paragraph is cut after its
+     * last whole character that fits, the remaining bytes are padded with spaces, so a
+     * multi-byte character is never split.
+     *
+     * @param out       the target, must not be null; it is neither flushed nor closed
+     * @param byteCount the number of bytes to write, including line breaks, must be {@code >= 0}
+     * @throws IOException              if writing fails
+     * @throws IllegalArgumentException if {@code byteCount} is negative
+     */
+    public void writeTo(OutputStream out, long byteCount) throws IOException {
+        requireNonNull(out, "out must not be null");
+        checkCount("byteCount", byteCount);
+        final var random = RandomContext.generator();
+        for (var remaining = byteCount; remaining > 0; ) {
+            final var text = UTF_8_TEXTS.get(random.nextInt(UTF_8_TEXTS.size()));
+            if (text.length <= remaining) {
+                out.write(text);
+                remaining -= text.length;
+                continue;
+            }
+            var length = (int) remaining;
+            while (length > 0 && isContinuationByte(text[length])) {
+                length--;
+            }
+            out.write(text, 0, length);
+            for (var padding = length; padding < remaining; padding++) {
+                out.write(' ');
+            }
+            remaining = 0;
+        }
+    }
+
+    /**
+     * @return {@code true} for the second to fourth byte of a UTF-8 encoded character
+     */
+    private static boolean isContinuationByte(byte b) {
+        return (b & 0xC0) == 0x80;
+    }
+
     @Override
     public Class<String> getType() {
         return String.class;
@@ -59,11 +59,12 @@ public class DistinguishedNamesGenerator implements TypedGenerator<String> {
     private final TypedGenerator<String> prefixes = fixedValues("ou", "o", "dc");
     private final TypedGenerator<String> values = fixedValues("proxies", "ID", "accounts", "groups", "roles",
             "services");
+    private final TypedGenerator<Integer> counts = integers(2, 12);
 
     @Override
     public String next() {
         List<String> elements = new ArrayList<>();
-        int count = integers(2, 12).next();
+        int count = counts.next();
         for (var i = 0; i < count; i++) {
             elements.add(prefixes.next() + "=" + values.next());
         }
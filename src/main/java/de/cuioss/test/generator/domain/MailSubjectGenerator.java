@@ -30,13 +30,13 @@ import static de.cuioss.test.generator.Generators.fixedValues;
  * <p>Subject line components:</p>
  * <ul>
  *   <li>Prefixes (0-3): "Re:", "Fw:", "Answ:", "Yep:"</li>
- *   <li>Content words (0-7): Healthcare-related terms like "Patient", "Document", "Hospital", etc.</li>
+ *   <li>Content words (1-7): Healthcare-related terms like "Patient", "Document", "Hospital", etc.</li>
  * </ul>
  * 
  * <p>The generator creates subject lines by combining:</p>
  * <ol>
  *   <li>Random number (0-3) of prefix elements</li>
- *   <li>Random number (0-7) of content words</li>
+ *   <li>Random number (1-7) of content words, so a subject is never empty</li>
  *   <li>All elements are joined with spaces</li>
  * </ol>
  * 
@@ -62,16 +62,16 @@ public class MailSubjectGenerator implements TypedGenerator<String> {
             "unknown", "Disease", "Hospital", "Doctor", "Healthy", "Not seen", "Referral", "Message", "Injury",
             "See Also", "Payment", "Registration", "Physician");
     private final IntegerGenerator prefixCountGenerator = new IntegerGenerator(0, 3);
-    private final IntegerGenerator contentCountGenerator = new IntegerGenerator(0, 7);
+    private final IntegerGenerator contentCountGenerator = new IntegerGenerator(1, 7);
 
     @Override
     public String next() {
         final List<String> elements = new ArrayList<>();
-        final int prefixCount = prefixCountGenerator.next();
+        final int prefixCount = prefixCountGenerator.nextInt();
         for (var i = 0; i < prefixCount; i++) {
             elements.add(prefixes.next());
         }
-        final int contentCount = contentCountGenerator.next();
+        final int contentCount = contentCountGenerator.nextInt();
         for (var i = 0; i < contentCount; i++) {
             elements.add(contents.next());
         }
@@ -16,10 +16,12 @@
 package de.cuioss.test.generator.domain;
 
 import de.cuioss.test.generator.TypedGenerator;
+import de.cuioss.test.generator.internal.RandomContext;
 
+import java.util.Collection;
 import java.util.UUID;
 
-import static de.cuioss.test.generator.Generators.longs;
+import static de.cuioss.test.generator.internal.GeneratorPreconditions.prepareTarget;
 
 /**
  * Creates random RFC 4122 version-4 (variant 2) {@link UUID} instances, so that
@@ -27,13 +29,33 @@ import static de.cuioss.test.generator.Generators.longs;
  */
 public class UUIDGenerator implements TypedGenerator<UUID> {
 
-    private final TypedGenerator<Long> mostSignificantBits = longs();
-    private final TypedGenerator<Long> leastSignificantBits = longs();
-
+    /**
+     * Draws two random longs directly, yielding the same values as two calls of
+     * {@link de.cuioss.test.generator.Generators#longs()} without boxing them.
+     */
     @Override
     public UUID next() {
-        long most = mostSignificantBits.next();
-        long least = leastSignificantBits.next();
+        final var random = RandomContext.generator();
+        long most = random.nextLong();
+        return toVersion4(most, random.nextLong());
+    }
+
+    /**
+     * Draws the {@code 2n} random longs directly from a single
+     * {@link java.util.random.RandomGenerator} lookup, in the same order as {@link #next()}.
+     */
+    @Override
+    public <C extends Collection<? super UUID>> C nextInto(C target, int n) {
+        prepareTarget(target, n);
+        final var random = RandomContext.generator();
+        for (var i = 0; i < n; i++) {
+            long most = random.nextLong();
+            target.add(toVersion4(most, random.nextLong()));
+        }
+        return target;
+    }
+
+    private static UUID toVersion4(long most, long least) {
         most &= 0xFFFF_FFFF_FFFF_0FFFL;
         most |= 0x0000_0000_0000_4000L; // version 4
         least &= 0x3FFF_FFFF_FFFF_FFFFL;
@@ -0,0 +1,137 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.generator.impl;
+
+import java.util.random.RandomGenerator;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Walker's alias table, built with Vose's method, for drawing indices with a
+ * probability proportional to a weight per index.
+ * <p>
+ * Setup is O(n), drawing an index is O(1) and consumes a single
+ * {@code nextDouble()}. Instances are immutable and therefore thread-safe.
+ * </p>
+ *
+ * @author Oliver Wolff
+ * @since 3.1
+ */
+final class AliasTable {
+
+    /** Probability of keeping the column's own index instead of its alias. */
+    private final double[] probability;
+    private final int[] alias;
+
+    /**
+     * @param weights the weight per index. Must be finite and {@code >= 0}, with a
+     *                finite, positive sum
+     * @throws IllegalArgumentException if weights is empty or a weight is invalid
+     * @throws NullPointerException     if weights is null
+     */
+    AliasTable(double[] weights) {
+        requireNonNull(weights, "weights must not be null");
+        if (weights.length == 0) {
+            throw new IllegalArgumentException("weights must not be empty");
+        }
+        var sum = 0.0;
+        for (var i = 0; i < weights.length; i++) {
+            var weight = weights[i];
+            if (!Double.isFinite(weight) || weight < 0) {
+                throw new IllegalArgumentException("weight must be finite and >= 0, given: " + weight
+                        + " at index " + i);
+            }
+            sum += weight;
+        }
+        if (!(sum > 0) || !Double.isFinite(sum)) {
+            throw new IllegalArgumentException("sum of weights must be finite and > 0, given: " + sum);
+        }
+        this.probability = new double[weights.length];
+        this.alias = new int[weights.length];
+        build(weights, sum);
+    }
+
+    /**
+     * Vose's alias method: partitions the scaled weights into columns below and above
+     * the average and pairs each small column with a large one.
+     */
+    private void build(double[] weights, double sum) {
+        var n = weights.length;
+        var scaled = new double[n];
+        var small = new int[n];
+        var large = new int[n];
+        var smallCount = 0;
+        var largeCount = 0;
+        var heaviest = 0;
+        for (var i = 0; i < n; i++) {
+            scaled[i] = weights[i] / sum * n;
+            if (weights[i] > weights[heaviest]) {
+                heaviest = i;
+            }
+            if (scaled[i] < 1.0) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+        while (smallCount > 0 && largeCount > 0) {
+            var less = small[--smallCount];
+            var more = large[--largeCount];
+            probability[less] = scaled[less];
+            alias[less] = more;
+            scaled[more] = scaled[more] + scaled[less] - 1.0;
+            if (scaled[more] < 1.0) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+        // Whatever remains is at 1.0 up to rounding errors
+        while (largeCount > 0) {
+            var index = large[--largeCount];
+            probability[index] = 1.0;
+            alias[index] = index;
+        }
+        while (smallCount > 0) {
+            var index = small[--smallCount];
+            // A zero weight must never be drawn, even if rounding left its column unpaired
+            probability[index] = weights[index] > 0 ? 1.0 : 0.0;
+            alias[index] = heaviest;
+        }
+    }
+
+    /**
+     * @return the number of indices
+     */
+    int size() {
+        return probability.length;
+    }
+
+    /**
+     * Uses the integral part of a scaled {@code nextDouble()} as column and the
+     * fractional part as coin flip between the column and its alias.
+     *
+     * @param random the source of randomness
+     * @return an index in {@code [0, size())}
+     */
+    int sample(RandomGenerator random) {
+        var n = probability.length;
+        var scaled = random.nextDouble() * n;
+        // Rounding may yield exactly n for very large tables
+        var column = Math.min((int) scaled, n - 1);
+        return scaled - column < probability[column] ? column : alias[column];
+    }
+}
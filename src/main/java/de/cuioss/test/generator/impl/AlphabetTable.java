@@ -0,0 +1,203 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.generator.impl;
+
+import de.cuioss.test.generator.internal.RandomContext;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A precomputed lookup table for drawing characters uniformly from an alphabet, used by
+ * {@link StringGenerator}.
+ * <p>
+ * The table spans the smallest power of two holding the alphabet at least
+ * {@value #MIN_REPETITIONS} times, at most 65536 entries, and repeats every position of the
+ * alphabet as often as it fits. A slice of a random draw as wide as the table index therefore
+ * addresses a character directly, and each 64-bit draw yields several characters, e.g. four
+ * for the 95 characters of Basic Latin. Slices beyond the repeated alphabet, less than 0.4% of
+ * them for alphabets of up to 256 characters, are skipped, which keeps the distribution
+ * exactly uniform. A small alphabet thus needs a small table, e.g. 512 entries for two
+ * characters. Alphabets within Latin-1 are stored as bytes to build compact strings. Tables
+ * are cached per alphabet, up to {@value #MAX_CACHED_TABLES} distinct alphabets.
+ * </p>
+ *
+ * @author Oliver Wolff
+ * @since 3.1
+ */
+final class AlphabetTable {
+
+    /** The largest alphabet a table can be built for. */
+    static final int MAX_ALPHABET_LENGTH = 1 << Short.SIZE;
+
+    static final int MAX_CACHED_TABLES = 64;
+
+    /** Minimum number of times a table holds the alphabet, bounding the skipped slices. */
+    static final int MIN_REPETITIONS = 256;
+
+    private static final int LATIN_1_MAX = 0xFF;
+    private static final int ASCII_MAX = 0x7F;
+
+    private static final Map<String, AlphabetTable> CACHE = new ConcurrentHashMap<>();
+
+    private final byte[] latin1;
+    private final char[] chars;
+    private final int size;
+    private final int sliceBits;
+    private final int sliceMask;
+    private final int slicesPerDraw;
+    private final boolean ascii;
+
+    private AlphabetTable(String alphabet) {
+        final var length = alphabet.length();
+        final var span = Math.min(MAX_ALPHABET_LENGTH, Integer.highestOneBit(length * MIN_REPETITIONS - 1) << 1);
+        this.sliceBits = Integer.numberOfTrailingZeros(span);
+        this.sliceMask = span - 1;
+        this.slicesPerDraw = Long.SIZE / sliceBits;
+        this.size = length * (span / length);
+        this.ascii = alphabet.chars().allMatch(c -> c <= ASCII_MAX);
+        if (alphabet.chars().allMatch(c -> c <= LATIN_1_MAX)) {
+            this.latin1 = new byte[size];
+            this.chars = null;
+            for (var i = 0; i < size; i++) {
+                latin1[i] = (byte) alphabet.charAt(i % length);
+            }
+        } else {
+            this.latin1 = null;
+            this.chars = new char[size];
+            for (var i = 0; i < size; i++) {
+                chars[i] = alphabet.charAt(i % length);
+            }
+        }
+    }
+
+    /**
+     * Returns the table for the given alphabet, taken from the cache if possible.
+     *
+     * @param alphabet must not be empty and not be longer than {@link #MAX_ALPHABET_LENGTH}
+     * @return the table
+     * @throws IllegalArgumentException if the alphabet is empty or too long
+     */
+    static AlphabetTable of(String alphabet) {
+        if (alphabet.isEmpty() || alphabet.length() > MAX_ALPHABET_LENGTH) {
+            throw new IllegalArgumentException("alphabet length must be within [1, " + MAX_ALPHABET_LENGTH
+                    + "], given: " + alphabet.length());
+        }
+        var cached = CACHE.get(alphabet);
+        if (cached != null) {
+            return cached;
+        }
+        var table = new AlphabetTable(alphabet);
+        if (CACHE.size() < MAX_CACHED_TABLES) {
+            var previous = CACHE.putIfAbsent(alphabet, table);
+            return previous == null ? table : previous;
+        }
+        return table;
+    }
+
+    /**
+     * @return the number of entries of the table
+     */
+    int tableSize() {
+        return latin1 != null ? latin1.length : chars.length;
+    }
+
+    /**
+     * @return {@code true} if all characters are within ASCII, so that the bytes filled by
+     * {@link #fill(byte[])} are valid UTF-8 as well
+     */
+    boolean isAscii() {
+        return ascii;
+    }
+
+    /**
+     * @return {@code true} if all characters are within Latin-1, see {@link #fill(byte[])}
+     */
+    boolean isLatin1() {
+        return latin1 != null;
+    }
+
+    /**
+     * Fills the target with random characters of a Latin-1 alphabet, as ISO-8859-1 bytes.
+     *
+     * @param target the array to fill
+     * @throws IllegalStateException if the alphabet is not within Latin-1
+     */
+    void fill(byte[] target) {
+        fill(target, 0, target.length);
+    }
+
+    /**
+     * Fills the range {@code [from, to)} with random characters of a Latin-1 alphabet, as
+     * ISO-8859-1 bytes.
+     *
+     * @param target the array to fill
+     * @param from   the first index to fill (inclusive)
+     * @param to     the last index to fill (exclusive)
+     * @throws IllegalStateException if the alphabet is not within Latin-1
+     */
+    void fill(byte[] target, int from, int to) {
+        if (latin1 == null) {
+            throw new IllegalStateException("Alphabet is not within Latin-1");
+        }
+        final var random = RandomContext.generator();
+        var index = from;
+        while (index < to) {
+            var word = random.nextLong();
+            for (var slice = 0; slice < slicesPerDraw && index < to; slice++, word >>>= sliceBits) {
+                final var position = (int) word & sliceMask;
+                if (position < size) {
+                    target[index++] = latin1[position];
+                }
+            }
+        }
+    }
+
+    /**
+     * Fills the target with random characters of an alphabet beyond Latin-1.
+     *
+     * @param target the array to fill
+     * @throws IllegalStateException if the alphabet is within Latin-1
+     */
+    void fill(char[] target) {
+        fill(target, 0, target.length);
+    }
+
+    /**
+     * Fills the range {@code [from, to)} with random characters of an alphabet beyond Latin-1.
+     *
+     * @param target the array to fill
+     * @param from   the first index to fill (inclusive)
+     * @param to     the last index to fill (exclusive)
+     * @throws IllegalStateException if the alphabet is within Latin-1
+     */
+    void fill(char[] target, int from, int to) {
+        if (chars == null) {
+            throw new IllegalStateException("Alphabet is within Latin-1, use fill(byte[])");
+        }
+        final var random = RandomContext.generator();
+        var index = from;
+        while (index < to) {
+            var word = random.nextLong();
+            for (var slice = 0; slice < slicesPerDraw && index < to; slice++, word >>>= sliceBits) {
+                final var position = (int) word & sliceMask;
+                if (position < size) {
+                    target[index++] = chars[position];
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.generator.impl;
+
+import de.cuioss.test.generator.internal.RandomContext;
+
+import java.util.Arrays;
+
+/**
+ * A Bloom filter over {@code long} fingerprints, sized for an expected number of insertions
+ * and a target false-positive rate. At a rate of 1% it needs about 1.2 bytes per element.
+ * Used by {@link UniqueValuesGenerator}; a false positive only makes the generator discard a
+ * fresh value, it never lets a duplicate pass. All operations are synchronized.
+ *
+ * @author Oliver Wolff
+ * @since 3.1
+ */
+final class BloomFilter {
+
+    private final long[] bits;
+    private final long bitCount;
+    private final int hashCount;
+    private long size;
+
+    /**
+     * @param expectedInsertions the number of elements the filter is sized for, must be positive
+     * @param falsePositiveRate  the false-positive rate at {@code expectedInsertions}, must be
+     *                           within {@code (0, 1)}
+     * @throws IllegalArgumentException if an argument is out of range
+     */
+    BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("expectedInsertions must be > 0, given: " + expectedInsertions);
+        }
+        if (!(falsePositiveRate > 0.0 && falsePositiveRate < 1.0)) {
+            throw new IllegalArgumentException("falsePositiveRate must be within (0, 1), given: " + falsePositiveRate);
+        }
+        final var ln2 = Math.log(2);
+        final var optimalBits = Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (ln2 * ln2));
+        final var words = (int) Math.min(Integer.MAX_VALUE - 8, Math.ceil(Math.max(optimalBits, Long.SIZE) / Long.SIZE));
+        this.bits = new long[words];
+        this.bitCount = (long) words * Long.SIZE;
+        this.hashCount = (int) Math.max(1, Math.round((double) bitCount / expectedInsertions * ln2));
+    }
+
+    /**
+     * Adds the fingerprint, using double hashing to derive the bit positions.
+     *
+     * @param fingerprint the value to add
+     * @return {@code true} if the fingerprint was definitely not contained yet, {@code false}
+     * if it was (probably) contained
+     */
+    synchronized boolean add(long fingerprint) {
+        final var hash1 = RandomContext.mix(fingerprint);
+        final var hash2 = RandomContext.mix(hash1) | 1L;
+        var changed = false;
+        for (var i = 0; i < hashCount; i++) {
+            final var bit = Long.remainderUnsigned(hash1 + i * hash2, bitCount);
+            final var word = (int) (bit >>> 6);
+            final var mask = 1L << bit;
+            if ((bits[word] & mask) == 0) {
+                bits[word] |= mask;
+                changed = true;
+            }
+        }
+        if (changed) {
+            size++;
+        }
+        return changed;
+    }
+
+    /**
+     * @param fingerprint the value to look up
+     * @return {@code false} if the fingerprint was definitely not added, {@code true} if it
+     * probably was
+     */
+    synchronized boolean mightContain(long fingerprint) {
+        final var hash1 = RandomContext.mix(fingerprint);
+        final var hash2 = RandomContext.mix(hash1) | 1L;
+        for (var i = 0; i < hashCount; i++) {
+            final var bit = Long.remainderUnsigned(hash1 + i * hash2, bitCount);
+            if ((bits[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    synchronized long size() {
+        return size;
+    }
+
+    synchronized void clear() {
+        Arrays.fill(bits, 0L);
+        size = 0;
+    }
+
+    int hashCount() {
+        return hashCount;
+    }
+
+    long bitCount() {
+        return bitCount;
+    }
+}
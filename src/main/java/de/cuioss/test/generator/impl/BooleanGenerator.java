@@ -15,20 +15,32 @@
  */
 package de.cuioss.test.generator.impl;
 
-import de.cuioss.test.generator.TypedGenerator;
+import de.cuioss.test.generator.FiniteDomainGenerator;
 import de.cuioss.test.generator.internal.RandomContext;
 
+import java.util.Objects;
+
 /**
  * Generates random {@link Boolean} values.
  *
  * @author Oliver Wolff
  * @since 1.0
  */
-public class BooleanGenerator implements TypedGenerator<Boolean> {
+public class BooleanGenerator implements FiniteDomainGenerator<Boolean> {
 
     @Override
     public Boolean next() {
-        return RandomContext.random().nextBoolean();
+        return RandomContext.generator().nextBoolean();
+    }
+
+    @Override
+    public long domainSize() {
+        return 2;
+    }
+
+    @Override
+    public Boolean valueAt(long index) {
+        return Objects.checkIndex(index, 2L) == 1;
     }
 
     @Override
@@ -29,7 +29,16 @@ public class ByteGenerator implements TypedGenerator<Byte> {
 
     @Override
     public Byte next() {
-        return DELEGATE.next().byteValue();
+        return nextByte();
+    }
+
+    /**
+     * Generates the next value without boxing.
+     *
+     * @return the next {@code byte} value
+     */
+    public byte nextByte() {
+        return (byte) DELEGATE.nextInt();
     }
 
     @Override
@@ -15,7 +15,7 @@
  */
 package de.cuioss.test.generator.impl;
 
-import de.cuioss.test.generator.TypedGenerator;
+import de.cuioss.test.generator.FiniteDomainGenerator;
 
 /**
  * Generates random {@link Character} values within a configurable range.
@@ -26,7 +26,7 @@ import de.cuioss.test.generator.TypedGenerator;
  * @author Oliver Wolff
  * @since 1.0
  */
-public class CharacterGenerator implements TypedGenerator<Character> {
+public class CharacterGenerator implements FiniteDomainGenerator<Character> {
 
     private static final char BASIC_LATIN_LO = '\u0020';
     private static final char BASIC_LATIN_HI = '\u007E';
@@ -52,7 +52,26 @@ public class CharacterGenerator implements TypedGenerator<Character> {
 
     @Override
     public Character next() {
-        return (char) delegate.next().intValue();
+        return nextChar();
+    }
+
+    /**
+     * Generates the next character without boxing.
+     *
+     * @return the next {@code char} value
+     */
+    public char nextChar() {
+        return (char) delegate.nextInt();
+    }
+
+    @Override
+    public long domainSize() {
+        return delegate.domainSize();
+    }
+
+    @Override
+    public Character valueAt(long index) {
+        return (char) delegate.valueAt(index).intValue();
     }
 
     @Override
@@ -15,19 +15,25 @@
  */
 package de.cuioss.test.generator.impl;
 
+import de.cuioss.test.generator.FiniteDomainGenerator;
 import de.cuioss.test.generator.Generators;
 import de.cuioss.test.generator.TypedGenerator;
+import de.cuioss.test.generator.internal.RandomContext;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import static de.cuioss.test.generator.internal.GeneratorPreconditions.checkCount;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -39,6 +45,9 @@ import static java.util.Objects.requireNonNull;
  * <ul>
  *   <li>Generates Lists with configurable size</li>
  *   <li>Creates Sets (both regular and sorted)</li>
+ *   <li>Creates Sets with an exact number of distinct elements, see {@link #distinctSet(int)}</li>
+ *   <li>Creates Maps, using the wrapped generator for the keys</li>
+ *   <li>Presizes the created collections, optionally returning unmodifiable views</li>
  *   <li>Supports any collection type that can be built from Lists or Sets</li>
  *   <li>Thread-safe if the wrapped generator is thread-safe</li>
  * </ul>
@@ -55,6 +64,8 @@ import static java.util.Objects.requireNonNull;
  * // Generate collections
  * List<Integer> list = collectionGen.list(5);      // List of 5 integers
  * Set<Integer> set = collectionGen.set(3);         // Set of 3 integers
+ * List<Integer> fixture = collectionGen.unmodifiableList(1_000_000);
+ * Map<Integer, String> map = collectionGen.map(Generators.strings(), 4);
  * Integer value = collectionGen.next();            // A single element (see list()/set() for collections)
  * }
  * </pre>
@@ -74,6 +85,12 @@ public class CollectionGenerator<T> implements TypedGenerator<T> {
 
     private static final String JAVA_UTIL_LIST = "java.util.List";
 
+    /**
+     * Number of draws per requested element that {@link #distinctSet(int)} spends before
+     * giving up on a generator without a known domain.
+     */
+    static final int DISTINCT_ATTEMPTS_PER_ELEMENT = 10;
+
     private final TypedGenerator<T> wrapped;
 
     private final TypedGenerator<Integer> sizeGenerator;
@@ -121,15 +138,14 @@ public class CollectionGenerator<T> implements TypedGenerator<T> {
     /**
      * Returns a {@link List} of the elements provided by the generator
      *
-     * @param count the number of elements within the list
+     * @param count the number of elements within the list, an empty list for
+     *              {@code count <= 0}
      * @return a list with a given number of elements.
+     * @see TypedGenerator#nextInto(Collection, int)
      */
     public List<T> list(final int count) {
-        final List<T> result = new ArrayList<>();
-        for (var i = 0; i < count; i++) {
-            result.add(next());
-        }
-        return result;
+        final var size = Math.max(count, 0);
+        return wrapped.nextInto(new ArrayList<>(size), size);
     }
 
     /**
@@ -138,15 +154,13 @@ public class CollectionGenerator<T> implements TypedGenerator<T> {
      * @param count the number of elements within the {@link Set}. It defines an
      *              upper bound of elements, but depending on the elements / the
      *              entropy of the generator there may be a lower number of
-     *              elements.
+     *              elements. An empty set for {@code count <= 0}.
      * @return a {@link Set} with a given number of elements as maximum.
+     * @see TypedGenerator#nextInto(Collection, int)
      */
     public Set<T> set(final int count) {
-        final Set<T> result = new HashSet<>();
-        for (var i = 0; i < count; i++) {
-            result.add(next());
-        }
-        return result;
+        final var size = Math.max(count, 0);
+        return wrapped.nextInto(HashSet.newHashSet(size), size);
     }
 
     /**
@@ -155,11 +169,145 @@ public class CollectionGenerator<T> implements TypedGenerator<T> {
      * @param count the number of elements within the {@link Set}. It defines an
      *              upper bound of elements, but depending on the elements / the
      *              entropy of the generator there may be a lower number of
-     *              elements.
+     *              elements. An empty set for {@code count <= 0}.
      * @return a {@link Set} with a given number of elements as maximum.
      */
     public SortedSet<T> sortedSet(final int count) {
-        return new TreeSet<>(set(count));
+        return wrapped.nextInto(new TreeSet<>(), Math.max(count, 0));
+    }
+
+    /**
+     * Returns a {@link Set} of exactly {@code count} distinct elements provided by the
+     * generator. Unlike {@link #set(int)} it does not silently return fewer elements.
+     * <p>
+     * If the wrapped generator (or the generator decorated by a {@link DecoratorGenerator})
+     * is a {@link FiniteDomainGenerator}, e.g. for fixed values, enums, booleans or bounded
+     * integers, the elements are sampled without replacement in {@code O(count)} using
+     * Floyd's algorithm. Otherwise, and for domains too large to be indexed by a {@code long},
+     * e.g. {@link Generators#longs()}, values are drawn until {@code count} distinct ones are
+     * found, giving up after {@value #DISTINCT_ATTEMPTS_PER_ELEMENT} draws per element.
+     * </p>
+     *
+     * @param count the exact number of elements within the {@link Set}
+     * @return a {@link Set} with exactly {@code count} elements
+     * @throws IllegalArgumentException if {@code count} is negative or exceeds the known
+     *                                  domain size of the generator
+     * @throws IllegalStateException    if the generator without a known domain does not
+     *                                  provide {@code count} distinct values in time
+     */
+    public Set<T> distinctSet(final int count) {
+        checkCount("count", count);
+        final Set<T> result = HashSet.newHashSet(count);
+        if (unwrap(wrapped) instanceof FiniteDomainGenerator<T> finite
+                && finite.domainSize() < Long.MAX_VALUE) {
+            final var domainSize = finite.domainSize();
+            if (count > domainSize) {
+                throw new IllegalArgumentException("Unable to provide " + count
+                        + " distinct values, the domain of the generator holds only " + domainSize);
+            }
+            for (long index : sampleIndices(domainSize, count)) {
+                result.add(finite.valueAt(index));
+            }
+            return result;
+        }
+        final var maxAttempts = (long) count * DISTINCT_ATTEMPTS_PER_ELEMENT;
+        for (long attempt = 0; result.size() < count; attempt++) {
+            if (attempt >= maxAttempts) {
+                throw new IllegalStateException("Unable to provide " + count + " distinct values after "
+                        + maxAttempts + " attempts, only " + result.size()
+                        + " found. The generator probably provides too few distinct values.");
+            }
+            result.add(wrapped.next());
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked") // the decorated generator provides the same type
+    private static <T> TypedGenerator<T> unwrap(final TypedGenerator<T> generator) {
+        var current = generator;
+        while (current instanceof DecoratorGenerator<?> decorator) {
+            current = (TypedGenerator<T>) decorator.getDecorator();
+        }
+        return current;
+    }
+
+    /**
+     * Floyd's algorithm: draws {@code count} distinct indices from {@code [0, domainSize)}
+     * with exactly {@code count} random draws.
+     */
+    private static Set<Long> sampleIndices(final long domainSize, final int count) {
+        final Set<Long> indices = HashSet.newHashSet(count);
+        final var random = RandomContext.generator();
+        for (long j = domainSize - count; j < domainSize; j++) {
+            final var candidate = random.nextLong(j + 1);
+            if (!indices.add(candidate)) {
+                indices.add(j);
+            }
+        }
+        return indices;
+    }
+
+    /**
+     * Returns an unmodifiable {@link List} of the elements provided by the generator. The
+     * elements are written once into a presized backing list that is wrapped, not copied.
+     *
+     * @param count the number of elements within the list, see {@link #list(int)}
+     * @return an unmodifiable list with a given number of elements.
+     */
+    public List<T> unmodifiableList(final int count) {
+        return Collections.unmodifiableList(list(count));
+    }
+
+    /**
+     * Returns an unmodifiable {@link Set} of the elements provided by the generator, see
+     * {@link #set(int)}.
+     *
+     * @param count the number of elements within the {@link Set} as maximum
+     * @return an unmodifiable {@link Set} with a given number of elements as maximum.
+     */
+    public Set<T> unmodifiableSet(final int count) {
+        return Collections.unmodifiableSet(set(count));
+    }
+
+    /**
+     * Returns an unmodifiable {@link SortedSet} of the elements provided by the generator,
+     * see {@link #sortedSet(int)}.
+     *
+     * @param count the number of elements within the {@link Set} as maximum
+     * @return an unmodifiable {@link SortedSet} with a given number of elements as maximum.
+     */
+    public SortedSet<T> unmodifiableSortedSet(final int count) {
+        return Collections.unmodifiableSortedSet(sortedSet(count));
+    }
+
+    /**
+     * Returns a {@link Map} with keys provided by the wrapped generator and values provided
+     * by the given one. The map is presized for {@code count} entries.
+     *
+     * @param valueGenerator the generator for the values, must not be null
+     * @param count          the number of entries within the {@link Map}. It defines an
+     *                       upper bound, as keys generated twice replace the earlier entry.
+     * @param <V>            the type of the values
+     * @return a {@link Map} with a given number of entries as maximum.
+     * @throws IllegalArgumentException if {@code count} is negative
+     */
+    public <V> Map<T, V> map(final TypedGenerator<V> valueGenerator, final int count) {
+        requireNonNull(valueGenerator, "valueGenerator must not be null");
+        checkCount("count", count);
+        final Map<T, V> result = HashMap.newHashMap(count);
+        for (var i = 0; i < count; i++) {
+            result.put(wrapped.next(), valueGenerator.next());
+        }
+        return result;
+    }
+
+    /**
+     * @param valueGenerator the generator for the values, must not be null
+     * @param <V>            the type of the values
+     * @return a {@link Map} with a random number of entries as maximum.
+     */
+    public <V> Map<T, V> map(final TypedGenerator<V> valueGenerator) {
+        return map(valueGenerator, sizeGenerator.next());
     }
 
     /**
@@ -31,7 +31,7 @@ public class DateGenerator implements TypedGenerator<Date> {
 
     @Override
     public Date next() {
-        return new Date(LONG_GENERATOR.next());
+        return new Date(LONG_GENERATOR.nextLong());
     }
 
     @Override
@@ -15,7 +15,7 @@
  */
 package de.cuioss.test.generator.impl;
 
-import de.cuioss.test.generator.TypedGenerator;
+import de.cuioss.test.generator.TypedDoubleGenerator;
 import de.cuioss.test.generator.internal.RandomContext;
 import lombok.Getter;
 
@@ -24,14 +24,15 @@ import lombok.Getter;
  * <p>
  * The default range spans the full finite double range,
  * {@code -Double.MAX_VALUE} to {@link Double#MAX_VALUE}, so negative values and zero are
- * produced. Use the two-argument constructor for a narrower range.
+ * produced. Use the two-argument constructor for a narrower range, and {@link #nextDouble()}
+ * to draw unboxed values.
  * </p>
  *
  * @author Oliver Wolff
  * @since 1.0
  */
 @Getter
-public class DoubleGenerator implements TypedGenerator<Double> {
+public class DoubleGenerator implements TypedDoubleGenerator {
 
     private final double min;
     private final double max;
@@ -62,24 +63,19 @@ public class DoubleGenerator implements TypedGenerator<Double> {
     }
 
     @Override
-    public Double next() {
+    public double nextDouble() {
         if (min >= max) {
             return min;
         }
         double bound = Math.nextUp(max);
         if (!Double.isInfinite(bound)) {
-            return RandomContext.random().nextDouble(min, bound);
+            return RandomContext.generator().nextDouble(min, bound);
         }
         // max == Double.MAX_VALUE, so nextDouble(min, bound) would reject the infinite bound.
         // Apply the JDK's overflow-safe halving (see Random.nextDouble(origin, bound)) so the
         // full [min, max] span never yields Infinity or NaN, mapping the top back to max.
-        double r = RandomContext.random().nextDouble();
+        double r = RandomContext.generator().nextDouble();
         r = 2.0 * (r * (0.5 * max - 0.5 * min) + 0.5 * min);
         return r >= max ? max : r;
     }
-
-    @Override
-    public Class<Double> getType() {
-        return Double.class;
-    }
 }
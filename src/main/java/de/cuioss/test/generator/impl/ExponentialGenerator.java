@@ -0,0 +1,60 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.generator.impl;
+
+import de.cuioss.test.generator.TypedDoubleGenerator;
+import de.cuioss.test.generator.internal.RandomContext;
+import lombok.Getter;
+
+/**
+ * Generates exponentially distributed, non-negative {@code double} values with a
+ * configurable mean, e.g. for inter-arrival times or latency-like values.
+ * <p>
+ * Values are drawn via {@link java.util.random.RandomGenerator#nextExponential()},
+ * which the JDK implements with McFarland's modified ziggurat method for all algorithms,
+ * including {@link java.util.Random}. Sampling is therefore O(1) on average, and seeds
+ * replay as usual.
+ * </p>
+ * <p><em>Example usage:</em></p>
+ * <pre>
+ * var interArrival = new ExponentialGenerator(250.0);
+ * double millis = interArrival.nextDouble();
+ * </pre>
+ *
+ * @author Oliver Wolff
+ * @since 3.1
+ */
+public class ExponentialGenerator implements TypedDoubleGenerator {
+
+    @Getter
+    private final double mean;
+
+    /**
+     * @param mean the mean, i.e. the inverse of the rate, must be finite and {@code > 0}
+     * @throws IllegalArgumentException if mean is out of range
+     */
+    public ExponentialGenerator(double mean) {
+        if (!Double.isFinite(mean) || !(mean > 0)) {
+            throw new IllegalArgumentException("mean must be finite and > 0, given: " + mean);
+        }
+        this.mean = mean;
+    }
+
+    @Override
+    public double nextDouble() {
+        return mean * RandomContext.generator().nextExponential();
+    }
+}
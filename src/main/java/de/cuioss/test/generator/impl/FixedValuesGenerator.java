@@ -15,12 +15,17 @@
  */
 package de.cuioss.test.generator.impl;
 
-import de.cuioss.test.generator.TypedGenerator;
+import de.cuioss.test.generator.FiniteDomainGenerator;
 import de.cuioss.test.generator.internal.RandomContext;
 import lombok.Getter;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Objects;
+
+import static de.cuioss.test.generator.internal.GeneratorPreconditions.prepareTarget;
 
 /**
  * Generates values by randomly selecting from a fixed list of values.
@@ -29,12 +34,15 @@ import java.util.List;
  * @author Oliver Wolff
  * @since 1.0
  */
-public class FixedValuesGenerator<T> implements TypedGenerator<T> {
+public class FixedValuesGenerator<T> implements FiniteDomainGenerator<T> {
 
     @Getter
     private final Class<T> type;
     private final List<T> values;
 
+    /** The values without duplicates, in their original order; defines the domain. */
+    private final List<T> distinctValues;
+
     /**
      * Creates a generator that randomly selects from the given values.
      *
@@ -48,10 +56,40 @@ public class FixedValuesGenerator<T> implements TypedGenerator<T> {
         }
         this.type = type;
         this.values = new ArrayList<>(values);
+        var distinct = new LinkedHashSet<>(values);
+        this.distinctValues = distinct.size() == values.size() ? this.values : new ArrayList<>(distinct);
     }
 
     @Override
     public T next() {
-        return values.get(RandomContext.random().nextInt(values.size()));
+        return values.get(RandomContext.generator().nextInt(values.size()));
+    }
+
+    /**
+     * Draws all indices from a single {@link java.util.random.RandomGenerator} lookup and
+     * presizes {@link ArrayList} targets.
+     */
+    @Override
+    public <C extends Collection<? super T>> C nextInto(C target, int n) {
+        prepareTarget(target, n);
+        final var random = RandomContext.generator();
+        final var size = values.size();
+        for (var i = 0; i < n; i++) {
+            target.add(values.get(random.nextInt(size)));
+        }
+        return target;
+    }
+
+    /**
+     * @return the number of distinct values, ignoring duplicates in the given list
+     */
+    @Override
+    public long domainSize() {
+        return distinctValues.size();
+    }
+
+    @Override
+    public T valueAt(long index) {
+        return distinctValues.get((int) Objects.checkIndex(index, domainSize()));
     }
 }
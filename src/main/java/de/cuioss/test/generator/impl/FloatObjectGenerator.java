@@ -66,7 +66,16 @@ public class FloatObjectGenerator implements TypedGenerator<Float> {
 
     @Override
     public Float next() {
-        return delegate.next().floatValue();
+        return nextFloat();
+    }
+
+    /**
+     * Generates the next value without boxing.
+     *
+     * @return the next {@code float} value
+     */
+    public float nextFloat() {
+        return (float) delegate.nextDouble();
     }
 
     @Override
@@ -0,0 +1,165 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.generator.impl;
+
+import de.cuioss.test.generator.TypedDoubleGenerator;
+import de.cuioss.test.generator.internal.RandomContext;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Generates {@code double} values following an empirical histogram, e.g. response
+ * sizes or latencies recorded in production.
+ * <p>
+ * Each bin spans {@code [lower, upper]} and is selected with a probability proportional
+ * to its weight, using an alias table: setup is O(n) in the number of bins, and every
+ * value is drawn in O(1) with two {@code nextDouble()} calls, the second one placing the
+ * value uniformly within the selected bin. Bins may have gaps in between and need not be
+ * sorted.
+ * </p>
+ * <p>
+ * Histograms can be loaded from a UTF-8 text file with one bin per line in the form
+ * {@code lower,upper,weight}. Commas, semicolons and whitespace are accepted as
+ * separators, blank lines and lines starting with {@code #} are ignored.
+ * </p>
+ * <p><em>Example usage:</em></p>
+ * <pre>
+ * # response sizes in bytes
+ * 0,      1024,   70
+ * 1024,   65536,  25
+ * 65536,  1048576, 5
+ *
+ * var sizes = HistogramGenerator.fromFile(Path.of("src/test/resources/sizes.hist"));
+ * double size = sizes.nextDouble();
+ * </pre>
+ *
+ * @author Oliver Wolff
+ * @since 3.1
+ */
+public class HistogramGenerator implements TypedDoubleGenerator {
+
+    private static final Pattern SEPARATOR = Pattern.compile("[,;\\s]+");
+
+    private final double[] lowerBounds;
+    private final double[] widths;
+    private final AliasTable table;
+
+    /**
+     * @param lowerBounds the inclusive lower bound of each bin, must be finite
+     * @param upperBounds the upper bound of each bin, must be finite and
+     *                    {@code >= } the lower bound at the same position
+     * @param weights     the weight of each bin, must be finite and {@code >= 0}, with a
+     *                    positive sum
+     * @throws IllegalArgumentException if the arrays are empty, differ in size or contain
+     *                                  invalid values
+     * @throws NullPointerException     if an array is null
+     */
+    public HistogramGenerator(double[] lowerBounds, double[] upperBounds, double[] weights) {
+        requireNonNull(lowerBounds, "lowerBounds must not be null");
+        requireNonNull(upperBounds, "upperBounds must not be null");
+        requireNonNull(weights, "weights must not be null");
+        if (lowerBounds.length != upperBounds.length || lowerBounds.length != weights.length) {
+            throw new IllegalArgumentException("lowerBounds, upperBounds and weights must have the same size, given: "
+                    + lowerBounds.length + ", " + upperBounds.length + ", " + weights.length);
+        }
+        this.lowerBounds = lowerBounds.clone();
+        this.widths = new double[lowerBounds.length];
+        for (var i = 0; i < lowerBounds.length; i++) {
+            var lower = lowerBounds[i];
+            var upper = upperBounds[i];
+            if (!Double.isFinite(lower) || !Double.isFinite(upper) || upper < lower) {
+                throw new IllegalArgumentException("bin must be finite with lower <= upper, given: ["
+                        + lower + ", " + upper + "] at index " + i);
+            }
+            widths[i] = upper - lower;
+            if (!Double.isFinite(widths[i])) {
+                throw new IllegalArgumentException("bin width must be finite, given: ["
+                        + lower + ", " + upper + "] at index " + i);
+            }
+        }
+        this.table = new AliasTable(weights);
+    }
+
+    /**
+     * Loads a histogram from the given UTF-8 file, see the class documentation for the
+     * format.
+     *
+     * @param file the file to read
+     * @return a generator for the histogram
+     * @throws IOException              if the file cannot be read
+     * @throws IllegalArgumentException if the file contains no bins or an invalid line
+     */
+    public static HistogramGenerator fromFile(Path file) throws IOException {
+        requireNonNull(file, "file must not be null");
+        return fromLines(Files.readAllLines(file, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Parses a histogram from the given lines, see the class documentation for the
+     * format.
+     *
+     * @param lines the lines to parse
+     * @return a generator for the histogram
+     * @throws IllegalArgumentException if there are no bins or a line is invalid
+     */
+    public static HistogramGenerator fromLines(List<String> lines) {
+        requireNonNull(lines, "lines must not be null");
+        var lower = new ArrayList<Double>();
+        var upper = new ArrayList<Double>();
+        var weights = new ArrayList<Double>();
+        for (var lineNumber = 1; lineNumber <= lines.size(); lineNumber++) {
+            var line = lines.get(lineNumber - 1).strip();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            var parts = SEPARATOR.split(line);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Expected 'lower,upper,weight' in line " + lineNumber
+                        + ", given: " + line);
+            }
+            try {
+                lower.add(Double.parseDouble(parts[0]));
+                upper.add(Double.parseDouble(parts[1]));
+                weights.add(Double.parseDouble(parts[2]));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid number in line " + lineNumber + ", given: " + line, e);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("histogram must contain at least one bin");
+        }
+        return new HistogramGenerator(toArray(lower), toArray(upper), toArray(weights));
+    }
+
+    @Override
+    public double nextDouble() {
+        var random = RandomContext.generator();
+        var bin = table.sample(random);
+        return lowerBounds[bin] + random.nextDouble() * widths[bin];
+    }
+
+    private static double[] toArray(List<Double> values) {
+        return values.stream().mapToDouble(Double::doubleValue).toArray();
+    }
+}
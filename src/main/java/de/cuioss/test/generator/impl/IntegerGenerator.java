@@ -15,18 +15,22 @@
  */
 package de.cuioss.test.generator.impl;
 
-import de.cuioss.test.generator.TypedGenerator;
+import de.cuioss.test.generator.FiniteDomainGenerator;
+import de.cuioss.test.generator.TypedIntGenerator;
 import de.cuioss.test.generator.internal.RandomContext;
 import lombok.Getter;
 
+import java.util.Objects;
+
 /**
- * Generates random {@link Integer} values within a configurable range.
+ * Generates random {@link Integer} values within a configurable range. Use {@link #nextInt()}
+ * to draw unboxed values.
  *
  * @author Oliver Wolff
  * @since 1.0
  */
 @Getter
-public class IntegerGenerator implements TypedGenerator<Integer> {
+public class IntegerGenerator implements TypedIntGenerator, FiniteDomainGenerator<Integer> {
 
     private final int min;
     private final int max;
@@ -53,13 +57,18 @@ public class IntegerGenerator implements TypedGenerator<Integer> {
     }
 
     @Override
-    public Integer next() {
+    public int nextInt() {
         long range = (long) max - (long) min + 1;
-        return (int) (min + RandomContext.random().nextLong(range));
+        return (int) (min + RandomContext.generator().nextLong(range));
+    }
+
+    @Override
+    public long domainSize() {
+        return (long) max - (long) min + 1;
     }
 
     @Override
-    public Class<Integer> getType() {
-        return Integer.class;
+    public Integer valueAt(long index) {
+        return (int) (min + Objects.checkIndex(index, domainSize()));
     }
 }
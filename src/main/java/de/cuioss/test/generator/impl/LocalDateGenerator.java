@@ -65,7 +65,7 @@ public class LocalDateGenerator implements TypedGenerator<LocalDate> {
 
     @Override
     public LocalDate next() {
-        return LocalDate.ofEpochDay(DAY_GENERATOR.next());
+        return LocalDate.ofEpochDay(DAY_GENERATOR.nextLong());
     }
 
     @Override
@@ -15,7 +15,6 @@
  */
 package de.cuioss.test.generator.impl;
 
-import de.cuioss.test.generator.Generators;
 import de.cuioss.test.generator.TypedGenerator;
 
 import java.time.LocalDateTime;
@@ -27,8 +26,8 @@ import java.time.LocalDateTime;
  *
  * <p>Generation details:</p>
  * <ul>
- *   <li>Uses {@link Generators#localDates()} for the date component</li>
- *   <li>Uses {@link Generators#localTimes()} for the time component</li>
+ *   <li>Uses a shared {@link LocalDateGenerator} for the date component</li>
+ *   <li>Uses a shared {@link LocalTimeGenerator} for the time component</li>
  *   <li>Generates valid combinations across the full range of possible values</li>
  *   <li>Thread-safe implementation</li>
  * </ul>
@@ -47,9 +46,12 @@ import java.time.LocalDateTime;
  */
 public class LocalDateTimeGenerator implements TypedGenerator<LocalDateTime> {
 
+    private static final LocalDateGenerator DATES = new LocalDateGenerator();
+    private static final LocalTimeGenerator TIMES = new LocalTimeGenerator();
+
     @Override
     public LocalDateTime next() {
-        return LocalDateTime.of(Generators.localDates().next(), Generators.localTimes().next());
+        return LocalDateTime.of(DATES.next(), TIMES.next());
     }
 
     @Override
@@ -15,7 +15,6 @@
  */
 package de.cuioss.test.generator.impl;
 
-import de.cuioss.test.generator.Generators;
 import de.cuioss.test.generator.TypedGenerator;
 
 import java.time.LocalTime;
@@ -58,16 +57,18 @@ import java.time.LocalTime;
  *
  * @author Eugen Fischer
  * @see LocalTime
- * @see Generators#integers(int, int)
+ * @see IntegerGenerator
  * @since 1.0
  */
 public class LocalTimeGenerator implements TypedGenerator<LocalTime> {
 
-    private static final Integer SECONDS_PER_DAY = 24 * 60 * 60;
+    private static final int SECONDS_PER_DAY = 24 * 60 * 60;
+
+    private static final IntegerGenerator SECOND_OF_DAY = new IntegerGenerator(0, SECONDS_PER_DAY - 1);
 
     @Override
     public LocalTime next() {
-        return LocalTime.ofSecondOfDay(Generators.integers(0, SECONDS_PER_DAY - 1).next().longValue());
+        return LocalTime.ofSecondOfDay(SECOND_OF_DAY.nextInt());
     }
 
     @Override
@@ -15,19 +15,23 @@
  */
 package de.cuioss.test.generator.impl;
 
-import de.cuioss.test.generator.TypedGenerator;
+import de.cuioss.test.generator.FiniteDomainGenerator;
+import de.cuioss.test.generator.TypedLongGenerator;
 import de.cuioss.test.generator.internal.RandomContext;
 import lombok.AccessLevel;
 import lombok.Getter;
 
+import java.util.Objects;
+
 /**
- * Generates random {@link Long} values within a configurable range.
+ * Generates random {@link Long} values within a configurable range. Use {@link #nextLong()}
+ * to draw unboxed values.
  *
  * @author Oliver Wolff
  * @since 1.0
  */
 @Getter
-public class LongGenerator implements TypedGenerator<Long> {
+public class LongGenerator implements TypedLongGenerator, FiniteDomainGenerator<Long> {
 
     private final long min;
     private final long max;
@@ -58,18 +62,33 @@ public class LongGenerator implements TypedGenerator<Long> {
     }
 
     @Override
-    public Long next() {
+    public long nextLong() {
         return range < 0 ? wideRangeImpl() : longImpl();
     }
 
+    /**
+     * @return the size of {@code [min, max]}, capped at {@link Long#MAX_VALUE}. For capped
+     * ranges {@link #valueAt(long)} only covers {@code [min, min + Long.MAX_VALUE)}, see
+     * {@link FiniteDomainGenerator#domainSize()}.
+     */
+    @Override
+    public long domainSize() {
+        return range < 0 || range == Long.MAX_VALUE ? Long.MAX_VALUE : range + 1;
+    }
+
+    @Override
+    public Long valueAt(long index) {
+        return min + Objects.checkIndex(index, domainSize());
+    }
+
     private long longImpl() {
         if (range == 0) {
             return min;
         }
         if (range == Long.MAX_VALUE) {
-            return min + (RandomContext.random().nextLong() & Long.MAX_VALUE);
+            return min + (RandomContext.generator().nextLong() & Long.MAX_VALUE);
         }
-        return min + RandomContext.random().nextLong(range + 1);
+        return min + RandomContext.generator().nextLong(range + 1);
     }
 
     /**
@@ -83,13 +102,8 @@ public class LongGenerator implements TypedGenerator<Long> {
     private long wideRangeImpl() {
         long candidate;
         do {
-            candidate = RandomContext.random().nextLong();
+            candidate = RandomContext.generator().nextLong();
         } while (candidate < min || candidate > max);
         return candidate;
     }
-
-    @Override
-    public Class<Long> getType() {
-        return Long.class;
-    }
 }
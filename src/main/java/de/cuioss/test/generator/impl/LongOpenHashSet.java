@@ -0,0 +1,95 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.generator.impl;
+
+import de.cuioss.test.generator.internal.RandomContext;
+
+/**
+ * A minimal open-addressing hash set of primitive {@code long} values with linear probing,
+ * storing about 11 to 21 bytes per element (8 bytes at a load factor between 0.375 and 0.75)
+ * instead of the ~80 bytes of a boxed {@link java.util.HashSet} entry. The table doubles when
+ * full, so the set is not bounded in size. Used by {@link UniqueValuesGenerator} to track
+ * value fingerprints. All operations are synchronized.
+ *
+ * @author Oliver Wolff
+ * @since 3.1
+ */
+final class LongOpenHashSet {
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final double MAX_LOAD = 0.75;
+
+    /** {@code 0} marks a free slot; the value {@code 0} itself is tracked by {@link #containsZero}. */
+    private long[] slots = new long[INITIAL_CAPACITY];
+    private boolean containsZero;
+    private int size;
+
+    /**
+     * @param value the value to add
+     * @return {@code true} if the value was not yet contained
+     */
+    synchronized boolean add(long value) {
+        if (value == 0) {
+            if (containsZero) {
+                return false;
+            }
+            containsZero = true;
+            size++;
+            return true;
+        }
+        if (!insert(slots, value)) {
+            return false;
+        }
+        size++;
+        if (size > slots.length * MAX_LOAD) {
+            grow();
+        }
+        return true;
+    }
+
+    synchronized int size() {
+        return size;
+    }
+
+    synchronized void clear() {
+        slots = new long[INITIAL_CAPACITY];
+        containsZero = false;
+        size = 0;
+    }
+
+    private static boolean insert(long[] table, long value) {
+        final var mask = table.length - 1;
+        var index = (int) RandomContext.mix(value) & mask;
+        while (table[index] != 0) {
+            if (table[index] == value) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+        table[index] = value;
+        return true;
+    }
+
+    private void grow() {
+        final var larger = new long[slots.length << 1];
+        for (long value : slots) {
+            if (value != 0) {
+                insert(larger, value);
+            }
+        }
+        slots = larger;
+    }
+}
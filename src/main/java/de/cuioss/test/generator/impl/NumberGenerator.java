@@ -17,8 +17,6 @@ package de.cuioss.test.generator.impl;
 
 import de.cuioss.test.generator.TypedGenerator;
 
-import static de.cuioss.test.generator.Generators.integers;
-
 /**
  * Generates {@link Number} instances using integer values.
  * This generator provides a basic implementation that creates
@@ -26,7 +24,7 @@ import static de.cuioss.test.generator.Generators.integers;
  * 
  * <p>Features:</p>
  * <ul>
- *   <li>Uses {@link de.cuioss.test.generator.Generators#integers()} internally</li>
+ *   <li>Uses a shared {@link IntegerGenerator} internally, so no generator is created per value</li>
  *   <li>Generates values across the full integer range</li>
  *   <li>Thread-safe implementation</li>
  *   <li>Suitable for general numeric testing</li>
@@ -61,9 +59,11 @@ import static de.cuioss.test.generator.Generators.integers;
  */
 public class NumberGenerator implements TypedGenerator<Number> {
 
+    private static final IntegerGenerator INTEGERS = new IntegerGenerator();
+
     @Override
     public Number next() {
-        return integers().next();
+        return INTEGERS.nextInt();
     }
 
     @Override
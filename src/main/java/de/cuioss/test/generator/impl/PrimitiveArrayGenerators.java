@@ -16,13 +16,15 @@
 package de.cuioss.test.generator.impl;
 
 import de.cuioss.test.generator.Generators;
-import de.cuioss.test.generator.TypedGenerator;
+import de.cuioss.test.generator.internal.RandomContext;
+
+import java.util.Objects;
 
 import static java.util.Objects.requireNonNull;
 
 /**
  * Provides generators for arrays of all Java primitive types.
- * Each generator creates arrays of random length (1-128 elements) with random values
+ * Each generator creates arrays of random length (1-128 elements by default) with random values
  * appropriate for the primitive type.
  * 
  * <p>Available generators:</p>
@@ -37,12 +39,24 @@ import static java.util.Objects.requireNonNull;
  *   <li>{@link #DOUBLE} - double[] arrays with random double values</li>
  * </ul>
  * 
+ * <p>Besides allocating fresh arrays, the static {@code fill} methods write random values into
+ * caller-supplied arrays, e.g. {@link #fill(int[], int, int)}. They draw directly from
+ * {@link RandomContext#generator()} without boxing or any per-element allocation, which allows
+ * large buffers to be reused across iterations.</p>
+ * 
  * <p><em>Example usage:</em></p>
  * <pre>
  * // Generate arrays of different primitive types
  * boolean[] booleans = (boolean[]) PrimitiveArrayGenerators.BOOLEAN.next();
  * int[] integers = (int[]) PrimitiveArrayGenerators.INTEGER.next();
  * 
+ * // Generate an array with a size between 1000 and 2000
+ * long[] longs = (long[]) PrimitiveArrayGenerators.LONG.next(1000, 2000);
+ * 
+ * // Refill a reusable buffer
+ * byte[] buffer = new byte[64 * 1024];
+ * PrimitiveArrayGenerators.fill(buffer);
+ * 
  * // Get a generator for a specific primitive type
  * var generator = PrimitiveArrayGenerators.resolveForType(int.class);
  * int[] moreIntegers = (int[]) generator.next();
@@ -51,8 +65,9 @@ import static java.util.Objects.requireNonNull;
  * <p>Implementation notes:</p>
  * <ul>
  *   <li>All generators are thread-safe</li>
- *   <li>Array size is randomly chosen between 1 and 128 elements</li>
- *   <li>Values are generated using the corresponding primitive generators from {@link Generators}</li>
+ *   <li>Array size is randomly chosen between 1 and 128 elements, unless specified by {@link #next(int, int)}</li>
+ *   <li>Value ranges match the corresponding default generators, e.g. {@link CharacterGenerator} for {@code char}</li>
+ *   <li>{@code boolean}, {@code byte} and {@code short} values are unpacked from a single 64-bit draw</li>
  * </ul>
  *
  * @author Oliver Wolff
@@ -64,34 +79,32 @@ public enum PrimitiveArrayGenerators {
     /** Provides booleans */
     BOOLEAN {
 
-    @Override
-    public Object next() {
-        final int size = SIZE_GENERATOR.next();
-        final var generator = Generators.booleans();
-        final var array = new boolean[size];
-        for (var index = 0; index < size; index++) {
-            array[index] = generator.next();
+        @Override
+        Object newArray(int size) {
+            return new boolean[size];
         }
-        return array;
-    }
 
-    @Override
-    public Class<?> getType() {
-        return boolean.class;
-    }
-},
+        @Override
+        public void fillArray(Object array, int from, int to) {
+            PrimitiveArrayGenerators.fill((boolean[]) array, from, to);
+        }
+
+        @Override
+        public Class<?> getType() {
+            return boolean.class;
+        }
+    },
     /** Provides bytes */
     BYTE {
 
         @Override
-        public Object next() {
-            final int size = SIZE_GENERATOR.next();
-            final var generator = Generators.bytes();
-            final var array = new byte[size];
-            for (var index = 0; index < size; index++) {
-                array[index] = generator.next();
-            }
-            return array;
+        Object newArray(int size) {
+            return new byte[size];
+        }
+
+        @Override
+        public void fillArray(Object array, int from, int to) {
+            PrimitiveArrayGenerators.fill((byte[]) array, from, to);
         }
 
         @Override
@@ -103,14 +116,13 @@ public enum PrimitiveArrayGenerators {
     CHAR {
 
         @Override
-        public Object next() {
-            final int size = SIZE_GENERATOR.next();
-            final var generator = Generators.characters();
-            final var array = new char[size];
-            for (var index = 0; index < size; index++) {
-                array[index] = generator.next();
-            }
-            return array;
+        Object newArray(int size) {
+            return new char[size];
+        }
+
+        @Override
+        public void fillArray(Object array, int from, int to) {
+            PrimitiveArrayGenerators.fill((char[]) array, from, to);
         }
 
         @Override
@@ -122,14 +134,13 @@ public enum PrimitiveArrayGenerators {
     SHORT {
 
         @Override
-        public Object next() {
-            final int size = SIZE_GENERATOR.next();
-            final TypedGenerator<Short> generator = new ShortObjectGenerator();
-            final var array = new short[size];
-            for (var index = 0; index < size; index++) {
-                array[index] = generator.next();
-            }
-            return array;
+        Object newArray(int size) {
+            return new short[size];
+        }
+
+        @Override
+        public void fillArray(Object array, int from, int to) {
+            PrimitiveArrayGenerators.fill((short[]) array, from, to);
         }
 
         @Override
@@ -141,14 +152,13 @@ public enum PrimitiveArrayGenerators {
     INTEGER {
 
         @Override
-        public Object next() {
-            final int size = SIZE_GENERATOR.next();
-            final var generator = Generators.integers();
-            final var array = new int[size];
-            for (var index = 0; index < size; index++) {
-                array[index] = generator.next();
-            }
-            return array;
+        Object newArray(int size) {
+            return new int[size];
+        }
+
+        @Override
+        public void fillArray(Object array, int from, int to) {
+            PrimitiveArrayGenerators.fill((int[]) array, from, to);
         }
 
         @Override
@@ -160,14 +170,13 @@ public enum PrimitiveArrayGenerators {
     LONG {
 
         @Override
-        public Object next() {
-            final int size = SIZE_GENERATOR.next();
-            final var generator = Generators.longs();
-            final var array = new long[size];
-            for (var index = 0; index < size; index++) {
-                array[index] = generator.next();
-            }
-            return array;
+        Object newArray(int size) {
+            return new long[size];
+        }
+
+        @Override
+        public void fillArray(Object array, int from, int to) {
+            PrimitiveArrayGenerators.fill((long[]) array, from, to);
         }
 
         @Override
@@ -179,14 +188,13 @@ public enum PrimitiveArrayGenerators {
     FLOAT {
 
         @Override
-        public Object next() {
-            final int size = SIZE_GENERATOR.next();
-            final TypedGenerator<Float> generator = new FloatObjectGenerator();
-            final var array = new float[size];
-            for (var index = 0; index < size; index++) {
-                array[index] = generator.next();
-            }
-            return array;
+        Object newArray(int size) {
+            return new float[size];
+        }
+
+        @Override
+        public void fillArray(Object array, int from, int to) {
+            PrimitiveArrayGenerators.fill((float[]) array, from, to);
         }
 
         @Override
@@ -198,14 +206,13 @@ public enum PrimitiveArrayGenerators {
     DOUBLE {
 
         @Override
-        public Object next() {
-            final int size = SIZE_GENERATOR.next();
-            final var generator = Generators.doubles();
-            final var array = new double[size];
-            for (var index = 0; index < size; index++) {
-                array[index] = generator.next();
-            }
-            return array;
+        Object newArray(int size) {
+            return new double[size];
+        }
+
+        @Override
+        public void fillArray(Object array, int from, int to) {
+            PrimitiveArrayGenerators.fill((double[]) array, from, to);
         }
 
         @Override
@@ -214,18 +221,273 @@ public enum PrimitiveArrayGenerators {
         }
     };
 
-    private static final TypedGenerator<Integer> SIZE_GENERATOR = Generators.integers(1, 128);
+    static final int DEFAULT_MIN_SIZE = 1;
+    static final int DEFAULT_MAX_SIZE = 128;
+
+    private static final char CHAR_LO = ' ';
+    private static final int CHAR_SPAN = '~' - CHAR_LO + 1;
 
     /**
      * @return a primitive array of the configured type, with a size between 1 and 128
      */
-    public abstract Object next();
+    public Object next() {
+        return next(DEFAULT_MIN_SIZE, DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * @param minSize the minimum array length (inclusive), must be {@code >= 0}
+     * @param maxSize the maximum array length (inclusive), must be {@code >= minSize}
+     * @return a primitive array of the configured type, with a size between {@code minSize} and {@code maxSize}
+     * @throws IllegalArgumentException if the size range is invalid
+     */
+    public Object next(int minSize, int maxSize) {
+        if (minSize < 0 || maxSize < minSize) {
+            throw new IllegalArgumentException(
+                    "Size range must satisfy 0 <= minSize <= maxSize, given: [" + minSize + ", " + maxSize + "]");
+        }
+        final var size = (int) RandomContext.generator().nextLong(minSize, maxSize + 1L);
+        final var array = newArray(size);
+        fillArray(array, 0, size);
+        return array;
+    }
+
+    /**
+     * Fills the given range of a caller-supplied array with random values.
+     *
+     * @param array the array to fill, must be a primitive array matching {@link #getType()}
+     * @param from  the first index to fill (inclusive)
+     * @param to    the last index to fill (exclusive)
+     * @throws ClassCastException        if the array does not match {@link #getType()}
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public abstract void fillArray(Object array, int from, int to);
 
     /**
      * @return the type of the primitive
      */
     public abstract Class<?> getType();
 
+    abstract Object newArray(int size);
+
+    /**
+     * Fills the whole array with random booleans.
+     *
+     * @param target must not be null
+     */
+    public static void fill(final boolean[] target) {
+        fill(target, 0, target.length);
+    }
+
+    /**
+     * Fills the range {@code [from, to)} with random booleans, taking 64 values from each random draw.
+     *
+     * @param target must not be null
+     * @param from   the first index to fill (inclusive)
+     * @param to     the last index to fill (exclusive)
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public static void fill(final boolean[] target, final int from, final int to) {
+        Objects.checkFromToIndex(from, to, target.length);
+        final var random = RandomContext.generator();
+        var index = from;
+        while (index < to) {
+            var bits = random.nextLong();
+            final var end = Math.min(to, index + Long.SIZE);
+            for (; index < end; index++, bits >>>= 1) {
+                target[index] = (bits & 1L) != 0;
+            }
+        }
+    }
+
+    /**
+     * Fills the whole array with random bytes.
+     *
+     * @param target must not be null
+     */
+    public static void fill(final byte[] target) {
+        fill(target, 0, target.length);
+    }
+
+    /**
+     * Fills the range {@code [from, to)} with random bytes, taking 8 values from each random draw.
+     *
+     * @param target must not be null
+     * @param from   the first index to fill (inclusive)
+     * @param to     the last index to fill (exclusive)
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public static void fill(final byte[] target, final int from, final int to) {
+        Objects.checkFromToIndex(from, to, target.length);
+        final var random = RandomContext.generator();
+        var index = from;
+        while (index < to) {
+            var bits = random.nextLong();
+            final var end = Math.min(to, index + Long.BYTES);
+            for (; index < end; index++, bits >>>= Byte.SIZE) {
+                target[index] = (byte) bits;
+            }
+        }
+    }
+
+    /**
+     * Fills the whole array with random printable Basic Latin characters.
+     *
+     * @param target must not be null
+     */
+    public static void fill(final char[] target) {
+        fill(target, 0, target.length);
+    }
+
+    /**
+     * Fills the range {@code [from, to)} with random printable Basic Latin characters
+     * ({@code U+0020} to {@code U+007E}), matching {@link CharacterGenerator#CharacterGenerator()}.
+     *
+     * @param target must not be null
+     * @param from   the first index to fill (inclusive)
+     * @param to     the last index to fill (exclusive)
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public static void fill(final char[] target, final int from, final int to) {
+        Objects.checkFromToIndex(from, to, target.length);
+        final var random = RandomContext.generator();
+        for (var index = from; index < to; index++) {
+            target[index] = (char) (CHAR_LO + random.nextInt(CHAR_SPAN));
+        }
+    }
+
+    /**
+     * Fills the whole array with random shorts.
+     *
+     * @param target must not be null
+     */
+    public static void fill(final short[] target) {
+        fill(target, 0, target.length);
+    }
+
+    /**
+     * Fills the range {@code [from, to)} with random shorts, taking 4 values from each random draw.
+     *
+     * @param target must not be null
+     * @param from   the first index to fill (inclusive)
+     * @param to     the last index to fill (exclusive)
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public static void fill(final short[] target, final int from, final int to) {
+        Objects.checkFromToIndex(from, to, target.length);
+        final var random = RandomContext.generator();
+        var index = from;
+        while (index < to) {
+            var bits = random.nextLong();
+            final var end = Math.min(to, index + Long.BYTES / Short.BYTES);
+            for (; index < end; index++, bits >>>= Short.SIZE) {
+                target[index] = (short) bits;
+            }
+        }
+    }
+
+    /**
+     * Fills the whole array with random integers.
+     *
+     * @param target must not be null
+     */
+    public static void fill(final int[] target) {
+        fill(target, 0, target.length);
+    }
+
+    /**
+     * Fills the range {@code [from, to)} with random integers covering the full {@code int} range.
+     *
+     * @param target must not be null
+     * @param from   the first index to fill (inclusive)
+     * @param to     the last index to fill (exclusive)
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public static void fill(final int[] target, final int from, final int to) {
+        Objects.checkFromToIndex(from, to, target.length);
+        final var random = RandomContext.generator();
+        for (var index = from; index < to; index++) {
+            target[index] = random.nextInt();
+        }
+    }
+
+    /**
+     * Fills the whole array with random longs.
+     *
+     * @param target must not be null
+     */
+    public static void fill(final long[] target) {
+        fill(target, 0, target.length);
+    }
+
+    /**
+     * Fills the range {@code [from, to)} with random longs covering the full {@code long} range.
+     *
+     * @param target must not be null
+     * @param from   the first index to fill (inclusive)
+     * @param to     the last index to fill (exclusive)
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public static void fill(final long[] target, final int from, final int to) {
+        Objects.checkFromToIndex(from, to, target.length);
+        final var random = RandomContext.generator();
+        for (var index = from; index < to; index++) {
+            target[index] = random.nextLong();
+        }
+    }
+
+    /**
+     * Fills the whole array with random floats.
+     *
+     * @param target must not be null
+     */
+    public static void fill(final float[] target) {
+        fill(target, 0, target.length);
+    }
+
+    /**
+     * Fills the range {@code [from, to)} with random finite floats between {@code -Float.MAX_VALUE}
+     * and {@link Float#MAX_VALUE}, matching {@link FloatObjectGenerator#FloatObjectGenerator()}.
+     *
+     * @param target must not be null
+     * @param from   the first index to fill (inclusive)
+     * @param to     the last index to fill (exclusive)
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public static void fill(final float[] target, final int from, final int to) {
+        Objects.checkFromToIndex(from, to, target.length);
+        final var random = RandomContext.generator();
+        for (var index = from; index < to; index++) {
+            target[index] = (float) ((2.0 * random.nextDouble() - 1.0) * Float.MAX_VALUE);
+        }
+    }
+
+    /**
+     * Fills the whole array with random doubles.
+     *
+     * @param target must not be null
+     */
+    public static void fill(final double[] target) {
+        fill(target, 0, target.length);
+    }
+
+    /**
+     * Fills the range {@code [from, to)} with random finite doubles between {@code -Double.MAX_VALUE}
+     * and {@link Double#MAX_VALUE}, matching {@link DoubleGenerator#DoubleGenerator()}. The span is
+     * scaled from a symmetric unit interval, so it can never overflow to infinity.
+     *
+     * @param target must not be null
+     * @param from   the first index to fill (inclusive)
+     * @param to     the last index to fill (exclusive)
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public static void fill(final double[] target, final int from, final int to) {
+        Objects.checkFromToIndex(from, to, target.length);
+        final var random = RandomContext.generator();
+        for (var index = from; index < to; index++) {
+            target[index] = (2.0 * random.nextDouble() - 1.0) * Double.MAX_VALUE;
+        }
+    }
+
     /**
      * Returns a {@link PrimitiveArrayGenerators} for the given primitive type.
      *
@@ -51,7 +51,16 @@ public class ShortObjectGenerator implements TypedGenerator<Short> {
 
     @Override
     public Short next() {
-        return DELEGATE.next().shortValue();
+        return nextShort();
+    }
+
+    /**
+     * Generates the next value without boxing.
+     *
+     * @return the next {@code short} value
+     */
+    public short nextShort() {
+        return (short) DELEGATE.nextInt();
     }
 
     @Override
@@ -18,12 +18,50 @@ package de.cuioss.test.generator.impl;
 import de.cuioss.test.generator.TypedGenerator;
 import de.cuioss.test.generator.internal.RandomContext;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+import static de.cuioss.test.generator.internal.GeneratorPreconditions.checkCount;
+import static java.util.Objects.requireNonNull;
+
 /**
  * Generates random {@link String} values with configurable length and character set.
  * <p>
  * The default configuration generates strings of 0-30 characters from the printable Basic
  * Latin range (0x20-0x7E).
  * </p>
+ * <p>
+ * Characters are drawn through a precomputed lookup table per alphabet, shared between
+ * generators with the same alphabet, taking four characters from each 64-bit random draw.
+ * Strings from the Basic Latin range, or from {@code allowedChars} within the Latin-1 range
+ * (up to 0xFF), are built as a {@code byte[]} and decoded as ISO-8859-1, yielding a compact
+ * Latin-1 {@link String}.
+ * </p>
+ * <p>
+ * Large texts can be streamed to a {@link Writer}, {@link OutputStream} or
+ * {@link WritableByteChannel} without materializing any {@link String}: {@code writeTo}
+ * writes a continuous run of characters, {@code writeLinesTo} writes lines with the
+ * configured lengths, each terminated by {@code '\n'}. Both stop exactly at the requested
+ * count, possibly within a line, and reuse a single buffer. Byte output is UTF-8: ASCII
+ * alphabets, including the default, are written byte by byte, all others are encoded by one
+ * {@link java.nio.charset.CharsetEncoder} per call. A character is never split; if it does
+ * not fit into the last bytes, these are padded with spaces.
+ * </p>
+ *
+ * <p><em>Example usage:</em></p>
+ * <pre>
+ * try (var out = Files.newOutputStream(path)) {
+ *     new StringGenerator(0, 120).writeLinesTo(out, 2L * 1024 * 1024 * 1024);
+ * }
+ * </pre>
  *
  * @author Oliver Wolff
  * @since 1.0
@@ -32,19 +70,26 @@ public class StringGenerator implements TypedGenerator<String> {
 
     private static final int DEFAULT_MAX_LENGTH = 30;
 
+    private static final int BUFFER_SIZE = 8192;
+
+    private static final String BASIC_LATIN = IntStream.rangeClosed('\u0020', '\u007E')
+            .collect(StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append).toString();
+
     private final IntegerGenerator lengthGenerator;
     private final String allowedChars;
-    private final CharacterGenerator charGenerator;
+
+    /** The lookup table, or {@code null} for alphabets beyond {@link AlphabetTable#MAX_ALPHABET_LENGTH}. */
+    private final AlphabetTable table;
 
     /**
-     * Creates a generator for strings of 0-30 characters from Basic Latin + Latin-1 Supplement.
+     * Creates a generator for strings of 0-30 characters from the printable Basic Latin range.
      */
     public StringGenerator() {
         this(0, DEFAULT_MAX_LENGTH);
     }
 
     /**
-     * Creates a generator for strings with length in [minLen, maxLen] from Basic Latin + Latin-1 Supplement.
+     * Creates a generator for strings with length in [minLen, maxLen] from the printable Basic Latin range.
      *
      * @param minLen minimum string length (inclusive)
      * @param maxLen maximum string length (inclusive)
@@ -54,8 +99,8 @@ public class StringGenerator implements TypedGenerator<String> {
             throw new IllegalArgumentException("minLen must not be negative, given: " + minLen);
         }
         this.lengthGenerator = new IntegerGenerator(minLen, maxLen);
-        this.allowedChars = null;
-        this.charGenerator = new CharacterGenerator();
+        this.allowedChars = BASIC_LATIN;
+        this.table = AlphabetTable.of(BASIC_LATIN);
     }
 
     /**
@@ -74,7 +119,7 @@ public class StringGenerator implements TypedGenerator<String> {
         }
         this.lengthGenerator = new IntegerGenerator(minLen, maxLen);
         this.allowedChars = allowedChars;
-        this.charGenerator = null;
+        this.table = allowedChars.length() <= AlphabetTable.MAX_ALPHABET_LENGTH ? AlphabetTable.of(allowedChars) : null;
     }
 
     private static final String LETTERS = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ";
@@ -92,18 +137,227 @@ public class StringGenerator implements TypedGenerator<String> {
 
     @Override
     public String next() {
-        int length = lengthGenerator.next();
-        var sb = new StringBuilder(length);
-        if (allowedChars != null) {
+        int length = lengthGenerator.nextInt();
+        if (table == null) {
+            var random = RandomContext.generator();
+            var chars = new char[length];
             for (int i = 0; i < length; i++) {
-                sb.append(allowedChars.charAt(RandomContext.random().nextInt(allowedChars.length())));
+                chars[i] = allowedChars.charAt(random.nextInt(allowedChars.length()));
+            }
+            return new String(chars);
+        }
+        if (table.isLatin1()) {
+            var bytes = new byte[length];
+            table.fill(bytes);
+            return new String(bytes, StandardCharsets.ISO_8859_1);
+        }
+        var chars = new char[length];
+        table.fill(chars);
+        return new String(chars);
+    }
+
+    /**
+     * Writes {@code charCount} random characters to the given {@link Writer}.
+     *
+     * @param out       the target, must not be null; it is neither flushed nor closed
+     * @param charCount the number of characters to write, must be {@code >= 0}
+     * @throws IOException              if writing fails
+     * @throws IllegalArgumentException if {@code charCount} is negative
+     */
+    public void writeTo(Writer out, long charCount) throws IOException {
+        writeChars(out, charCount, false);
+    }
+
+    /**
+     * Writes {@code charCount} characters of random lines to the given {@link Writer}, see
+     * {@link #writeLinesTo(OutputStream, long)}.
+     *
+     * @param out       the target, must not be null; it is neither flushed nor closed
+     * @param charCount the number of characters to write, including line breaks, must be {@code >= 0}
+     * @throws IOException              if writing fails
+     * @throws IllegalArgumentException if {@code charCount} is negative
+     */
+    public void writeLinesTo(Writer out, long charCount) throws IOException {
+        writeChars(out, charCount, true);
+    }
+
+    /**
+     * Writes {@code byteCount} bytes of random characters, encoded as UTF-8, to the given
+     * {@link OutputStream}.
+     *
+     * @param out       the target, must not be null; it is neither flushed nor closed
+     * @param byteCount the number of bytes to write, must be {@code >= 0}
+     * @throws IOException              if writing fails
+     * @throws IllegalArgumentException if {@code byteCount} is negative
+     */
+    public void writeTo(OutputStream out, long byteCount) throws IOException {
+        requireNonNull(out, "out must not be null");
+        writeBytes((buffer, length) -> out.write(buffer, 0, length), byteCount, false);
+    }
+
+    /**
+     * Writes {@code byteCount} bytes of random lines, encoded as UTF-8, to the given
+     * {@link OutputStream}. Every line has a length drawn from the configured range and is
+     * terminated by {@code '\n'}.
+     *
+     * @param out       the target, must not be null; it is neither flushed nor closed
+     * @param byteCount the number of bytes to write, including line breaks, must be {@code >= 0}
+     * @throws IOException              if writing fails
+     * @throws IllegalArgumentException if {@code byteCount} is negative
+     */
+    public void writeLinesTo(OutputStream out, long byteCount) throws IOException {
+        requireNonNull(out, "out must not be null");
+        writeBytes((buffer, length) -> out.write(buffer, 0, length), byteCount, true);
+    }
+
+    /**
+     * Writes {@code byteCount} bytes of random characters, encoded as UTF-8, to the given
+     * {@link WritableByteChannel}.
+     *
+     * @param channel   the target, must not be null; it is not closed
+     * @param byteCount the number of bytes to write, must be {@code >= 0}
+     * @throws IOException              if writing fails
+     * @throws IllegalArgumentException if {@code byteCount} is negative
+     */
+    public void writeTo(WritableByteChannel channel, long byteCount) throws IOException {
+        writeBytes(channelSink(channel), byteCount, false);
+    }
+
+    /**
+     * Writes {@code byteCount} bytes of random lines, encoded as UTF-8, to the given
+     * {@link WritableByteChannel}, see {@link #writeLinesTo(OutputStream, long)}.
+     *
+     * @param channel   the target, must not be null; it is not closed
+     * @param byteCount the number of bytes to write, including line breaks, must be {@code >= 0}
+     * @throws IOException              if writing fails
+     * @throws IllegalArgumentException if {@code byteCount} is negative
+     */
+    public void writeLinesTo(WritableByteChannel channel, long byteCount) throws IOException {
+        writeBytes(channelSink(channel), byteCount, true);
+    }
+
+    private void writeBytes(ByteSink sink, long byteCount, boolean lines) throws IOException {
+        checkCount("byteCount", byteCount);
+        if (table == null || !table.isAscii()) {
+            writeEncoded(sink, byteCount, lines);
+            return;
+        }
+        final var buffer = new byte[(int) Math.min(BUFFER_SIZE, byteCount)];
+        var lineRemaining = lines ? lengthGenerator.nextInt() : Long.MAX_VALUE;
+        for (var remaining = byteCount; remaining > 0; ) {
+            final var length = (int) Math.min(buffer.length, remaining);
+            var index = 0;
+            while (index < length) {
+                if (lineRemaining == 0) {
+                    buffer[index++] = '\n';
+                    lineRemaining = lengthGenerator.nextInt();
+                    continue;
+                }
+                final var run = (int) Math.min(length - index, lineRemaining);
+                table.fill(buffer, index, index + run);
+                index += run;
+                lineRemaining -= run;
+            }
+            sink.write(buffer, length);
+            remaining -= length;
+        }
+    }
+
+    /**
+     * Byte output for alphabets beyond ASCII: the characters are encoded as UTF-8 by a single
+     * encoder per call, which never splits a character. If the next character does not fit
+     * into the last bytes, these are padded with spaces.
+     */
+    private void writeEncoded(ByteSink sink, long byteCount, boolean lines) throws IOException {
+        final var encoder = StandardCharsets.UTF_8.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        final var chars = CharBuffer.allocate(BUFFER_SIZE).flip();
+        final var bytes = ByteBuffer.allocate(BUFFER_SIZE);
+        final var scratch = table != null && table.isLatin1() ? new byte[BUFFER_SIZE] : null;
+        var lineRemaining = lines ? lengthGenerator.nextInt() : Long.MAX_VALUE;
+        for (var remaining = byteCount; remaining > 0; ) {
+            chars.compact();
+            lineRemaining = fillLines(chars.array(), chars.position(), chars.capacity(), scratch, lineRemaining);
+            chars.position(chars.capacity()).flip();
+            bytes.clear().limit((int) Math.min(bytes.capacity(), remaining));
+            final var result = encoder.encode(chars, bytes, false);
+            var length = bytes.position();
+            if (length == 0 && result.isOverflow()) {
+                length = (int) remaining;
+                Arrays.fill(bytes.array(), 0, length, (byte) ' ');
+            }
+            sink.write(bytes.array(), length);
+            remaining -= length;
+        }
+    }
+
+    private void writeChars(Writer out, long charCount, boolean lines) throws IOException {
+        requireNonNull(out, "out must not be null");
+        checkCount("charCount", charCount);
+        final var buffer = new char[(int) Math.min(BUFFER_SIZE, charCount)];
+        final var scratch = table != null && table.isLatin1() ? new byte[buffer.length] : null;
+        var lineRemaining = lines ? lengthGenerator.nextInt() : Long.MAX_VALUE;
+        for (var remaining = charCount; remaining > 0; ) {
+            final var length = (int) Math.min(buffer.length, remaining);
+            lineRemaining = fillLines(buffer, 0, length, scratch, lineRemaining);
+            out.write(buffer, 0, length);
+            remaining -= length;
+        }
+    }
+
+    /**
+     * Fills {@code [from, to)} with random characters, inserting a line break whenever the
+     * current line is complete.
+     *
+     * @return the number of characters left in the current line
+     */
+    private long fillLines(char[] target, int from, int to, byte[] scratch, long lineRemaining) {
+        var index = from;
+        var left = lineRemaining;
+        while (index < to) {
+            if (left == 0) {
+                target[index++] = '\n';
+                left = lengthGenerator.nextInt();
+                continue;
+            }
+            final var run = (int) Math.min(to - index, left);
+            fillChars(target, index, index + run, scratch);
+            index += run;
+            left -= run;
+        }
+        return left;
+    }
+
+    private void fillChars(char[] target, int from, int to, byte[] scratch) {
+        if (scratch != null) {
+            table.fill(scratch, from, to);
+            for (var i = from; i < to; i++) {
+                target[i] = (char) Byte.toUnsignedInt(scratch[i]);
             }
+        } else if (table != null) {
+            table.fill(target, from, to);
         } else {
-            for (int i = 0; i < length; i++) {
-                sb.append(charGenerator.next());
+            final var random = RandomContext.generator();
+            for (var i = from; i < to; i++) {
+                target[i] = allowedChars.charAt(random.nextInt(allowedChars.length()));
             }
         }
-        return sb.toString();
+    }
+
+    private static ByteSink channelSink(WritableByteChannel channel) {
+        requireNonNull(channel, "channel must not be null");
+        return (buffer, length) -> {
+            final var wrapped = ByteBuffer.wrap(buffer, 0, length);
+            while (wrapped.hasRemaining()) {
+                channel.write(wrapped);
+            }
+        };
+    }
+
+    @FunctionalInterface
+    private interface ByteSink {
+        void write(byte[] buffer, int length) throws IOException;
     }
 
     @Override
@@ -0,0 +1,91 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.generator.impl;
+
+import de.cuioss.test.generator.StatefulGenerator;
+import de.cuioss.test.generator.TypedIntGenerator;
+
+/**
+ * Generates every {@code int} value of the range {@code [min, max]} exactly once, in a
+ * pseudo-random order. The {@code int} variant of {@link UniqueRangeGenerator}, which it
+ * delegates to; see there for the permutation and its guarantees.
+ *
+ * <p><em>Example usage:</em></p>
+ * <pre>
+ * {@code
+ * var ports = new UniqueIntegerRangeGenerator(1024, 65535);
+ * int port = ports.nextInt();
+ * ports.reset(); // same order again
+ * }
+ * </pre>
+ *
+ * @author Oliver Wolff
+ * @see de.cuioss.test.generator.Generators#uniqueIntegers(int, int)
+ * @since 3.1
+ */
+public class UniqueIntegerRangeGenerator implements TypedIntGenerator, StatefulGenerator<Integer> {
+
+    private final UniqueRangeGenerator delegate;
+
+    /**
+     * Creates a generator for the range [min, max].
+     *
+     * @param min lower bound (inclusive)
+     * @param max upper bound (inclusive)
+     * @throws IllegalArgumentException if {@code max < min}
+     */
+    public UniqueIntegerRangeGenerator(int min, int max) {
+        this.delegate = new UniqueRangeGenerator(min, max);
+    }
+
+    /**
+     * @return the next value of the permutation
+     * @throws IllegalStateException once every value of the range has been returned
+     */
+    @Override
+    public int nextInt() {
+        return (int) delegate.nextLong();
+    }
+
+    /**
+     * @return the lower bound (inclusive)
+     */
+    public int getMin() {
+        return (int) delegate.getMin();
+    }
+
+    /**
+     * @return the upper bound (inclusive)
+     */
+    public int getMax() {
+        return (int) delegate.getMax();
+    }
+
+    /**
+     * @return the number of values not yet generated
+     */
+    public long remaining() {
+        return delegate.remaining();
+    }
+
+    /**
+     * Starts over, yielding the same permutation of the range again.
+     */
+    @Override
+    public void reset() {
+        delegate.reset();
+    }
+}
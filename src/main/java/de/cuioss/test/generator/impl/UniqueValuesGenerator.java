@@ -15,27 +15,63 @@
  */
 package de.cuioss.test.generator.impl;
 
+import de.cuioss.test.generator.StatefulGenerator;
 import de.cuioss.test.generator.TypedGenerator;
+import de.cuioss.test.generator.internal.RandomContext;
 
 import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 
 import static java.util.Objects.requireNonNull;
 
 /**
  * Wraps a source generator and ensures all generated values are unique.
+ * <p>
+ * By default every returned value is kept in a concurrent set, which is exact but costs
+ * about 80 bytes per value and grows without bound. Two further modes track 64-bit
+ * fingerprints of the values instead:
+ * </p>
+ * <ul>
+ *   <li>{@link #hashed(TypedGenerator)} keeps the fingerprints in a primitive open-addressing
+ *   set. It still grows without bound, but at a load factor between 0.375 and 0.75 it costs
+ *   only about 11 to 21 bytes per value, and briefly three times as much while the table
+ *   doubles</li>
+ *   <li>{@link #bloomFilter(TypedGenerator, long, double)} keeps them in a Bloom filter of a
+ *   fixed size, about 1.2 bytes per value at a false-positive rate of 1%. This is the only
+ *   memory-bounded mode, for long-running data generation</li>
+ * </ul>
+ * <p>
+ * Equal values always have equal fingerprints, so no mode ever returns a duplicate. A
+ * fingerprint collision or a Bloom filter false positive only makes the generator discard a
+ * fresh value. Fingerprints are derived from the value: integral numbers, {@link String}s
+ * and {@link UUID}s use their full content, all other types their {@link Object#hashCode()},
+ * which limits them to 32 bits. {@link #reset()} forgets all values returned so far.
+ * </p>
+ *
+ * <p><em>Example usage:</em></p>
+ * <pre>
+ * {@code
+ * var ids = UniqueValuesGenerator.bloomFilter(Generators.longs(), 10_000_000, 0.01);
+ * long id = ids.next();
+ * }
+ * </pre>
  *
  * @param <T> the type of values to generate
  * @author Oliver Wolff
  * @since 1.0
  */
-public class UniqueValuesGenerator<T> implements TypedGenerator<T> {
+public class UniqueValuesGenerator<T> implements StatefulGenerator<T> {
 
     private static final int DEFAULT_MAX_RETRIES = 100;
 
+    /** FNV-1a 64-bit offset basis and prime, used to fingerprint character sequences. */
+    private static final long FNV_OFFSET_BASIS = 0xCBF2_9CE4_8422_2325L;
+    private static final long FNV_PRIME = 0x0000_0100_0000_01B3L;
+
     private final TypedGenerator<T> source;
     private final int maxRetries;
-    private final Set<T> seen = ConcurrentHashMap.newKeySet();
+    private final Tracker<T> seen;
 
     /**
      * Creates a unique values generator wrapping the given source.
@@ -55,11 +91,82 @@ public class UniqueValuesGenerator<T> implements TypedGenerator<T> {
      * @throws IllegalArgumentException if {@code maxRetries} is not positive
      */
     public UniqueValuesGenerator(TypedGenerator<T> source, int maxRetries) {
+        this(source, maxRetries, new ExactTracker<>());
+    }
+
+    private UniqueValuesGenerator(TypedGenerator<T> source, int maxRetries, Tracker<T> seen) {
         this.source = requireNonNull(source, "source must not be null");
         if (maxRetries <= 0) {
             throw new IllegalArgumentException("maxRetries must be greater than 0, given: " + maxRetries);
         }
         this.maxRetries = maxRetries;
+        this.seen = seen;
+    }
+
+    /**
+     * Creates a unique values generator tracking 64-bit fingerprints of the returned values
+     * in a primitive hash set. Smaller than the default mode, but not memory-bounded: the set
+     * grows with every returned value, see {@link #bloomFilter(TypedGenerator, long, double)}
+     * for a fixed size.
+     *
+     * @param source the source generator, must not be {@code null}
+     * @param <T>    the type of values to generate
+     * @return the generator
+     */
+    public static <T> UniqueValuesGenerator<T> hashed(TypedGenerator<T> source) {
+        var fingerprints = new LongOpenHashSet();
+        return new UniqueValuesGenerator<>(source, DEFAULT_MAX_RETRIES, new Tracker<>() {
+
+            @Override
+            public boolean add(T value) {
+                return fingerprints.add(fingerprint(value));
+            }
+
+            @Override
+            public long size() {
+                return fingerprints.size();
+            }
+
+            @Override
+            public void clear() {
+                fingerprints.clear();
+            }
+        });
+    }
+
+    /**
+     * Creates a unique values generator tracking 64-bit fingerprints of the returned values
+     * in a Bloom filter. Beyond {@code expectedValues} the false-positive rate rises, making
+     * the generator discard more fresh values until it fails to find one.
+     *
+     * @param source            the source generator, must not be {@code null}
+     * @param expectedValues    the number of values the filter is sized for, must be positive
+     * @param falsePositiveRate the probability of discarding a fresh value at
+     *                          {@code expectedValues}, must be within {@code (0, 1)}
+     * @param <T>               the type of values to generate
+     * @return the generator
+     * @throws IllegalArgumentException if an argument is out of range
+     */
+    public static <T> UniqueValuesGenerator<T> bloomFilter(TypedGenerator<T> source, long expectedValues,
+            double falsePositiveRate) {
+        var filter = new BloomFilter(expectedValues, falsePositiveRate);
+        return new UniqueValuesGenerator<>(source, DEFAULT_MAX_RETRIES, new Tracker<>() {
+
+            @Override
+            public boolean add(T value) {
+                return filter.add(fingerprint(value));
+            }
+
+            @Override
+            public long size() {
+                return filter.size();
+            }
+
+            @Override
+            public void clear() {
+                filter.clear();
+            }
+        });
     }
 
     @Override
@@ -75,8 +182,75 @@ public class UniqueValuesGenerator<T> implements TypedGenerator<T> {
                         + seen.size() + " unique values generated so far.");
     }
 
+    /**
+     * Forgets all values returned so far, so that they may be returned again.
+     */
+    @Override
+    public void reset() {
+        seen.clear();
+    }
+
     @Override
     public Class<T> getType() {
         return source.getType();
     }
+
+    /**
+     * Computes the 64-bit fingerprint used by the memory-bounded modes. Equal values yield
+     * equal fingerprints.
+     */
+    static long fingerprint(Object value) {
+        return switch (value) {
+            case null -> 0L;
+            case Long l -> l;
+            case Integer i -> i;
+            case Short s -> s;
+            case Byte b -> b;
+            case Character c -> c;
+            case CharSequence chars -> fingerprint(chars);
+            case UUID uuid -> uuid.getMostSignificantBits() ^ RandomContext.mix(uuid.getLeastSignificantBits());
+            default -> RandomContext.mix(value.hashCode());
+        };
+    }
+
+    private static long fingerprint(CharSequence chars) {
+        var hash = FNV_OFFSET_BASIS;
+        for (var i = 0; i < chars.length(); i++) {
+            hash = (hash ^ chars.charAt(i)) * FNV_PRIME;
+        }
+        return hash;
+    }
+
+    /** Tracks the values returned so far. */
+    private interface Tracker<T> {
+
+        /**
+         * @return {@code true} if the value was not returned before
+         */
+        boolean add(T value);
+
+        long size();
+
+        void clear();
+    }
+
+    private static final class ExactTracker<T> implements Tracker<T> {
+
+        private final Set<T> values = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public boolean add(T value) {
+            return values.add(value);
+        }
+
+        @Override
+        public long size() {
+            return values.size();
+        }
+
+        @Override
+        public void clear() {
+            values.clear();
+        }
+    }
 }
@@ -0,0 +1,137 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.generator.impl;
+
+import de.cuioss.test.generator.TypedLongGenerator;
+import de.cuioss.test.generator.internal.RandomContext;
+import lombok.Getter;
+
+/**
+ * Generates Zipf distributed ranks in {@code [1, numberOfElements]}: rank {@code k} is
+ * drawn with a probability proportional to {@code 1 / k^exponent}, so low ranks are
+ * "hot" and high ranks form a long tail, as typical for cache keys or word frequencies.
+ * <p>
+ * Values are drawn with the rejection-inversion method of Hörmann and Derflinger
+ * ("Rejection-inversion to generate variates from monotone discrete distributions",
+ * 1996). It needs neither a table nor a harmonic sum over all elements, so setup is
+ * O(1) even for {@code Long.MAX_VALUE} elements, and on average less than two
+ * {@code nextDouble()} calls are consumed per value.
+ * </p>
+ * <p><em>Example usage:</em></p>
+ * <pre>
+ * var hotKeys = new ZipfGenerator(10_000, 1.1);
+ * long key = hotKeys.nextLong(); // 1 is the most frequent key
+ * </pre>
+ *
+ * @author Oliver Wolff
+ * @since 3.1
+ */
+public class ZipfGenerator implements TypedLongGenerator {
+
+    @Getter
+    private final long numberOfElements;
+    @Getter
+    private final double exponent;
+
+    private final double hIntegralX1;
+    private final double hIntegralNumberOfElements;
+    private final double s;
+
+    /**
+     * @param numberOfElements the number of ranks, must be {@code > 0}
+     * @param exponent         the exponent, must be finite and {@code > 0}
+     * @throws IllegalArgumentException if a parameter is out of range
+     */
+    public ZipfGenerator(long numberOfElements, double exponent) {
+        if (numberOfElements <= 0) {
+            throw new IllegalArgumentException("numberOfElements must be > 0, given: " + numberOfElements);
+        }
+        if (!Double.isFinite(exponent) || !(exponent > 0)) {
+            throw new IllegalArgumentException("exponent must be finite and > 0, given: " + exponent);
+        }
+        this.numberOfElements = numberOfElements;
+        this.exponent = exponent;
+        this.hIntegralX1 = hIntegral(1.5) - 1.0;
+        this.hIntegralNumberOfElements = hIntegral(numberOfElements + 0.5);
+        this.s = 2.0 - hIntegralInverse(hIntegral(2.5) - h(2.0));
+    }
+
+    @Override
+    public long nextLong() {
+        var random = RandomContext.generator();
+        while (true) {
+            var u = hIntegralNumberOfElements + random.nextDouble() * (hIntegralX1 - hIntegralNumberOfElements);
+            var x = hIntegralInverse(u);
+            var k = (long) (x + 0.5);
+            if (k < 1) {
+                k = 1;
+            } else if (k > numberOfElements) {
+                k = numberOfElements;
+            }
+            // The first check accepts most values without evaluating the integral
+            if (k - x <= s || u >= hIntegral(k + 0.5) - h(k)) {
+                return k;
+            }
+        }
+    }
+
+    /**
+     * @return {@code H(x)}, an integral of {@link #h(double)} with {@code H(1) = 0}
+     */
+    private double hIntegral(double x) {
+        var logX = Math.log(x);
+        return helper2((1.0 - exponent) * logX) * logX;
+    }
+
+    /**
+     * @return {@code h(x) = 1 / x^exponent}
+     */
+    private double h(double x) {
+        return Math.exp(-exponent * Math.log(x));
+    }
+
+    /**
+     * @return the inverse of {@link #hIntegral(double)}
+     */
+    private double hIntegralInverse(double x) {
+        var t = x * (1.0 - exponent);
+        if (t < -1.0) {
+            // Guards against rounding errors for large exponents
+            t = -1.0;
+        }
+        return Math.exp(helper1(t) * x);
+    }
+
+    /**
+     * @return {@code log1p(x) / x}, numerically stable for {@code x} near 0
+     */
+    private static double helper1(double x) {
+        if (Math.abs(x) > 1e-8) {
+            return Math.log1p(x) / x;
+        }
+        return 1.0 - x * (0.5 - x * (1.0 / 3.0 - 0.25 * x));
+    }
+
+    /**
+     * @return {@code expm1(x) / x}, numerically stable for {@code x} near 0
+     */
+    private static double helper2(double x) {
+        if (Math.abs(x) > 1e-8) {
+            return Math.expm1(x) / x;
+        }
+        return 1.0 + x * 0.5 * (1.0 + x * (1.0 / 3.0) * (1.0 + 0.25 * x));
+    }
+}
@@ -15,24 +15,31 @@
  */
 package de.cuioss.test.generator.impl;
 
-import de.cuioss.test.generator.Generators;
 import de.cuioss.test.generator.TypedGenerator;
+import de.cuioss.test.generator.internal.RandomContext;
+import de.cuioss.test.generator.internal.ZoneCatalogue;
+import lombok.Getter;
 
-import java.time.LocalDateTime;
+import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
 
-import static java.time.ZoneId.getAvailableZoneIds;
+import static java.util.Objects.requireNonNull;
 
 /**
  * Generates {@link ZoneOffset} instances based on the available system time zones.
- * This generator creates offsets by sampling from all available zone IDs and
- * extracting their current offsets.
+ * The offsets of all available zone IDs are resolved once, at construction, against a
+ * reference instant; every value is then drawn from that table with a single random
+ * array index, without reading the clock or consulting zone rules.
  * 
  * <p>Features:</p>
  * <ul>
  *   <li>Uses all system-available zone IDs ({@link ZoneId#getAvailableZoneIds()})</li>
- *   <li>Generates valid offsets based on current time</li>
+ *   <li>Generates the offsets in effect at the reference instant, by default the time of construction</li>
+ *   <li>Reproducible across runs for a fixed reference instant and seed</li>
+ *   <li>Weights offsets by the number of zones sharing them, or draws distinct offsets uniformly</li>
  *   <li>Covers both positive and negative offsets</li>
  *   <li>Thread-safe implementation</li>
  * </ul>
@@ -40,12 +47,16 @@ import static java.time.ZoneId.getAvailableZoneIds;
  * <p><em>Example usage:</em></p>
  * <pre>
  * {@code
- * // Create a generator
+ * // Create a generator for the current offsets
  * var generator = new ZoneOffsetGenerator();
  * 
  * // Generate single values
  * ZoneOffset offset = generator.next();
  * 
+ * // Every distinct offset in effect at a fixed instant, equally likely
+ * var distinct = new ZoneOffsetGenerator(Instant.parse("2024-01-01T00:00:00Z"),
+ *         ZoneOffsetGenerator.Weighting.UNIFORM);
+ * 
  * // Generate collections
  * var collectionGen = new CollectionGenerator&lt;&gt;(generator);
  * List&lt;ZoneOffset&gt; offsets = collectionGen.list(5); // List of 5 offsets
@@ -63,17 +74,63 @@ import static java.time.ZoneId.getAvailableZoneIds;
  * @author Eugen Fischer
  * @see ZoneOffset
  * @see ZoneId
- * @see LocalDateTime
  * @since 1.0
  */
 public class ZoneOffsetGenerator implements TypedGenerator<ZoneOffset> {
 
-    private static final TypedGenerator<ZoneId> ZONE_IDS_GEN = Generators.fixedValues(ZoneId.class,
-            getAvailableZoneIds().stream().map(ZoneId::of).toList());
+    /**
+     * Defines how likely each offset is drawn.
+     */
+    public enum Weighting {
+
+        /** Each offset is drawn as often as zones share it, like resolving a random zone. */
+        BY_ZONE_COUNT,
+
+        /** Each distinct offset is equally likely. */
+        UNIFORM
+    }
+
+    @Getter
+    private final Instant instant;
+    @Getter
+    private final Weighting weighting;
+
+    /** Sorted, so the sequence for a seed depends only on the offsets, not on the zone ID order. */
+    private final ZoneOffset[] offsets;
+
+    /**
+     * Creates a generator for the offsets currently in effect, weighted by zone count.
+     */
+    public ZoneOffsetGenerator() {
+        this(Instant.now(), Weighting.BY_ZONE_COUNT);
+    }
+
+    /**
+     * @param instant   the instant to resolve the offsets of all zones against
+     * @param weighting how likely each offset is drawn
+     * @throws NullPointerException if a parameter is null
+     */
+    public ZoneOffsetGenerator(Instant instant, Weighting weighting) {
+        this.instant = requireNonNull(instant, "instant must not be null");
+        this.weighting = requireNonNull(weighting, "weighting must not be null");
+        var resolved = ZoneCatalogue.zoneIds().stream()
+                .map(zone -> zone.getRules().getOffset(instant));
+        if (weighting == Weighting.UNIFORM) {
+            resolved = resolved.distinct();
+        }
+        this.offsets = resolved.sorted().toArray(ZoneOffset[]::new);
+    }
 
     @Override
     public ZoneOffset next() {
-        return LocalDateTime.now().atZone(ZONE_IDS_GEN.next()).getOffset();
+        return offsets[RandomContext.generator().nextInt(offsets.length)];
+    }
+
+    /**
+     * @return the distinct offsets this generator draws from, in descending order
+     */
+    public List<ZoneOffset> distinctOffsets() {
+        return Arrays.stream(offsets).distinct().toList();
     }
 
     @Override
@@ -17,8 +17,13 @@ package de.cuioss.test.generator.impl;
 
 import de.cuioss.test.generator.Generators;
 import de.cuioss.test.generator.TypedGenerator;
+import de.cuioss.test.generator.internal.RandomContext;
+import de.cuioss.test.generator.internal.ZoneCatalogue;
 
+import java.time.Instant;
+import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.List;
 
 import static de.cuioss.test.generator.Generators.integers;
 
@@ -30,8 +35,10 @@ import static de.cuioss.test.generator.Generators.integers;
  * <p>Features:</p>
  * <ul>
  *   <li>Generates valid ZonedDateTime instances</li>
- *   <li>Uses {@link Generators#dates()} for the date-time component</li>
- *   <li>Uses {@link Generators#zoneIds()} for the time zone component</li>
+ *   <li>Draws the instant like {@link Generators#dates()} does, without creating a {@link java.util.Date}</li>
+ *   <li>Draws the time zone from all available {@link ZoneId}s, like {@link Generators#zoneIds()},
+ *   loading them on first use</li>
+ *   <li>Creates no generator per value</li>
  *   <li>Provides utility methods for common test scenarios</li>
  *   <li>Thread-safe implementation</li>
  * </ul>
@@ -65,9 +72,14 @@ public class ZonedDateTimeGenerator implements TypedGenerator<ZonedDateTime> {
 
     private static final TypedGenerator<Integer> SOME_INT = integers(1, 10);
 
+    /** Same draws as {@link DateGenerator}. */
+    private static final LongGenerator EPOCH_MILLIS = new LongGenerator();
+
     @Override
     public ZonedDateTime next() {
-        return ZonedDateTime.ofInstant(Generators.dates().next().toInstant(), Generators.zoneIds().next());
+        var instant = Instant.ofEpochMilli(EPOCH_MILLIS.nextLong());
+        List<ZoneId> zoneIds = ZoneCatalogue.zoneIds();
+        return ZonedDateTime.ofInstant(instant, zoneIds.get(RandomContext.generator().nextInt(zoneIds.size())));
     }
 
     @Override
@@ -47,6 +47,14 @@
  *   <li>{@link de.cuioss.test.generator.impl.ShortObjectGenerator} - Short values across the full range</li>
  * </ul>
  * 
+ * <h3>Distribution Generators</h3>
+ * <ul>
+ *   <li>{@link de.cuioss.test.generator.impl.GaussianGenerator} - Normally distributed doubles via the ziggurat method</li>
+ *   <li>{@link de.cuioss.test.generator.impl.ExponentialGenerator} - Exponentially distributed doubles, e.g. for latencies</li>
+ *   <li>{@link de.cuioss.test.generator.impl.ZipfGenerator} - Zipf distributed ranks via rejection-inversion, e.g. for hot keys</li>
+ *   <li>{@link de.cuioss.test.generator.impl.HistogramGenerator} - Doubles following an empirical histogram, optionally loaded from a file</li>
+ * </ul>
+ *
  * <h3>String and URL Generators</h3>
  * <ul>
  *   <li>{@link de.cuioss.test.generator.impl.StringGenerator} - Configurable string generation with charset and length control</li>
@@ -57,7 +65,9 @@
  * <h3>Value Selection Generators</h3>
  * <ul>
  *   <li>{@link de.cuioss.test.generator.impl.FixedValuesGenerator} - Random selection from a fixed set of values</li>
+ *   <li>{@link de.cuioss.test.generator.impl.WeightedValuesGenerator} - Weighted selection from a fixed set of values via alias tables</li>
  *   <li>{@link de.cuioss.test.generator.impl.UniqueValuesGenerator} - Ensures unique values from a wrapped generator</li>
+ *   <li>{@link de.cuioss.test.generator.impl.UniqueRangeGenerator} - Returns every value of a numeric range once, without a seen-set</li>
  * </ul>
  *
  * <h3>Utility Generators</h3>
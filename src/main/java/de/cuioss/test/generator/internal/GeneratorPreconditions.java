@@ -0,0 +1,67 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.generator.internal;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Argument checks shared by the bulk methods of the generators, so that every
+ * {@link de.cuioss.test.generator.TypedGenerator#nextInto(Collection, int)} override and
+ * every count-taking method reports invalid arguments the same way.
+ *
+ * @author Oliver Wolff
+ * @since 3.1
+ */
+@UtilityClass
+public class GeneratorPreconditions {
+
+    /**
+     * @param name  the name of the parameter, used in the message
+     * @param count the count to check
+     * @return the given count
+     * @throws IllegalArgumentException if {@code count} is negative
+     */
+    public static long checkCount(String name, long count) {
+        if (count < 0) {
+            throw new IllegalArgumentException(name + " must be >= 0, given: " + count);
+        }
+        return count;
+    }
+
+    /**
+     * Checks the arguments of a {@code nextInto(target, n)} call and presizes {@link ArrayList}
+     * targets for {@code n} additional elements.
+     *
+     * @param target the target collection, must not be null
+     * @param n      the number of values to be added, must be {@code >= 0}
+     * @param <C>    the type of the target collection
+     * @return the given target
+     * @throws IllegalArgumentException if {@code n} is negative
+     */
+    public static <C extends Collection<?>> C prepareTarget(C target, int n) {
+        requireNonNull(target, "target must not be null");
+        checkCount("n", n);
+        if (target instanceof ArrayList<?> list) {
+            list.ensureCapacity(list.size() + n);
+        }
+        return target;
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.generator.internal;
+
+import de.cuioss.test.generator.TypedGenerator;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link Spliterator} drawing its elements from a {@link TypedGenerator}, backing
+ * {@link TypedGenerator#stream()} and {@link TypedGenerator#stream(long)}.
+ * <p>
+ * The elements are grouped into fixed blocks of {@value #BLOCK_SIZE}. Every block draws from
+ * its own {@code SplittableRandom}, seeded from a base seed and the block index. The base seed
+ * is taken from {@link RandomContext#generator()} when the spliterator is created. Therefore
+ * element {@code i} depends only on the seed in effect at creation and on {@code i}, never on
+ * the thread that computes it or on how the range was split: a parallel stream yields exactly
+ * the elements of the sequential one for the same seed.
+ * </p>
+ * <p>
+ * While a value is generated, {@link RandomContext#generator()} and
+ * {@link RandomContext#random()} answer from the block's generator on the computing thread,
+ * so any generator built on {@link RandomContext} participates without changes. Consumers
+ * always run outside of that scope. {@link #tryAdvance} generates exactly the requested
+ * element, so short-circuiting streams like {@code stream().limit(n)} never draw ahead of
+ * demand, which matters for finite and stateful generators. Only
+ * {@link #forEachRemaining} of a sized spliterator, which consumes every element up to its
+ * end anyway, generates the rest of a block at once inside a single scope. Generators that
+ * draw from other sources, or keep state across calls like
+ * {@link de.cuioss.test.generator.impl.UniqueValuesGenerator}, are only as deterministic as
+ * their own implementation.
+ * </p>
+ *
+ * @param <T> the type of the generated elements
+ * @author Oliver Wolff
+ * @since 3.1
+ */
+public final class GeneratorSpliterator<T> implements Spliterator<T> {
+
+    /** Number of elements sharing one derived random generator. */
+    static final int BLOCK_SIZE = 64;
+
+    /** Golden-ratio increment used to spread block indices over the seed space. */
+    private static final long GOLDEN_GAMMA = 0x9E37_79B9_7F4A_7C15L;
+
+    private final Supplier<T> supplier;
+    private final long baseSeed;
+    private final boolean sized;
+    private long index;
+    private final long fence;
+    /**
+     * Source of the block containing {@link #index}, advanced past the elements of the block
+     * before it; {@code null} until the block is reached.
+     */
+    private RandomContext.SeededSource blockSource;
+
+    private GeneratorSpliterator(Supplier<T> supplier, long baseSeed, long origin, long fence, boolean sized) {
+        this.supplier = supplier;
+        this.baseSeed = baseSeed;
+        this.index = origin;
+        this.fence = fence;
+        this.sized = sized;
+    }
+
+    /**
+     * Creates a spliterator providing exactly {@code size} elements.
+     *
+     * @param generator must not be null
+     * @param size      the number of elements, must be {@code >= 0}
+     * @param <T>       the type of the generated elements
+     * @return the spliterator
+     * @throws IllegalArgumentException if {@code size} is negative
+     */
+    public static <T> GeneratorSpliterator<T> of(TypedGenerator<T> generator, long size) {
+        requireNonNull(generator, "generator must not be null");
+        if (size < 0) {
+            throw new IllegalArgumentException("size must be >= 0, given: " + size);
+        }
+        return new GeneratorSpliterator<>(generator::next, RandomContext.generator().nextLong(), 0, size, true);
+    }
+
+    /**
+     * Creates a spliterator providing an unbounded number of elements.
+     *
+     * @param generator must not be null
+     * @param <T>       the type of the generated elements
+     * @return the spliterator
+     */
+    public static <T> GeneratorSpliterator<T> unbounded(TypedGenerator<T> generator) {
+        requireNonNull(generator, "generator must not be null");
+        return new GeneratorSpliterator<>(generator::next, RandomContext.generator().nextLong(), 0,
+                Long.MAX_VALUE, false);
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        requireNonNull(action);
+        if (index >= fence) {
+            return false;
+        }
+        var element = RandomContext.callWith(blockSource(), supplier);
+        index++;
+        action.accept(element);
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        requireNonNull(action);
+        if (!sized) {
+            // Unbounded: generate on demand, the consumer may stop at any time, e.g. by throwing
+            while (index < fence) {
+                tryAdvance(action);
+            }
+            return;
+        }
+        Object[] buffer = null;
+        while (index < fence) {
+            if (buffer == null) {
+                buffer = new Object[BLOCK_SIZE];
+            }
+            int count = fillBlock(buffer);
+            for (int i = 0; i < count; i++) {
+                action.accept(elementAt(buffer, i));
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T elementAt(Object[] buffer, int i) {
+        var element = (T) buffer[i];
+        buffer[i] = null;
+        return element;
+    }
+
+    /**
+     * Generates the rest of the block containing {@link #index} into the buffer, inside a
+     * single {@link RandomContext#callWith} scope, and advances past it. The consumer runs
+     * outside that scope, so whatever it draws from {@link RandomContext} cannot shift the
+     * elements.
+     *
+     * @return the number of generated elements
+     */
+    private int fillBlock(Object[] buffer) {
+        int count = (int) Math.min(BLOCK_SIZE - index % BLOCK_SIZE, fence - index);
+        RandomContext.callWith(blockSource(), () -> {
+            for (int i = 0; i < count; i++) {
+                buffer[i] = supplier.get();
+            }
+            return null;
+        });
+        index += count;
+        return count;
+    }
+
+    /**
+     * Returns the source of the block containing {@link #index}, creating it at the first
+     * element of a block.
+     */
+    private RandomContext.SeededSource blockSource() {
+        if (blockSource == null || index % BLOCK_SIZE == 0) {
+            blockSource = RandomContext.detachedSource(
+                    RandomContext.mix(baseSeed + (index / BLOCK_SIZE) * GOLDEN_GAMMA));
+        }
+        return blockSource;
+    }
+
+    /**
+     * Splits off the first half of the remaining blocks. Splits only happen at block
+     * boundaries, so every block is generated by exactly one spliterator; the source of a
+     * partially consumed block is handed over to the prefix.
+     */
+    @Override
+    public Spliterator<T> trySplit() {
+        long boundary = (index + BLOCK_SIZE - 1) / BLOCK_SIZE * BLOCK_SIZE;
+        long blocks = (fence - boundary) / BLOCK_SIZE;
+        if (boundary >= fence || blocks < 2) {
+            return null;
+        }
+        long mid = boundary + (blocks / 2) * BLOCK_SIZE;
+        var prefix = new GeneratorSpliterator<>(supplier, baseSeed, index, mid, sized);
+        prefix.blockSource = blockSource;
+        blockSource = null;
+        index = mid;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return sized ? ORDERED | IMMUTABLE | SIZED | SUBSIZED : ORDERED | IMMUTABLE;
+    }
+}
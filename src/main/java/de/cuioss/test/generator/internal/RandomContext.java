@@ -19,7 +19,13 @@ import lombok.experimental.UtilityClass;
 
 import java.util.Optional;
 import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
 
 /**
  * Manages the shared {@link Random} instance and seed state for all generators.
@@ -37,6 +43,29 @@ import java.util.logging.Logger;
  * property will be evaluated at start up. Calling {@link #setSeed(long)} will overwrite
  * this setting.
  * </p>
+ * <p>
+ * By default all threads draw from one shared {@link Random}. For parallel test execution
+ * the thread-local mode ({@link #THREAD_LOCAL_SYSTEM_PROPERTY} or
+ * {@link #setThreadLocal(boolean)}) gives every thread its own {@link RandomGenerator}:
+ * {@link #setSeed(long)} and {@link #initSeed()} then only affect the calling thread, and
+ * {@link #getLastSeed()} reports the seed of the calling thread. A thread that never had a
+ * seed applied derives one from the seed of the thread that started it and from the order
+ * in which the threads started there first draw: the first such thread gets the first
+ * derived seed, the second the second, and so on. So worker threads started inside a seeded
+ * test replay their values for the same seed, as long as they first draw in the same order.
+ * Threads that drew before the seed was applied, e.g. pooled threads created earlier, keep
+ * their generator and are not reproducible from that seed. Threads not started by a seeded
+ * thread derive from the last seed applied anywhere.
+ * </p>
+ * <p>
+ * The algorithm can be any {@link RandomGeneratorFactory} algorithm of the JDK, e.g.
+ * {@code L64X128MixRandom} or {@code Xoshiro256PlusPlus}, selected via
+ * {@link #ALGORITHM_SYSTEM_PROPERTY} or {@link #setSeed(long, String)}. Without a selection
+ * the shared mode uses {@link Random} and the thread-local mode {@code SplittableRandom}.
+ * A seed replays the same values only with the same algorithm. Apart from {@link Random}
+ * the JDK algorithms are not thread-safe, so use them with the thread-local mode when
+ * generating concurrently.
+ * </p>
  */
 @UtilityClass
 public class RandomContext {
@@ -47,30 +76,87 @@ public class RandomContext {
      */
     public static final String SEED_SYSTEM_PROPERTY = "de.cuioss.test.generator.seed";
 
+    /**
+     * System property ({@code de.cuioss.test.generator.threadLocal}) that, when set to
+     * {@code true}, enables the thread-local mode at start up.
+     */
+    public static final String THREAD_LOCAL_SYSTEM_PROPERTY = "de.cuioss.test.generator.threadLocal";
+
+    /**
+     * System property ({@code de.cuioss.test.generator.algorithm}) to select the
+     * {@link RandomGeneratorFactory} algorithm, e.g. {@code L64X128MixRandom}.
+     */
+    public static final String ALGORITHM_SYSTEM_PROPERTY = "de.cuioss.test.generator.algorithm";
+
+    /** The algorithm of the shared mode if none is selected. */
+    static final String SHARED_DEFAULT_ALGORITHM = "Random";
+
+    /** The algorithm of the thread-local mode if none is selected. */
+    static final String THREAD_LOCAL_DEFAULT_ALGORITHM = "SplittableRandom";
+
     private static final Logger LOGGER = Logger.getLogger(RandomContext.class.getName());
 
+    /** Golden-ratio increment used to spread derived thread seeds over the seed space. */
+    private static final long GOLDEN_GAMMA = 0x9E37_79B9_7F4A_7C15L;
+
     static final Random random = new Random(); // NOSONAR: not about cryptography
 
+    private static final ThreadLocal<SeededSource> THREAD_STATE = new ThreadLocal<>();
+
     /**
-     * The last seed applied to {@link #random}. Volatile so that concurrent readers
-     * always observe the value actually applied to the shared RNG.
+     * The seed threads derive their own from, see {@link #threadState()}. Inherited by
+     * threads started after the seed was applied, which then share the counter.
+     */
+    private static final InheritableThreadLocal<Derivation> DERIVATION = new InheritableThreadLocal<>();
+
+    /** The derivation of the last seed applied anywhere, for threads without an inherited one. */
+    private static volatile Derivation lastDerivation;
+
+    /**
+     * Sources installed by {@link #callWith(SeededSource, Supplier)}, taking precedence over
+     * both modes on the calling thread. Guarded by {@link #ACTIVE_SCOPES} so that the lookup
+     * is only paid while a scope is open on any thread.
+     */
+    private static final ThreadLocal<SeededSource> SCOPED_STATE = new ThreadLocal<>();
+
+    /** The number of {@link #callWith(SeededSource, Supplier)} scopes currently open. */
+    private static final AtomicInteger ACTIVE_SCOPES = new AtomicInteger();
+
+    private static volatile boolean threadLocal = Boolean.getBoolean(THREAD_LOCAL_SYSTEM_PROPERTY);
+
+    /**
+     * The last seed applied globally, i.e. to the shared source in shared mode or by any
+     * thread in thread-local mode. Volatile so that concurrent readers always observe the
+     * value actually applied.
      */
     static volatile long lastSeed;
 
+    /**
+     * The source used by all threads in shared mode. Replaced as a whole on re-seeding, so
+     * readers always see a consistent seed / algorithm / generator triple.
+     */
+    private static volatile SeededSource shared;
+
     /**
      * The seed configured via {@link #SEED_SYSTEM_PROPERTY}, or {@code null} if the
      * property is absent or malformed. Evaluated once at class initialization.
      */
     private static final Long CONFIGURED_SEED = readSystemProperty();
 
+    /**
+     * The algorithm configured via {@link #ALGORITHM_SYSTEM_PROPERTY}, or {@code null} if
+     * the property is absent or names an unknown algorithm.
+     */
+    private static final String CONFIGURED_ALGORITHM = readAlgorithmProperty();
+
     static {
-        if (CONFIGURED_SEED != null) {
-            setSeed(CONFIGURED_SEED);
-        } else {
-            // Capture a concrete seed up-front so getLastSeed() always reflects the
-            // actual state of the shared RNG (never the misleading default 0L).
-            setSeed(random.nextLong());
-        }
+        // Capture a concrete seed up-front so getLastSeed() always reflects the
+        // actual state of the shared RNG (never the misleading default 0L).
+        long seed = CONFIGURED_SEED != null ? CONFIGURED_SEED : random.nextLong();
+        // Needed in either mode: a JVM started in thread-local mode may switch to shared later
+        shared = new SeededSource(seed,
+                CONFIGURED_ALGORITHM != null ? CONFIGURED_ALGORITHM : SHARED_DEFAULT_ALGORITHM, true);
+        setSeed(seed);
     }
 
     /**
@@ -79,37 +165,113 @@ public class RandomContext {
      * @return the new seed value
      */
     public static long initSeed() {
-        long seed = random.nextLong();
+        long seed = generator().nextLong();
         setSeed(seed);
         return seed;
     }
 
     /**
-     * Sets the seed for the shared random number generator.
+     * Sets the seed for the random number generator, keeping the algorithm currently in
+     * effect. In thread-local mode only the generator of the calling thread is re-seeded.
      *
      * @param seed the seed value
      */
     public static void setSeed(long seed) {
+        setSeed(seed, currentAlgorithm());
+    }
+
+    /**
+     * Sets the seed and the algorithm for the random number generator. In thread-local
+     * mode only the generator of the calling thread is replaced.
+     *
+     * @param seed      the seed value
+     * @param algorithm the name of a {@link RandomGeneratorFactory} algorithm, or
+     *                  {@code null} for the configured default
+     * @throws IllegalArgumentException if the algorithm is unknown
+     */
+    public static void setSeed(long seed, String algorithm) {
+        var source = new SeededSource(seed, algorithm == null ? defaultAlgorithm() : algorithm);
         lastSeed = seed;
-        random.setSeed(seed);
+        var derivation = new Derivation(seed);
+        DERIVATION.set(derivation);
+        lastDerivation = derivation;
+        if (threadLocal) {
+            THREAD_STATE.set(source);
+        } else {
+            shared = source;
+        }
     }
 
     /**
-     * Returns the last seed that was set.
+     * Returns the last seed that was set. In thread-local mode this is the seed of the
+     * calling thread.
      *
      * @return the last seed value
      */
     public static long getLastSeed() {
+        if (threadLocal) {
+            return threadState().seed;
+        }
         return lastSeed;
     }
 
     /**
-     * Returns the shared {@link Random} instance used by all generators.
+     * Returns the name of the {@link RandomGeneratorFactory} algorithm in effect for the
+     * calling thread.
+     *
+     * @return the algorithm name, e.g. {@code Random} or {@code L64X128MixRandom}
+     */
+    public static String getAlgorithm() {
+        return source().algorithm;
+    }
+
+    /**
+     * Returns the algorithm configured via {@link #ALGORITHM_SYSTEM_PROPERTY}, if any.
+     *
+     * @return the configured algorithm, or an empty {@link Optional} if the property is
+     *         absent or names an unknown algorithm
+     */
+    public static Optional<String> getConfiguredAlgorithm() {
+        return Optional.ofNullable(CONFIGURED_ALGORITHM);
+    }
+
+    /**
+     * Returns the {@link RandomGenerator} to be used by generators on the calling thread:
+     * the shared generator in shared mode, or the thread's own generator in thread-local
+     * mode.
      *
-     * @return the shared random instance
+     * @return the random generator for the calling thread
+     */
+    public static RandomGenerator generator() {
+        return source().generator;
+    }
+
+    /**
+     * Returns the {@link Random} used by generators on the calling thread. Unless the
+     * shared mode runs the default algorithm, this is a view on the generator that does
+     * not support {@link Random#setSeed(long)}; prefer {@link #generator()}.
+     *
+     * @return the random instance for the calling thread
      */
     public static Random random() {
-        return random;
+        return source().view;
+    }
+
+    /**
+     * Switches between the shared and the thread-local mode. Per-thread state created
+     * earlier is kept, so switching back and forth does not rewind any thread.
+     *
+     * @param enabled {@code true} to give every thread its own generator
+     */
+    public static void setThreadLocal(boolean enabled) {
+        threadLocal = enabled;
+    }
+
+    /**
+     * @return {@code true} if every thread draws from its own generator
+     */
+    public static boolean isThreadLocal() {
+        return threadLocal;
     }
 
     /**
@@ -127,6 +289,151 @@ public class RandomContext {
         return Optional.ofNullable(CONFIGURED_SEED);
     }
 
+    private static SeededSource source() {
+        if (ACTIVE_SCOPES.get() > 0) {
+            var scoped = SCOPED_STATE.get();
+            if (scoped != null) {
+                return scoped;
+            }
+        }
+        return threadLocal ? threadState() : shared;
+    }
+
+    /**
+     * Creates a source for {@link #callWith(SeededSource, Supplier)} that is independent of
+     * the global state, see {@link GeneratorSpliterator}.
+     *
+     * @param seed the seed of the new {@code SplittableRandom}
+     * @return the new source
+     */
+    static SeededSource detachedSource(long seed) {
+        // Created per block of a stream: construct directly, without the factory's lookup
+        return new SeededSource(seed, THREAD_LOCAL_DEFAULT_ALGORITHM, new SplittableRandom(seed));
+    }
+
+    /**
+     * Runs the supplier with {@link #generator()} and {@link #random()} answering from the
+     * given source on the calling thread, restoring the previous state afterwards.
+     */
+    static <T> T callWith(SeededSource source, Supplier<T> supplier) {
+        var previous = SCOPED_STATE.get();
+        SCOPED_STATE.set(source);
+        ACTIVE_SCOPES.incrementAndGet();
+        try {
+            return supplier.get();
+        } finally {
+            ACTIVE_SCOPES.decrementAndGet();
+            if (previous == null) {
+                SCOPED_STATE.remove();
+            } else {
+                SCOPED_STATE.set(previous);
+            }
+        }
+    }
+
+    /**
+     * @return the number of {@link #callWith(SeededSource, Supplier)} scopes currently open
+     */
+    static int activeScopes() {
+        return ACTIVE_SCOPES.get();
+    }
+
+    private static SeededSource threadState() {
+        var state = THREAD_STATE.get();
+        if (state == null) {
+            var derivation = DERIVATION.get();
+            if (derivation == null) {
+                derivation = lastDerivation;
+            }
+            state = new SeededSource(derivation.nextSeed(), defaultAlgorithm());
+            THREAD_STATE.set(state);
+        }
+        return state;
+    }
+
+    private static String currentAlgorithm() {
+        var state = threadLocal ? THREAD_STATE.get() : shared;
+        return state == null ? defaultAlgorithm() : state.algorithm;
+    }
+
+    private static String defaultAlgorithm() {
+        if (CONFIGURED_ALGORITHM != null) {
+            return CONFIGURED_ALGORITHM;
+        }
+        return threadLocal ? THREAD_LOCAL_DEFAULT_ALGORITHM : SHARED_DEFAULT_ALGORITHM;
+    }
+
+    /**
+     * Stafford variant 13 of the MurmurHash3 finalizer, as used by
+     * {@link java.util.SplittableRandom}. Spreads the bits of the input over the whole
+     * {@code long}, e.g. to derive seeds or hash-table indices.
+     *
+     * @param z the value to mix
+     * @return the mixed value
+     */
+    public static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58_476D_1CE4_E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D0_49BB_1331_11EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * A generator together with the seed and algorithm it was created from. The default
+     * shared algorithm re-seeds the long-lived {@link #random} instance in place, so that
+     * {@link #random()} keeps returning the same object in the default configuration.
+     */
+    static final class SeededSource {
+
+        private final long seed;
+        private final String algorithm;
+        private final RandomGenerator generator;
+        private final Random view;
+
+        SeededSource(long seed, String algorithm) {
+            this(seed, algorithm, !threadLocal);
+        }
+
+        /**
+         * @param forShared whether the source serves the shared mode, whose default
+         *                  algorithm re-seeds the long-lived {@link #random} instance
+         */
+        SeededSource(long seed, String algorithm, boolean forShared) {
+            this.seed = seed;
+            this.algorithm = algorithm;
+            if (SHARED_DEFAULT_ALGORITHM.equals(algorithm) && forShared) {
+                random.setSeed(seed);
+                this.generator = random;
+            } else {
+                this.generator = RandomGeneratorFactory.of(algorithm).create(seed);
+            }
+            this.view = Random.from(generator);
+        }
+
+        SeededSource(long seed, String algorithm, RandomGenerator generator) {
+            this.seed = seed;
+            this.algorithm = algorithm;
+            this.generator = generator;
+            this.view = Random.from(generator);
+        }
+    }
+
+    /**
+     * A seed together with the number of threads that derived their own seed from it.
+     */
+    private static final class Derivation {
+
+        private final long seed;
+        private final AtomicLong threads = new AtomicLong();
+
+        Derivation(long seed) {
+            this.seed = seed;
+        }
+
+        long nextSeed() {
+            return mix(seed + threads.incrementAndGet() * GOLDEN_GAMMA);
+        }
+    }
+
     static Long readSystemProperty() {
         var seed = System.getProperty(SEED_SYSTEM_PROPERTY);
         if (seed == null) {
@@ -140,4 +447,20 @@ public class RandomContext {
             return null;
         }
     }
+
+    static String readAlgorithmProperty() {
+        var algorithm = System.getProperty(ALGORITHM_SYSTEM_PROPERTY);
+        if (algorithm == null || algorithm.isBlank()) {
+            return null;
+        }
+        var trimmed = algorithm.trim();
+        try {
+            RandomGeneratorFactory.of(trimmed);
+            return trimmed;
+        } catch (IllegalArgumentException e) {
+            LOGGER.warning(() -> "Ignoring unknown algorithm '" + algorithm + "' for system property '"
+                    + ALGORITHM_SYSTEM_PROPERTY + "'; falling back to the default algorithm.");
+            return null;
+        }
+    }
 }
@@ -0,0 +1,67 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.generator.internal;
+
+import lombok.experimental.UtilityClass;
+
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TimeZone;
+
+/**
+ * The time zones known to the JVM, shared by all zone-related generators.
+ * <p>
+ * Loading the zone database and resolving every zone takes tens of milliseconds, so each
+ * list lives in its own holder class and is built on first access only. Generators that
+ * never draw a zone, e.g. {@link de.cuioss.test.generator.Generators#integers()}, never pay
+ * for it.
+ * </p>
+ * <p>
+ * Both lists are immutable and sorted by ID, so a seeded draw by index selects the same zone
+ * regardless of the iteration order of {@link ZoneId#getAvailableZoneIds()}.
+ * </p>
+ *
+ * @author Oliver Wolff
+ * @since 3.1
+ */
+@UtilityClass
+public class ZoneCatalogue {
+
+    /**
+     * @return all available {@link ZoneId}s, sorted by ID
+     */
+    public static List<ZoneId> zoneIds() {
+        return ZoneIds.VALUES;
+    }
+
+    /**
+     * @return all available {@link TimeZone}s, sorted by ID
+     */
+    public static List<TimeZone> timeZones() {
+        return TimeZones.VALUES;
+    }
+
+    private static final class ZoneIds {
+        static final List<ZoneId> VALUES =
+                ZoneId.getAvailableZoneIds().stream().sorted().map(ZoneId::of).toList();
+    }
+
+    private static final class TimeZones {
+        static final List<TimeZone> VALUES =
+                Arrays.stream(TimeZone.getAvailableIDs()).sorted().map(TimeZone::getTimeZone).toList();
+    }
+}
@@ -16,7 +16,10 @@
 
 /**
  * Internal infrastructure for the test generator framework.
- * Contains {@link de.cuioss.test.generator.internal.RandomContext} for seed management.
+ * Contains {@link de.cuioss.test.generator.internal.RandomContext} for seed management,
+ * {@link de.cuioss.test.generator.internal.ZoneCatalogue}, the lazily loaded time zones, and
+ * {@link de.cuioss.test.generator.internal.GeneratorPreconditions}, the argument checks shared
+ * by the bulk methods.
  * <p>
  * <em>This package is not part of the public API.</em>
  * </p>
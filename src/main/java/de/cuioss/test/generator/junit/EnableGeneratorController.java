@@ -66,6 +66,16 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
  *   <li>System Property: {@code -Dde.cuioss.test.generator.seed=4711}</li>
  * </ol>
  *
+ * <h2>Random Algorithm</h2>
+ * The {@link java.util.random.RandomGeneratorFactory} algorithm can be selected per test class
+ * via {@link #algorithm()}, or for the whole JVM via
+ * {@code -Dde.cuioss.test.generator.algorithm=L64X128MixRandom}. A seed replays the same values
+ * only with the same algorithm.
+ * <pre>
+ * &#64;EnableGeneratorController(algorithm = "Xoshiro256PlusPlus")
+ * class MyFastGeneratorTest { ... }
+ * </pre>
+ *
  * @author Oliver Wolff
  * @see GeneratorControllerExtension
  * @see GeneratorSeed
@@ -75,4 +85,12 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
 @ExtendWith(GeneratorControllerExtension.class)
 public @interface EnableGeneratorController {
 
+    /**
+     * The name of the {@link java.util.random.RandomGeneratorFactory} algorithm to use for the
+     * annotated test class, e.g. {@code L64X128MixRandom}, {@code Xoshiro256PlusPlus} or
+     * {@code SplittableRandom}.
+     *
+     * @return the algorithm name, or an empty string for the configured default
+     */
+    String algorithm() default "";
 }
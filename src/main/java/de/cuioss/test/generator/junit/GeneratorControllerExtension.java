@@ -64,6 +64,9 @@ import java.util.Optional;
  *   <li>System property {@code de.cuioss.test.generator.seed}</li>
  *   <li>Random seed (if no configuration present)</li>
  * </ol>
+ * The random algorithm is taken from {@link EnableGeneratorController#algorithm()} or the
+ * system property {@code de.cuioss.test.generator.algorithm}, and is reported alongside the
+ * seed when explicitly selected.
  *
  * <h2>Failure Handling</h2>
  * On test failure, provides a detailed message with:
@@ -72,6 +75,9 @@ import java.util.Optional;
  *   <li>The seed used for test data generation</li>
  *   <li>Instructions for test reproduction</li>
  * </ul>
+ * The seed applied in {@link #beforeEach(ExtensionContext)} is recorded in the test's
+ * {@link ExtensionContext.Store}, so the reported seed is the one of the failing test even
+ * when tests run in parallel (see {@link RandomContext#THREAD_LOCAL_SYSTEM_PROPERTY}).
  *
  * @author Oliver Wolff
  * @see EnableGeneratorController
@@ -80,6 +86,18 @@ import java.util.Optional;
  */
 public class GeneratorControllerExtension implements BeforeEachCallback, TestExecutionExceptionHandler {
 
+    private static final ExtensionContext.Namespace NAMESPACE =
+            ExtensionContext.Namespace.create(GeneratorControllerExtension.class);
+
+    private static final String SEED_KEY = "seed";
+
+    private static final String ALGORITHM_KEY = "algorithm";
+
+    private static final String ALGORITHM_MSG_TEMPLATE = """
+            The seed replays only with the random algorithm '%s', \
+            e.g. via the system property '-D\
+            """ + RandomContext.ALGORITHM_SYSTEM_PROPERTY + "=%s'\n";
+
     private static final String MSG_TEMPLATE = """
             %s
             GeneratorController seed was %sL.\s
@@ -93,9 +111,10 @@ public class GeneratorControllerExtension implements BeforeEachCallback, TestExe
         if (throwable instanceof TestAbortedException) {
             throw throwable;
         }
-        var seed = RandomContext.getLastSeed();
+        var seed = resolveTestSeed(context);
+        var algorithm = resolveTestAlgorithm(context).orElse(null);
         if (throwable instanceof AssertionFailedError afe) {
-            var message = createErrorMessage(afe, seed);
+            var message = createErrorMessage(afe, seed, algorithm);
             AssertionFailedError failure;
             if (afe.isExpectedDefined() || afe.isActualDefined()) {
                 failure = new AssertionFailedError(message, unwrap(afe.getExpected()), unwrap(afe.getActual()), afe);
@@ -106,7 +125,7 @@ public class GeneratorControllerExtension implements BeforeEachCallback, TestExe
             throw failure;
         }
         var failure = new AssertionFailedError(
-                throwable.getClass().getName() + ": " + createErrorMessage(throwable, seed), throwable);
+                throwable.getClass().getName() + ": " + createErrorMessage(throwable, seed, algorithm), throwable);
         copyTrace(throwable, failure);
         throw failure;
     }
@@ -124,20 +143,80 @@ public class GeneratorControllerExtension implements BeforeEachCallback, TestExe
 
     @Override
     public void beforeEach(ExtensionContext context) {
+        long seed;
         var seedAnnotation = findSeedAnnotation(context);
         if (seedAnnotation.isPresent()) {
-            RandomContext.setSeed(seedAnnotation.get().value());
+            seed = seedAnnotation.get().value();
         } else {
             // Honor the replay system property as the per-test seed so that re-running
             // with -D<property>=<seed> reproduces a single failing test; otherwise draw
             // a fresh random seed.
-            var configuredSeed = RandomContext.getConfiguredSeed();
-            if (configuredSeed.isPresent()) {
-                RandomContext.setSeed(configuredSeed.get());
-            } else {
-                RandomContext.initSeed();
+            seed = RandomContext.getConfiguredSeed()
+                    .orElseGet(() -> RandomContext.generator().nextLong());
+        }
+        // Always pass the algorithm, so a class-level selection does not leak into later classes
+        var algorithm = findAlgorithm(context).or(RandomContext::getConfiguredAlgorithm);
+        RandomContext.setSeed(seed, algorithm.orElse(null));
+
+        var store = context.getStore(NAMESPACE);
+        store.put(SEED_KEY, seed);
+        algorithm.ifPresent(name -> store.put(ALGORITHM_KEY, name));
+    }
+
+    /**
+     * Resolves the algorithm requested via {@link EnableGeneratorController#algorithm()} on
+     * the closest annotated class, walking outward like {@link #findSeedAnnotation}.
+     *
+     * @param context the extension context
+     * @return the requested algorithm, or empty if none is requested
+     */
+    private static Optional<String> findAlgorithm(ExtensionContext context) {
+        for (Optional<ExtensionContext> current = Optional.ofNullable(context);
+             current.isPresent();
+             current = current.get().getParent()) {
+            var element = current.get().getElement();
+            if (element.isPresent()) {
+                var found = AnnotationSupport.findAnnotation(element.get(), EnableGeneratorController.class);
+                if (found.isPresent() && !found.get().algorithm().isBlank()) {
+                    return Optional.of(found.get().algorithm().trim());
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Resolves the explicitly selected algorithm of the current test, falling back to
+     * {@link RandomContext#getConfiguredAlgorithm()}.
+     *
+     * @param context the extension context, may be {@code null}
+     * @return the selected algorithm, or empty if the default algorithm is in use
+     */
+    private static Optional<String> resolveTestAlgorithm(ExtensionContext context) {
+        if (context != null) {
+            var recorded = context.getStore(NAMESPACE).get(ALGORITHM_KEY, String.class);
+            if (recorded != null) {
+                return Optional.of(recorded);
             }
         }
+        return RandomContext.getConfiguredAlgorithm();
+    }
+
+    /**
+     * Resolves the seed applied for the current test, falling back to
+     * {@link RandomContext#getLastSeed()} if none was recorded.
+     *
+     * @param context the extension context, may be {@code null}
+     * @return the seed to report
+     */
+    private static long resolveTestSeed(ExtensionContext context) {
+        if (context != null) {
+            var recorded = context.getStore(NAMESPACE).get(SEED_KEY, Long.class);
+            if (recorded != null) {
+                return recorded;
+            }
+        }
+        return RandomContext.getLastSeed();
     }
 
     /**
@@ -163,9 +242,13 @@ public class GeneratorControllerExtension implements BeforeEachCallback, TestExe
         return Optional.empty();
     }
 
-    private String createErrorMessage(Throwable e, Long seed) {
+    private String createErrorMessage(Throwable e, Long seed, String algorithm) {
         var causeMsg = e.getMessage() == null ? "" : e.getMessage();
-        return MSG_TEMPLATE.formatted(causeMsg, seed, seed, seed);
+        var message = MSG_TEMPLATE.formatted(causeMsg, seed, seed, seed);
+        if (algorithm == null) {
+            return message;
+        }
+        return message + ALGORITHM_MSG_TEMPLATE.formatted(algorithm, algorithm);
     }
 
 }
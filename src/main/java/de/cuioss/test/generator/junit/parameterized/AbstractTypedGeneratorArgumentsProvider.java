@@ -15,8 +15,11 @@
  */
 package de.cuioss.test.generator.junit.parameterized;
 
+import de.cuioss.test.generator.StatefulGenerator;
 import de.cuioss.test.generator.TypedGenerator;
+import de.cuioss.test.generator.impl.DecoratorGenerator;
 import de.cuioss.test.generator.internal.RandomContext;
+import de.cuioss.test.generator.junit.EnableGeneratorController;
 import de.cuioss.test.generator.junit.GeneratorSeed;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.params.provider.Arguments;
@@ -30,6 +33,8 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import static java.util.Objects.requireNonNull;
@@ -43,6 +48,10 @@ import static java.util.Objects.requireNonNull;
  */
 public abstract class AbstractTypedGeneratorArgumentsProvider implements ArgumentsProvider {
 
+    /** Namespace of the generators cached in the root {@link ExtensionContext.Store}. */
+    static final ExtensionContext.Namespace GENERATOR_CACHE =
+            ExtensionContext.Namespace.create(AbstractTypedGeneratorArgumentsProvider.class, "generators");
+
     /**
      * Provides arguments for the parameterized test.
      *
@@ -59,7 +68,9 @@ public abstract class AbstractTypedGeneratorArgumentsProvider implements Argumen
         // unconditionally, so that reproducibility never depends on what earlier tests
         // happened to consume from the shared RNG.
         var explicitSeed = resolveExplicitSeed(context);
-        explicitSeed.ifPresent(RandomContext::setSeed);
+        if (explicitSeed.isPresent()) {
+            RandomContext.setSeed(explicitSeed.getAsLong(), resolveAlgorithm(context).orElse(null));
+        }
 
         try {
             return provideArgumentsForGenerators(context);
@@ -97,11 +108,16 @@ public abstract class AbstractTypedGeneratorArgumentsProvider implements Argumen
     protected abstract int getCount();
 
     /**
-     * Generates arguments from a TypedGenerator.
+     * Generates arguments from a TypedGenerator, drawing all {@link #getCount()} values
+     * with consecutive {@link TypedGenerator#next()} calls up front.
      *
      * @param generator the generator to use
      * @return a list of Arguments
+     * @deprecated since 3.1: keeps every value in memory for the whole test. Use
+     * {@link #streamArguments(TypedGenerator)}, note that it yields different values for the
+     * same seed.
      */
+    @Deprecated(since = "3.1")
     protected List<Arguments> generateArguments(TypedGenerator<?> generator) {
         List<Arguments> arguments = new ArrayList<>();
         for (int i = 0; i < getCount(); i++) {
@@ -110,6 +126,70 @@ public abstract class AbstractTypedGeneratorArgumentsProvider implements Argumen
         return arguments;
     }
 
+    /**
+     * Streams arguments from a TypedGenerator. The stream is lazy: every value is drawn
+     * when JUnit consumes its {@link Arguments}, so even a large count holds only the
+     * current value in memory.
+     * <p>
+     * The stream takes its base seed from {@link RandomContext} when this method is called,
+     * i.e. while a seed applied by {@link #provideArguments} is still in effect. Value
+     * {@code i} depends only on that seed and on {@code i}, see
+     * {@link TypedGenerator#spliterator(long)}, so neither restoring the seed afterwards nor
+     * other consumers of {@link RandomContext} during the test change the sequence.
+     * </p>
+     *
+     * @param generator the generator to use
+     * @return a stream of {@link #getCount()} Arguments
+     */
+    protected Stream<Arguments> streamArguments(TypedGenerator<?> generator) {
+        return generator.stream(getCount()).map(Arguments::of);
+    }
+
+    /**
+     * Returns the generator cached under the given key in the root {@link ExtensionContext.Store},
+     * creating and caching it on first use. Every test declaring the same generator attributes
+     * therefore shares one instance for the whole test run, instead of creating it reflectively
+     * per test method.
+     * <p>
+     * The factory is called directly, and the result not cached, if {@code cache} is
+     * {@code false} or if there is no context. A generator known to be stateful, i.e. a
+     * {@link StatefulGenerator} or a {@link DecoratorGenerator} wrapping one, is not cached
+     * either: the key then records that every use creates its own instance.
+     * </p>
+     *
+     * @param context the extension context, may be {@code null}
+     * @param cache   whether the generator may be cached, usually the annotation's
+     *                {@code cacheGenerator} attribute
+     * @param key     all attributes determining the generator, including the annotation type;
+     *                must implement {@code equals} and {@code hashCode}
+     * @param factory creates the generator
+     * @return the cached or newly created generator
+     */
+    @SuppressWarnings("java:S1452") // This wildcard is because of the TypedGenerator interface. Ok for testing
+    protected TypedGenerator<?> getOrCreateGenerator(ExtensionContext context, boolean cache, List<?> key,
+            Supplier<? extends TypedGenerator<?>> factory) {
+        if (!cache || context == null) {
+            return factory.get();
+        }
+        var store = context.getRoot().getStore(GENERATOR_CACHE);
+        // The instance created by this call is handed to this caller, even if stateful
+        var created = new AtomicReference<TypedGenerator<?>>();
+        Optional<?> cached = store.computeIfAbsent(key, k -> {
+            var generator = factory.get();
+            created.set(generator);
+            return isStateful(generator) ? Optional.empty() : Optional.of(generator);
+        }, Optional.class);
+        if (created.get() != null) {
+            return created.get();
+        }
+        return cached.isPresent() ? (TypedGenerator<?>) cached.get() : factory.get();
+    }
+
+    private static boolean isStateful(TypedGenerator<?> generator) {
+        return generator instanceof StatefulGenerator<?>
+                || generator instanceof DecoratorGenerator<?> decorator && isStateful(decorator.getDecorator());
+    }
+
     /**
      * Resolves an explicitly requested seed, based on the following priority:
      * <ol>
@@ -152,6 +232,35 @@ public abstract class AbstractTypedGeneratorArgumentsProvider implements Argumen
         return OptionalLong.empty();
     }
 
+    /**
+     * Resolves the random algorithm requested via
+     * {@link EnableGeneratorController#algorithm()} on the closest annotated class, falling
+     * back to {@link RandomContext#getConfiguredAlgorithm()}. An explicit seed is applied
+     * together with this algorithm, so that it replays the same values as in the test itself.
+     *
+     * The declaring class of the current element and its enclosing classes (covering
+     * {@code @Nested} tests) are searched.
+     *
+     * @param context the extension context
+     * @return the requested algorithm, or empty for the default algorithm
+     */
+    protected Optional<String> resolveAlgorithm(ExtensionContext context) {
+        var element = context == null ? null : context.getElement().orElse(null);
+        Class<?> type = null;
+        if (element instanceof Method method) {
+            type = method.getDeclaringClass();
+        } else if (element instanceof Class<?> clazz) {
+            type = clazz;
+        }
+        for (; type != null; type = type.getEnclosingClass()) {
+            var found = AnnotationSupport.findAnnotation(type, EnableGeneratorController.class);
+            if (found.isPresent() && !found.get().algorithm().isBlank()) {
+                return Optional.of(found.get().algorithm().trim());
+            }
+        }
+        return RandomContext.getConfiguredAlgorithm();
+    }
+
     /**
      * Determines the seed to use for the generator, falling back to the current global
      * seed from {@link RandomContext} when no explicit seed was requested.
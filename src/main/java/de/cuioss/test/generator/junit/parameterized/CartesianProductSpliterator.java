@@ -0,0 +1,121 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.generator.junit.parameterized;
+
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.platform.commons.JUnitException;
+
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link Spliterator} over the cartesian product of per-parameter value lists, creating
+ * every {@link Arguments} only when it is pulled.
+ * <p>
+ * Combination {@code i} is decoded from its index like a mixed-radix number whose last
+ * digit belongs to the last list, so the last parameter varies fastest, matching a nested
+ * loop over the lists in declaration order. Only the value lists are held, so memory stays
+ * proportional to the sum of their sizes instead of their product.
+ * </p>
+ *
+ * @author Oliver Wolff
+ * @since 3.1
+ */
+final class CartesianProductSpliterator implements Spliterator<Arguments> {
+
+    private final List<List<Object>> values;
+    private long index;
+    private final long fence;
+
+    private CartesianProductSpliterator(List<List<Object>> values, long origin, long fence) {
+        this.values = values;
+        this.index = origin;
+        this.fence = fence;
+    }
+
+    /**
+     * @param values the values per parameter, must not be null; the lists must not change
+     *               while the spliterator is in use
+     * @return a spliterator over all combinations
+     * @throws JUnitException if the number of combinations exceeds {@link Long#MAX_VALUE}
+     */
+    static CartesianProductSpliterator of(List<List<Object>> values) {
+        requireNonNull(values, "values must not be null");
+        long size = values.isEmpty() ? 0 : 1;
+        for (List<Object> list : values) {
+            try {
+                size = Math.multiplyExact(size, list.size());
+            } catch (ArithmeticException e) {
+                throw new JUnitException("Cartesian product of " + values.size()
+                        + " value lists exceeds " + Long.MAX_VALUE + " combinations", e);
+            }
+        }
+        return new CartesianProductSpliterator(values, 0, size);
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super Arguments> action) {
+        requireNonNull(action);
+        if (index >= fence) {
+            return false;
+        }
+        action.accept(decode(index++));
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super Arguments> action) {
+        requireNonNull(action);
+        while (index < fence) {
+            action.accept(decode(index++));
+        }
+    }
+
+    private Arguments decode(long combination) {
+        var args = new Object[values.size()];
+        long remainder = combination;
+        for (int position = args.length - 1; position >= 0; position--) {
+            List<Object> list = values.get(position);
+            args[position] = list.get((int) (remainder % list.size()));
+            remainder /= list.size();
+        }
+        return Arguments.of(args);
+    }
+
+    @Override
+    public Spliterator<Arguments> trySplit() {
+        long mid = index + (fence - index) / 2;
+        if (mid <= index) {
+            return null;
+        }
+        var prefix = new CartesianProductSpliterator(values, index, mid);
+        index = mid;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | IMMUTABLE | NONNULL | SIZED | SUBSIZED;
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.generator.junit.parameterized;
+
+/**
+ * Defines how {@link CompositeTypeGeneratorSource} combines the values of its generators into
+ * test invocations. With {@code k} generators producing {@code count} values each:
+ * <ul>
+ *   <li>{@link #CARTESIAN_PRODUCT} yields {@code count^k} invocations, covering every combination</li>
+ *   <li>{@link #ONE_TO_ONE} yields {@code count} invocations, covering no interaction</li>
+ *   <li>{@link #PAIRWISE} and {@link #T_WAY} yield a covering array: every combination of values of
+ *   any {@code t} parameters occurs in at least one invocation, typically with roughly
+ *   {@code count^t * log(k)} invocations</li>
+ * </ul>
+ *
+ * <p><em>Example usage:</em></p>
+ * <pre>
+ * {@code
+ * @ParameterizedTest
+ * @CompositeTypeGeneratorSource(
+ *     generators = {GeneratorType.NON_EMPTY_STRINGS, GeneratorType.INTEGERS, GeneratorType.BOOLEANS,
+ *         GeneratorType.LOCAL_DATES},
+ *     count = 10,
+ *     combinationStrategy = CombinationStrategy.PAIRWISE
+ * )
+ * void testPairs(String text, Integer number, Boolean flag, LocalDate date) {
+ *     // about 130 invocations instead of 10000
+ * }
+ * }
+ * </pre>
+ *
+ * @author Oliver Wolff
+ * @since 3.1
+ * @see CompositeTypeGeneratorSource#combinationStrategy()
+ */
+public enum CombinationStrategy {
+
+    /**
+     * Follows {@link CompositeTypeGeneratorSource#cartesianProduct()}: {@link #CARTESIAN_PRODUCT}
+     * if it is {@code true}, {@link #ONE_TO_ONE} otherwise.
+     */
+    DEFAULT,
+
+    /** Every combination of all generated values. */
+    CARTESIAN_PRODUCT,
+
+    /** The {@code i}-th values of all generators form the {@code i}-th invocation. */
+    ONE_TO_ONE,
+
+    /** Every pair of values of any two parameters occurs at least once; t-way with {@code t = 2}. */
+    PAIRWISE,
+
+    /**
+     * Every combination of values of any {@link CompositeTypeGeneratorSource#strength()}
+     * parameters occurs at least once.
+     */
+    T_WAY
+}
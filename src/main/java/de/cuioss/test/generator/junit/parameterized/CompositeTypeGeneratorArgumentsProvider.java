@@ -24,6 +24,7 @@ import org.junit.platform.commons.JUnitException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Implementation of {@link org.junit.jupiter.params.provider.ArgumentsProvider} that provides arguments from multiple
@@ -54,6 +55,8 @@ public class CompositeTypeGeneratorArgumentsProvider extends AbstractTypedGenera
     private GeneratorType[] generators;
     private int count;
     private boolean cartesianProduct;
+    private CombinationStrategy combinationStrategy;
+    private int strength;
 
     @Override
     public void accept(CompositeTypeGeneratorSource annotation) {
@@ -62,6 +65,8 @@ public class CompositeTypeGeneratorArgumentsProvider extends AbstractTypedGenera
         generators = annotation.generators();
         count = Math.max(1, annotation.count());
         cartesianProduct = annotation.cartesianProduct();
+        combinationStrategy = annotation.combinationStrategy();
+        strength = annotation.strength();
     }
 
     @Override
@@ -69,6 +74,9 @@ public class CompositeTypeGeneratorArgumentsProvider extends AbstractTypedGenera
         if (generatorClasses.length == 0 && generatorMethods.length == 0 && generators.length == 0) {
             throw new JUnitException("At least one generator class, method, or type must be specified");
         }
+        if (combinationStrategy == CombinationStrategy.T_WAY && strength < 2) {
+            throw new JUnitException("strength must be >= 2 for T_WAY, given: " + strength);
+        }
 
         // Create generator instances
         List<TypedGenerator<?>> generatorInstances = new ArrayList<>();
@@ -91,11 +99,7 @@ public class CompositeTypeGeneratorArgumentsProvider extends AbstractTypedGenera
         // Generate values from each generator
         List<List<Object>> generatedValues = new ArrayList<>();
         for (TypedGenerator<?> generator : generatorInstances) {
-            List<Object> values = new ArrayList<>();
-            for (int i = 0; i < count; i++) {
-                values.add(generator.next());
-            }
-            generatedValues.add(values);
+            generatedValues.add(generator.nextInto(new ArrayList<>(count), count));
         }
 
         // Create combinations of values
@@ -123,45 +127,47 @@ public class CompositeTypeGeneratorArgumentsProvider extends AbstractTypedGenera
             return Stream.empty();
         }
 
-        if (cartesianProduct) {
-            return createCartesianProduct(generatedValues);
-        } else {
-            return createOneToOnePairs(generatedValues);
+        var strategy = combinationStrategy;
+        if (strategy == CombinationStrategy.DEFAULT) {
+            strategy = cartesianProduct ? CombinationStrategy.CARTESIAN_PRODUCT : CombinationStrategy.ONE_TO_ONE;
         }
+        return switch (strategy) {
+            case CARTESIAN_PRODUCT, DEFAULT -> createCartesianProduct(generatedValues);
+            case ONE_TO_ONE -> createOneToOnePairs(generatedValues);
+            case PAIRWISE -> createCoveringArray(generatedValues, 2);
+            case T_WAY -> createCoveringArray(generatedValues, strength);
+        };
     }
 
     /**
-     * Creates a cartesian product of all generated values.
+     * Creates a cartesian product of all generated values. The combinations are decoded
+     * lazily, one per pulled {@link Arguments}, so none of them is held in memory.
      * 
      * @param generatedValues lists of values from each generator
      * @return a stream of Arguments with all possible combinations
      */
     private Stream<Arguments> createCartesianProduct(List<List<Object>> generatedValues) {
-        // Start with a single empty list
-        List<List<Object>> combinations = new ArrayList<>();
-        combinations.add(new ArrayList<>());
-
-        // For each list of generated values
-        for (List<Object> values : generatedValues) {
-            List<List<Object>> newCombinations = new ArrayList<>();
-
-            // For each existing combination
-            for (List<Object> combination : combinations) {
-                // For each value in the current list
-                for (Object value : values) {
-                    // Create a new combination by adding the value to the existing combination
-                    List<Object> newCombination = new ArrayList<>(combination);
-                    newCombination.add(value);
-                    newCombinations.add(newCombination);
-                }
-            }
-
-            combinations = newCombinations;
-        }
+        return StreamSupport.stream(CartesianProductSpliterator.of(generatedValues), false);
+    }
 
-        // Convert combinations to Arguments
-        return combinations.stream()
-                .map(combination -> Arguments.of(combination.toArray()));
+    /**
+     * Creates a covering array of the generated values: every combination of values of any
+     * {@code strength} generators occurs in at least one of the returned Arguments.
+     * 
+     * @param generatedValues lists of values from each generator
+     * @param strength the interaction strength, {@code >= 2}
+     * @return a stream of Arguments covering all {@code strength}-way combinations
+     */
+    private Stream<Arguments> createCoveringArray(List<List<Object>> generatedValues, int strength) {
+        int[] sizes = generatedValues.stream().mapToInt(List::size).toArray();
+        return CoveringArray.build(sizes, strength).stream()
+                .map(row -> {
+                    Object[] args = new Object[row.length];
+                    for (int i = 0; i < row.length; i++) {
+                        args[i] = generatedValues.get(i).get(row[i]);
+                    }
+                    return Arguments.of(args);
+                });
     }
 
     /**
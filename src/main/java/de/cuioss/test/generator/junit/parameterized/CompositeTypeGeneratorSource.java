@@ -97,6 +97,21 @@ import java.lang.annotation.Target;
  * static TypedGenerator<Integer> createIntegerGenerator() {
  *     return Generators.integers(1, 100);
  * }
+ * 
+ * // Covering every pair of values instead of every combination
+ * @ParameterizedTest
+ * @CompositeTypeGeneratorSource(
+ *     generators = {
+ *         GeneratorType.NON_EMPTY_STRINGS,
+ *         GeneratorType.INTEGERS,
+ *         GeneratorType.LOCAL_DATES
+ *     },
+ *     count = 5,
+ *     combinationStrategy = CombinationStrategy.PAIRWISE
+ * )
+ * void testPairwise(String text, Integer number, LocalDate date) {
+ *     // 25 invocations instead of 125
+ * }
  * }
  * </pre>
  * 
@@ -105,6 +120,7 @@ import java.lang.annotation.Target;
  * @see TypedGenerator
  * @see CompositeTypeGeneratorArgumentsProvider
  * @see GeneratorType
+ * @see CombinationStrategy
  */
 @Target({ElementType.METHOD})
 @Retention(RetentionPolicy.RUNTIME)
@@ -140,9 +156,9 @@ public @interface CompositeTypeGeneratorSource {
     GeneratorType[] generators() default {};
 
     /**
-     * Number of combinations to generate.
+     * Number of values to generate per generator.
      * For each generator, this many values will be generated and combined
-     * in a cartesian product with values from other generators.
+     * with the values from the other generators as defined by {@link #combinationStrategy()}.
      * 
      * @return the number of values to generate per generator, defaults to 1
      */
@@ -153,9 +169,30 @@ public @interface CompositeTypeGeneratorSource {
      * If true, all possible combinations of values from the generators will be created.
      * If false, generators will be paired one-to-one (requires all generators to produce
      * the same number of values).
+     * Only used if {@link #combinationStrategy()} is {@link CombinationStrategy#DEFAULT}.
      * 
      * @return true to generate a cartesian product, false for one-to-one pairing
      */
     boolean cartesianProduct() default true;
 
+    /**
+     * How the generated values are combined. {@link CombinationStrategy#PAIRWISE} and
+     * {@link CombinationStrategy#T_WAY} cover every interaction of two, respectively
+     * {@link #strength()}, parameters with far fewer invocations than the cartesian product.
+     * 
+     * @return the combination strategy, defaults to {@link CombinationStrategy#DEFAULT},
+     *         which follows {@link #cartesianProduct()}
+     */
+    CombinationStrategy combinationStrategy() default CombinationStrategy.DEFAULT;
+
+    /**
+     * The interaction strength {@code t} for {@link CombinationStrategy#T_WAY}: every combination
+     * of values of any {@code t} parameters occurs in at least one invocation. Must be
+     * {@code >= 2}; a strength of at least the number of generators yields the cartesian product.
+     * Ignored by the other strategies.
+     * 
+     * @return the interaction strength, defaults to 3
+     */
+    int strength() default 3;
+
 }
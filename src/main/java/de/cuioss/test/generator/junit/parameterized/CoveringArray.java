@@ -0,0 +1,250 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.generator.junit.parameterized;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Builds t-way covering arrays with the IPOG strategy (In-Parameter-Order-General, Lei et al.).
+ * A covering array of strength {@code t} is a set of rows, each selecting one value index per
+ * parameter, such that every combination of values of any {@code t} parameters occurs in at
+ * least one row.
+ * <p>
+ * The array starts as the cartesian product of the first {@code t} parameters. Every further
+ * parameter is then added in two greedy steps: horizontal growth assigns each existing row the
+ * value covering the most still uncovered tuples, and vertical growth adds rows for the tuples
+ * left over, filling positions that are still open in rows added before. Positions left open
+ * at the end are filled round-robin. The result depends only on the sizes and the strength,
+ * so it is reproducible.
+ * </p>
+ *
+ * @author Oliver Wolff
+ * @since 3.1
+ */
+final class CoveringArray {
+
+    private static final int DONT_CARE = -1;
+
+    private CoveringArray() {
+    }
+
+    /**
+     * @param sizes    the number of values per parameter, each must be {@code >= 1}
+     * @param strength the interaction strength {@code t}, must be {@code >= 2}; a strength
+     *                 of at least the number of parameters yields the cartesian product
+     * @return the rows, each holding one value index per parameter
+     * @throws IllegalArgumentException if the strength or a size is out of range
+     */
+    static List<int[]> build(int[] sizes, int strength) {
+        if (strength < 2) {
+            throw new IllegalArgumentException("strength must be >= 2, given: " + strength);
+        }
+        for (int size : sizes) {
+            if (size < 1) {
+                throw new IllegalArgumentException("sizes must be >= 1, given: " + size);
+            }
+        }
+        List<int[]> rows = new ArrayList<>();
+        if (sizes.length == 0) {
+            return rows;
+        }
+        int t = Math.min(strength, sizes.length);
+        addProduct(rows, sizes, t);
+        for (int parameter = t; parameter < sizes.length; parameter++) {
+            new Extension(rows, sizes, t, parameter).run();
+        }
+        for (int r = 0; r < rows.size(); r++) {
+            var row = rows.get(r);
+            for (int p = 0; p < row.length; p++) {
+                if (row[p] == DONT_CARE) {
+                    row[p] = r % sizes[p];
+                }
+            }
+        }
+        return rows;
+    }
+
+    private static void addProduct(List<int[]> rows, int[] sizes, int t) {
+        long combinations = 1;
+        for (int p = 0; p < t; p++) {
+            combinations = Math.multiplyExact(combinations, sizes[p]);
+        }
+        for (long index = 0; index < combinations; index++) {
+            var row = newRow(sizes.length);
+            long remainder = index;
+            for (int p = t - 1; p >= 0; p--) {
+                row[p] = (int) (remainder % sizes[p]);
+                remainder /= sizes[p];
+            }
+            rows.add(row);
+        }
+    }
+
+    private static int[] newRow(int length) {
+        var row = new int[length];
+        Arrays.fill(row, DONT_CARE);
+        return row;
+    }
+
+    /**
+     * Adds one parameter to the rows, covering all its t-way interactions with the parameters
+     * before it.
+     */
+    private static final class Extension {
+
+        private final List<int[]> rows;
+        private final int[] sizes;
+        private final int parameter;
+        /** Every combination of {@code t - 1} earlier parameters, each followed by {@link #parameter}. */
+        private final List<int[]> subsets = new ArrayList<>();
+        /** Per subset, the value tuples not yet covered by any row, encoded mixed-radix. */
+        private final List<BitSet> uncovered = new ArrayList<>();
+
+        Extension(List<int[]> rows, int[] sizes, int t, int parameter) {
+            this.rows = rows;
+            this.sizes = sizes;
+            this.parameter = parameter;
+            addSubsets(new int[t], 0, 0);
+            for (int[] subset : subsets) {
+                long tuples = 1;
+                for (int p : subset) {
+                    tuples = Math.multiplyExact(tuples, sizes[p]);
+                }
+                var bits = new BitSet(Math.toIntExact(tuples));
+                bits.set(0, (int) tuples);
+                uncovered.add(bits);
+            }
+        }
+
+        private void addSubsets(int[] current, int depth, int from) {
+            if (depth == current.length - 1) {
+                var subset = current.clone();
+                subset[depth] = parameter;
+                subsets.add(subset);
+                return;
+            }
+            for (int p = from; p < parameter; p++) {
+                current[depth] = p;
+                addSubsets(current, depth + 1, p + 1);
+            }
+        }
+
+        void run() {
+            growHorizontally();
+            growVertically();
+        }
+
+        private void growHorizontally() {
+            int values = sizes[parameter];
+            for (int r = 0; r < rows.size(); r++) {
+                var row = rows.get(r);
+                int best = r % values;
+                int bestGain = -1;
+                // Start at a rotating value, so ties spread the values over the rows
+                for (int offset = 0; offset < values; offset++) {
+                    int candidate = (r + offset) % values;
+                    row[parameter] = candidate;
+                    int gain = countUncovered(row);
+                    if (gain > bestGain) {
+                        best = candidate;
+                        bestGain = gain;
+                    }
+                }
+                row[parameter] = best;
+                markCovered(row);
+            }
+        }
+
+        private void growVertically() {
+            int firstAdded = rows.size();
+            var tuple = new int[subsets.getFirst().length];
+            for (int s = 0; s < subsets.size(); s++) {
+                var subset = subsets.get(s);
+                var bits = uncovered.get(s);
+                for (int index = bits.nextSetBit(0); index >= 0; index = bits.nextSetBit(index + 1)) {
+                    decode(subset, index, tuple);
+                    var row = findCompatibleRow(firstAdded, subset, tuple);
+                    if (row == null) {
+                        row = newRow(sizes.length);
+                        rows.add(row);
+                    }
+                    for (int i = 0; i < subset.length; i++) {
+                        row[subset[i]] = tuple[i];
+                    }
+                    markCovered(row);
+                }
+            }
+        }
+
+        private int[] findCompatibleRow(int from, int[] subset, int[] tuple) {
+            for (int r = from; r < rows.size(); r++) {
+                var row = rows.get(r);
+                boolean compatible = true;
+                for (int i = 0; i < subset.length && compatible; i++) {
+                    int value = row[subset[i]];
+                    compatible = value == DONT_CARE || value == tuple[i];
+                }
+                if (compatible) {
+                    return row;
+                }
+            }
+            return null;
+        }
+
+        private int countUncovered(int[] row) {
+            int count = 0;
+            for (int s = 0; s < subsets.size(); s++) {
+                int index = encode(subsets.get(s), row);
+                if (index >= 0 && uncovered.get(s).get(index)) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        private void markCovered(int[] row) {
+            for (int s = 0; s < subsets.size(); s++) {
+                int index = encode(subsets.get(s), row);
+                if (index >= 0) {
+                    uncovered.get(s).clear(index);
+                }
+            }
+        }
+
+        /** @return the tuple index the row covers for the subset, or -1 if a position is open */
+        private int encode(int[] subset, int[] row) {
+            int index = 0;
+            for (int p : subset) {
+                if (row[p] == DONT_CARE) {
+                    return -1;
+                }
+                index = index * sizes[p] + row[p];
+            }
+            return index;
+        }
+
+        private void decode(int[] subset, int index, int[] tuple) {
+            int remainder = index;
+            for (int i = subset.length - 1; i >= 0; i--) {
+                tuple[i] = remainder % sizes[subset[i]];
+                remainder /= sizes[subset[i]];
+            }
+        }
+    }
+}
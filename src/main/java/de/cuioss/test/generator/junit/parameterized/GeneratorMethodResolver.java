@@ -23,7 +23,9 @@ import org.junit.platform.commons.util.StringUtils;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.Arrays;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.util.Objects.requireNonNull;
 
@@ -38,6 +40,14 @@ final class GeneratorMethodResolver {
 
     static final String IN_CLASS = "] in class [";
 
+    /** Per class: the result of {@link #findMethod} by method name. */
+    private static final ClassValue<Map<String, Optional<Method>>> FACTORY_METHODS = new ClassValue<>() {
+        @Override
+        protected Map<String, Optional<Method>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
     private GeneratorMethodResolver() {
         // Utility class constructor
     }
@@ -126,12 +136,18 @@ final class GeneratorMethodResolver {
 
     /**
      * Finds a method in the given class that returns a TypedGenerator and takes no parameters.
+     * The result is cached per class and method name, so every test method referring to the
+     * same factory scans the declared methods only once.
      *
      * @param clazz      the class to search in
      * @param methodName the method name to find
      * @return an Optional containing the method, or empty if not found
      */
     static Optional<Method> findMethod(Class<?> clazz, String methodName) {
+        return FACTORY_METHODS.get(clazz).computeIfAbsent(methodName, name -> scanMethods(clazz, name));
+    }
+
+    private static Optional<Method> scanMethods(Class<?> clazz, String methodName) {
         return Arrays.stream(clazz.getDeclaredMethods())
                 .filter(method -> method.getName().equals(methodName))
                 .filter(method -> method.getParameterCount() == 0)
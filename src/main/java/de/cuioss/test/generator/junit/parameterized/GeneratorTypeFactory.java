@@ -21,6 +21,11 @@ import org.junit.platform.commons.JUnitException;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.util.Objects.requireNonNull;
 
@@ -32,11 +37,17 @@ import static java.util.Objects.requireNonNull;
  * therefore relies on the default factory methods). Centralizing the dispatch keeps the two
  * providers consistent — in particular, domain generators (whose {@code methodName} is
  * {@code null}) are instantiated from their factory class in both cases.
+ * <p>
+ * The factory methods are looked up once per name and signature and invoked through
+ * {@link JpmsReflectionHelper#invokeMethod}, which caches their method handles.
  *
  * @author Oliver Wolff
  */
 final class GeneratorTypeFactory {
 
+    /** The factory methods of {@link Generators}, by name and parameter types. */
+    private static final Map<List<Object>, Method> FACTORY_METHODS = new ConcurrentHashMap<>();
+
     private GeneratorTypeFactory() {
         // utility class
     }
@@ -128,8 +139,17 @@ final class GeneratorTypeFactory {
     }
 
     private static Method findMethod(String methodName, Class<?>... parameterTypes) {
+        List<Object> key = new ArrayList<>(parameterTypes.length + 1);
+        key.add(methodName);
+        key.addAll(Arrays.asList(parameterTypes));
+        var cached = FACTORY_METHODS.get(key);
+        if (cached != null) {
+            return cached;
+        }
         try {
-            return Generators.class.getMethod(methodName, parameterTypes);
+            var method = Generators.class.getMethod(methodName, parameterTypes);
+            FACTORY_METHODS.putIfAbsent(key, method);
+            return method;
         } catch (NoSuchMethodException e) {
             throw new JUnitException("Could not find static generator method '" + methodName
                     + "' in " + Generators.class.getName() + " with the required parameter types", e);
@@ -139,7 +159,7 @@ final class GeneratorTypeFactory {
     // cui-rewrite:disable InvalidExceptionUsageRecipe
     private static TypedGenerator<?> invoke(Method method, Object... args) {
         try {
-            return (TypedGenerator<?>) method.invoke(null, args);
+            return (TypedGenerator<?>) JpmsReflectionHelper.invokeMethod(method, null, args);
         } catch (InvocationTargetException e) {
             var cause = e.getTargetException();
             throw new JUnitException("Generator method '" + method.getName() + "' failed: " + cause.getMessage(), cause);
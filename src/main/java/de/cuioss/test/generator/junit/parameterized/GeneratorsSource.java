@@ -218,4 +218,15 @@ public @interface GeneratorsSource {
      */
     long seed() default -1L;
 
+    /**
+     * Whether the generator may be cached and shared with every other test declaring the
+     * same generator attributes. A cached generator is created once per test run and kept in
+     * the root {@link org.junit.jupiter.api.extension.ExtensionContext.Store}. The generators
+     * behind {@link GeneratorType} are stateless and thread-safe, so they are cached by
+     * default; a {@link de.cuioss.test.generator.StatefulGenerator} would never be.
+     *
+     * @return {@code true} (the default) to cache the generator
+     */
+    boolean cacheGenerator() default true;
+
 }
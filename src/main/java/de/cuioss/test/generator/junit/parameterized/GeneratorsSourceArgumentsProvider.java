@@ -21,6 +21,7 @@ import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.support.AnnotationConsumer;
 
+import java.util.List;
 import java.util.stream.Stream;
 
 /**
@@ -55,6 +56,7 @@ public class GeneratorsSourceArgumentsProvider extends AbstractTypedGeneratorArg
     private String high;
     private int count;
     private long seed;
+    private boolean cacheGenerator;
 
     @Override
     public void accept(GeneratorsSource annotation) {
@@ -66,12 +68,15 @@ public class GeneratorsSourceArgumentsProvider extends AbstractTypedGeneratorArg
         high = annotation.high();
         count = Math.max(1, annotation.count());
         seed = annotation.seed();
+        cacheGenerator = annotation.cacheGenerator();
     }
 
     @Override
     protected Stream<? extends Arguments> provideArgumentsForGenerators(ExtensionContext context) {
-        var generator = GeneratorTypeFactory.createGenerator(generatorType, minSize, maxSize, low, high);
-        return generateArguments(generator).stream();
+        var generator = getOrCreateGenerator(context, cacheGenerator,
+                List.of(GeneratorsSource.class, generatorType, minSize, maxSize, low, high),
+                () -> GeneratorTypeFactory.createGenerator(generatorType, minSize, maxSize, low, high));
+        return streamArguments(generator);
     }
 
     @Override
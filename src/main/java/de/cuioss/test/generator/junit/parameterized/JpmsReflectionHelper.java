@@ -18,9 +18,16 @@ package de.cuioss.test.generator.junit.parameterized;
 import org.junit.platform.commons.JUnitException;
 import org.junit.platform.commons.support.ReflectionSupport;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InaccessibleObjectException;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Package-private utility for JPMS-aware reflection operations.
@@ -30,6 +37,7 @@ import java.lang.reflect.Method;
  * <ul>
  *   <li>A fallback via {@code setAccessible(true)} (works when the package is {@code opens}-ed)</li>
  *   <li>Clear, actionable error messages pointing to concrete remediation steps</li>
+ *   <li>A per-class cache of the resolved method handles, so repeated invocations skip both</li>
  * </ul>
  *
  * @author Oliver Wolff
@@ -37,6 +45,17 @@ import java.lang.reflect.Method;
  */
 final class JpmsReflectionHelper {
 
+    /** Type of the cached handles: the target (ignored for static methods) and the spread arguments. */
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+
+    /** Per declaring class: the invokers resolved by {@link #invokeMethod}. */
+    private static final ClassValue<Map<Method, Invoker>> METHOD_HANDLES = new ClassValue<>() {
+        @Override
+        protected Map<Method, Invoker> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
     private JpmsReflectionHelper() {
         // Utility class
     }
@@ -87,6 +106,15 @@ final class JpmsReflectionHelper {
     /**
      * Invokes the given method, falling back to {@code setAccessible(true)}
      * if the initial attempt fails due to JPMS access restrictions.
+     * <p>
+     * The first successful call resolves a {@link MethodHandle} for the method, taking the
+     * outcome of the JPMS fallback into account, and caches it per declaring class. Later calls
+     * for an equal method invoke the handle, repeating neither access checks nor the fallback.
+     * Calls whose target or arguments do not match the parameter types exactly, e.g. needing a
+     * widening conversion, go through {@link Method#invoke} again, so every call reports
+     * errors the same way: mismatching arguments as {@link IllegalArgumentException}, and
+     * everything the method throws wrapped in an {@link InvocationTargetException}.
+     * </p>
      *
      * @param method the method to invoke
      * @param target the target object (null for static methods)
@@ -96,9 +124,24 @@ final class JpmsReflectionHelper {
      * @throws InvocationTargetException if the underlying method throws an exception
      * @throws IllegalAccessException if access is denied for non-JPMS reasons
      */
-    @SuppressWarnings("java:S3011") // setAccessible is the intentional JPMS fallback mechanism
     static Object invokeMethod(Method method, Object target, Object... args)
             throws InvocationTargetException, IllegalAccessException {
+        var handles = METHOD_HANDLES.get(method.getDeclaringClass());
+        var invoker = handles.get(method);
+        if (invoker != null && invoker.accepts(target, args)) {
+            return invoker.invoke(target, args);
+        }
+        var result = invokeReflectively(method, target, args);
+        if (invoker == null) {
+            // Only reached once access is settled, i.e. the method is accessible or was made so
+            unreflect(method).ifPresent(resolved -> handles.putIfAbsent(method, resolved));
+        }
+        return result;
+    }
+
+    @SuppressWarnings("java:S3011") // setAccessible is the intentional JPMS fallback mechanism
+    private static Object invokeReflectively(Method method, Object target, Object... args)
+            throws InvocationTargetException, IllegalAccessException {
         try {
             return method.invoke(target, args);
         } catch (IllegalAccessException e) {
@@ -117,6 +160,84 @@ final class JpmsReflectionHelper {
         }
     }
 
+    private static Optional<Invoker> unreflect(Method method) {
+        try {
+            return Optional.of(new Invoker(adapt(MethodHandles.lookup().unreflect(method), method), method));
+        } catch (IllegalAccessException e) {
+            // Reflection works where the lookup does not, e.g. for a protected method: keep using it
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Adapts the handle once to {@link #INVOKER_TYPE}, so each call is a single
+     * {@code invokeExact} without collecting the arguments into a list.
+     */
+    private static MethodHandle adapt(MethodHandle handle, Method method) {
+        var invoker = handle.asFixedArity().asSpreader(Object[].class, method.getParameterCount());
+        if (Modifier.isStatic(method.getModifiers())) {
+            invoker = MethodHandles.dropArguments(invoker, 0, Object.class);
+        }
+        return invoker.asType(INVOKER_TYPE);
+    }
+
+    /**
+     * A method handle adapted to {@link #INVOKER_TYPE}, together with the types a call must
+     * match to be invoked through it.
+     */
+    private static final class Invoker {
+
+        private final MethodHandle handle;
+        /** The declaring class for instance methods, {@code null} for static ones. */
+        private final Class<?> receiverType;
+        /** The parameter types, primitives replaced by their wrappers. */
+        private final Class<?>[] argumentTypes;
+        private final boolean[] primitive;
+
+        Invoker(MethodHandle handle, Method method) {
+            this.handle = handle;
+            this.receiverType = Modifier.isStatic(method.getModifiers()) ? null : method.getDeclaringClass();
+            var parameterTypes = method.getParameterTypes();
+            this.argumentTypes = new Class<?>[parameterTypes.length];
+            this.primitive = new boolean[parameterTypes.length];
+            for (int i = 0; i < parameterTypes.length; i++) {
+                argumentTypes[i] = MethodType.methodType(parameterTypes[i]).wrap().returnType();
+                primitive[i] = parameterTypes[i].isPrimitive();
+            }
+        }
+
+        /**
+         * @return {@code true} if the target and the arguments match the method exactly, so
+         * that the adapted handle cannot fail on them
+         */
+        boolean accepts(Object target, Object[] args) {
+            if (receiverType != null && !receiverType.isInstance(target)) {
+                return false;
+            }
+            var count = args == null ? 0 : args.length;
+            if (count != argumentTypes.length) {
+                return false;
+            }
+            for (int i = 0; i < count; i++) {
+                var arg = args[i];
+                if (arg == null ? primitive[i] : !argumentTypes[i].isInstance(arg)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // cui-rewrite:disable InvalidExceptionUsageRecipe
+        @SuppressWarnings("java:S1181") // Only the method itself can throw here, mapped like Method#invoke
+        Object invoke(Object target, Object[] args) throws InvocationTargetException {
+            try {
+                return (Object) handle.invokeExact(target, args);
+            } catch (Throwable e) {
+                throw new InvocationTargetException(e);
+            }
+        }
+    }
+
     /**
      * Checks whether the given throwable (or any cause in its chain) indicates
      * a JPMS access restriction.
@@ -20,6 +20,7 @@ import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.support.AnnotationConsumer;
 
+import java.util.List;
 import java.util.stream.Stream;
 
 /**
@@ -49,21 +50,24 @@ public class TypeGeneratorArgumentsProvider extends AbstractTypedGeneratorArgume
     private Class<? extends TypedGenerator<?>> generatorClass;
     private int count;
     private long seed;
+    private boolean cacheGenerator;
 
     @Override
     public void accept(TypeGeneratorSource annotation) {
         generatorClass = annotation.value();
         count = Math.max(1, annotation.count());
         seed = annotation.seed();
+        cacheGenerator = annotation.cacheGenerator();
     }
 
     @Override
     protected Stream<? extends Arguments> provideArgumentsForGenerators(ExtensionContext context) {
-        // Create generator instance
-        var generator = createGeneratorInstance(generatorClass);
+        // Create or reuse the generator instance
+        var generator = getOrCreateGenerator(context, cacheGenerator,
+                List.of(TypeGeneratorSource.class, generatorClass), () -> createGeneratorInstance(generatorClass));
 
         // Generate values
-        return generateArguments(generator).stream();
+        return streamArguments(generator);
     }
 
     @Override
@@ -57,6 +57,7 @@ public class TypeGeneratorFactoryArgumentsProvider extends AbstractTypedGenerato
     private String factoryMethod;
     private String[] methodParameters;
     private int count;
+    private boolean cacheGenerator;
 
     @Override
     public void accept(TypeGeneratorFactorySource annotation) {
@@ -64,15 +65,18 @@ public class TypeGeneratorFactoryArgumentsProvider extends AbstractTypedGenerato
         factoryMethod = annotation.factoryMethod();
         methodParameters = annotation.methodParameters();
         count = Math.max(1, annotation.count());
+        cacheGenerator = annotation.cacheGenerator();
     }
 
     @Override
     protected Stream<? extends Arguments> provideArgumentsForGenerators(ExtensionContext context) {
-        // Create generator instance using factory
-        var generator = createGeneratorFromFactory();
+        // Create generator instance using factory, or reuse it
+        var generator = getOrCreateGenerator(context, cacheGenerator,
+                List.of(TypeGeneratorFactorySource.class, factoryClass, factoryMethod, List.of(methodParameters)),
+                this::createGeneratorFromFactory);
 
         // Generate values
-        return generateArguments(generator).stream();
+        return streamArguments(generator);
     }
 
     @Override
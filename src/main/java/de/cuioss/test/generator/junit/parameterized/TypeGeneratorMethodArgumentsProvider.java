@@ -67,7 +67,7 @@ public class TypeGeneratorMethodArgumentsProvider extends AbstractTypedGenerator
     @Override
     protected Stream<? extends Arguments> provideArgumentsForGenerators(ExtensionContext context) {
         var generator = GeneratorMethodResolver.getGenerator(methodName, context);
-        return generateArguments(generator).stream();
+        return streamArguments(generator);
     }
 
     /**
@@ -101,4 +101,19 @@ public @interface TypeGeneratorSource {
      * @return the seed to use, or -1 to use the globally configured seed
      */
     long seed() default -1L;
+
+    /**
+     * Whether the generator may be cached and shared with every other test declaring the
+     * same generator attributes. A cached generator is created once per test run and kept in
+     * the root {@link org.junit.jupiter.api.extension.ExtensionContext.Store}, so it must be
+     * thread-safe and must not carry state from one value to the next. The generator is
+     * user-supplied, so caching is opt-in: set to {@code true} only for an immutable,
+     * thread-safe generator. A {@link de.cuioss.test.generator.StatefulGenerator}, e.g. any
+     * of the unique generators, or a {@link de.cuioss.test.generator.impl.DecoratorGenerator}
+     * wrapping one, is never cached.
+     *
+     * @return {@code true} to cache the generator, {@code false} (the default) to create
+     * it per test
+     */
+    boolean cacheGenerator() default false;
 }
@@ -64,7 +64,9 @@
  *   <li>{@link de.cuioss.test.generator.junit.parameterized.TypeGeneratorFactorySource} -
  *       Uses a factory class with a static method to create a TypedGenerator instance.</li>
  *   <li>{@link de.cuioss.test.generator.junit.parameterized.CompositeTypeGeneratorSource} -
- *       Combines multiple TypedGenerator implementations to generate combinations of values.</li>
+ *       Combines multiple TypedGenerator implementations to generate combinations of values, as a cartesian
+ *       product, one-to-one or as a pairwise / t-way covering array (see
+ *       {@link de.cuioss.test.generator.junit.parameterized.CombinationStrategy}).</li>
  * </ul>
  * 
  * <h3>Integration with JUnit 5</h3>
@@ -21,14 +21,19 @@
  * {@link de.cuioss.test.generator.junit.GeneratorSeed} for details.
  * <h2>Provided Features</h2> The generators defined within this packages are
  * the base for the cui-value-object test framework. All generators use
- * JRE-native {@link java.util.Random} for data generation, with seed management
- * provided by {@link de.cuioss.test.generator.internal.RandomContext}.
+ * JRE-native {@link java.util.random.RandomGenerator}s for data generation, with
+ * seed and algorithm management provided by
+ * {@link de.cuioss.test.generator.internal.RandomContext}.
  * Central elements are:
  * <ul>
  * <li>{@link de.cuioss.test.generator.TypedGenerator}: Is the core Type.
  * Instances of it are used for generating arbitrary instances of any
  * value-object. It provides runtime information on the type being generated:
  * {@link de.cuioss.test.generator.TypedGenerator#getType()}.</li>
+ * <li>{@link de.cuioss.test.generator.TypedIntGenerator},
+ * {@link de.cuioss.test.generator.TypedLongGenerator} and
+ * {@link de.cuioss.test.generator.TypedDoubleGenerator}: Primitive
+ * specializations providing unboxed accessors.</li>
  * <li>{@link de.cuioss.test.generator.Generators}: Factory methods for
  * accessing {@link de.cuioss.test.generator.TypedGenerator} for many java-lang
  * types.</li>
@@ -0,0 +1,147 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.generator;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.DoubleSupplier;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Measures the heap bytes allocated per call of an operation on the current thread, based
+ * on {@link com.sun.management.ThreadMXBean#getCurrentThreadAllocatedBytes()}.
+ * <p>
+ * Each measurement first warms the operation up, so the JIT compiler had the chance to
+ * remove allocations via escape analysis, and then reports the best of a few rounds, so a
+ * single class initialization or TLAB refill does not inflate the result. The primitive
+ * variants consume the results unboxed, so only the allocations of the operation itself
+ * are counted.
+ * </p>
+ * <p><em>Example usage:</em></p>
+ * <pre>
+ * assumeTrue(AllocationMeter.isSupported());
+ * var generator = new IntegerGenerator();
+ * assertEquals(0.0, AllocationMeter.bytesPerIntCall(generator::nextInt), 1.0);
+ * </pre>
+ *
+ * @author Oliver Wolff
+ */
+final class AllocationMeter {
+
+    static final int WARMUP_CALLS = 50_000;
+    static final int MEASURED_CALLS = 20_000;
+    private static final int ROUNDS = 3;
+
+    /** Keeps the JIT from eliminating the measured operations. */
+    @SuppressWarnings("unused")
+    private static volatile long sink;
+
+    private AllocationMeter() {
+        // utility class
+    }
+
+    /**
+     * @return {@code true} if the JVM reports per-thread allocation
+     */
+    static boolean isSupported() {
+        return ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled();
+    }
+
+    /**
+     * @param operation the operation to measure
+     * @return the bytes allocated per call
+     */
+    static double bytesPerCall(Supplier<?> operation) {
+        return measure(calls -> {
+            var hash = 0L;
+            for (var i = 0; i < calls; i++) {
+                hash += System.identityHashCode(operation.get());
+            }
+            return hash;
+        });
+    }
+
+    /**
+     * @param operation the operation to measure
+     * @return the bytes allocated per call
+     */
+    static double bytesPerIntCall(IntSupplier operation) {
+        return measure(calls -> {
+            var hash = 0L;
+            for (var i = 0; i < calls; i++) {
+                hash += operation.getAsInt();
+            }
+            return hash;
+        });
+    }
+
+    /**
+     * @param operation the operation to measure
+     * @return the bytes allocated per call
+     */
+    static double bytesPerLongCall(LongSupplier operation) {
+        return measure(calls -> {
+            var hash = 0L;
+            for (var i = 0; i < calls; i++) {
+                hash += operation.getAsLong();
+            }
+            return hash;
+        });
+    }
+
+    /**
+     * @param operation the operation to measure
+     * @return the bytes allocated per call
+     */
+    static double bytesPerDoubleCall(DoubleSupplier operation) {
+        return measure(calls -> {
+            var hash = 0L;
+            for (var i = 0; i < calls; i++) {
+                hash += Double.doubleToRawLongBits(operation.getAsDouble());
+            }
+            return hash;
+        });
+    }
+
+    /**
+     * @param length the number of elements
+     * @return the size of a {@code byte[]} of the given length: a 16 byte header plus the
+     *         elements, aligned to 8 bytes as with compressed class pointers
+     */
+    static long byteArraySize(int length) {
+        return (16L + length + 7) & ~7L;
+    }
+
+    private static double measure(Loop loop) {
+        var bean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        sink = loop.run(WARMUP_CALLS);
+        var best = Double.MAX_VALUE;
+        for (var round = 0; round < ROUNDS; round++) {
+            var before = bean.getCurrentThreadAllocatedBytes();
+            sink = loop.run(MEASURED_CALLS);
+            var allocated = bean.getCurrentThreadAllocatedBytes() - before;
+            best = Math.min(best, (double) allocated / MEASURED_CALLS);
+        }
+        return best;
+    }
+
+    @FunctionalInterface
+    private interface Loop {
+        long run(int calls);
+    }
+}
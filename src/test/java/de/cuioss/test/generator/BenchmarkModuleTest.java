@@ -0,0 +1,52 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.generator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Element;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The standalone {@code benchmark} module cannot inherit the version of the library, whose
+ * pom is not a parent pom, so it is checked here.
+ */
+@DisplayName("The benchmark module should")
+class BenchmarkModuleTest {
+
+    @Test
+    @DisplayName("have the version of the library")
+    void shouldHaveLibraryVersion() throws Exception {
+        var benchmarkPom = Path.of("benchmark", "pom.xml");
+        assertTrue(benchmarkPom.toFile().isFile(), "Expected the benchmark module at " + benchmarkPom.toAbsolutePath());
+        assertEquals(projectVersion(Path.of("pom.xml")), projectVersion(benchmarkPom));
+    }
+
+    private static String projectVersion(Path pom) throws Exception {
+        var project = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(pom.toFile()).getDocumentElement();
+        var children = project.getChildNodes();
+        for (var i = 0; i < children.getLength(); i++) {
+            if (children.item(i) instanceof Element element && "version".equals(element.getTagName())) {
+                return element.getTextContent().trim();
+            }
+        }
+        return fail("No project version in " + pom);
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.generator;
+
+import de.cuioss.test.generator.domain.UUIDGenerator;
+import de.cuioss.test.generator.impl.DoubleGenerator;
+import de.cuioss.test.generator.impl.ExponentialGenerator;
+import de.cuioss.test.generator.impl.GaussianGenerator;
+import de.cuioss.test.generator.impl.IntegerGenerator;
+import de.cuioss.test.generator.impl.LongGenerator;
+import de.cuioss.test.generator.impl.PrimitiveArrayGenerators;
+import de.cuioss.test.generator.impl.UniqueRangeGenerator;
+import de.cuioss.test.generator.impl.ZipfGenerator;
+import de.cuioss.test.generator.junit.EnableGeneratorController;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleSupplier;
+import java.util.stream.Stream;
+
+import static de.cuioss.test.generator.AllocationMeter.byteArraySize;
+import static de.cuioss.test.generator.AllocationMeter.bytesPerCall;
+import static de.cuioss.test.generator.AllocationMeter.bytesPerDoubleCall;
+import static de.cuioss.test.generator.AllocationMeter.bytesPerIntCall;
+import static de.cuioss.test.generator.AllocationMeter.bytesPerLongCall;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Fails the build when a generator allocates more per value than its declared budget.
+ * Budgets are the bytes of the returned value itself, plus documented, unavoidable
+ * temporaries. Tighten a budget whenever a generator gets cheaper.
+ */
+@EnableGeneratorController
+@DisplayName("Generators should stay within their allocation budget for")
+class GeneratorAllocationTest {
+
+    /** Absorbs rounding of the per-thread counter, not real allocations. */
+    private static final double TOLERANCE = 2.0;
+
+    private static final long STRING = 24;
+    private static final long TEMPORAL = 24;
+    private static final long BOXED = 16;
+    private static final long UUID = 32;
+
+    private static final int STRING_LENGTH = 32;
+    private static final int ARRAY_LENGTH = 1024;
+
+    @BeforeAll
+    static void requireAllocationCounter() {
+        assumeTrue(AllocationMeter.isSupported(), "JVM does not report per-thread allocation");
+    }
+
+    static Stream<Arguments> budgets() {
+        var intArray = new int[ARRAY_LENGTH];
+        var doubleArray = new double[ARRAY_LENGTH];
+        return Stream.of(
+                // Primitive draws must not allocate at all
+                budget("IntegerGenerator.nextInt()", 0, () -> bytesPerIntCall(new IntegerGenerator()::nextInt)),
+                budget("IntegerGenerator(0, 100).nextInt()", 0,
+                        () -> bytesPerIntCall(new IntegerGenerator(0, 100)::nextInt)),
+                budget("LongGenerator.nextLong()", 0, () -> bytesPerLongCall(new LongGenerator()::nextLong)),
+                budget("DoubleGenerator.nextDouble()", 0, () -> bytesPerDoubleCall(new DoubleGenerator()::nextDouble)),
+                budget("GaussianGenerator.nextDouble()", 0,
+                        () -> bytesPerDoubleCall(new GaussianGenerator()::nextDouble)),
+                budget("ExponentialGenerator.nextDouble()", 0,
+                        () -> bytesPerDoubleCall(new ExponentialGenerator(1.0)::nextDouble)),
+                budget("ZipfGenerator.nextLong()", 0, () -> bytesPerLongCall(new ZipfGenerator(1000, 1.1)::nextLong)),
+                budget("UniqueRangeGenerator.nextLong()", 0,
+                        () -> bytesPerLongCall(new UniqueRangeGenerator(Long.MIN_VALUE, Long.MAX_VALUE)::nextLong)),
+                budget("PrimitiveArrayGenerators.INTEGER.fillArray()", 0, () -> bytesPerCall(() -> {
+                    PrimitiveArrayGenerators.INTEGER.fillArray(intArray, 0, ARRAY_LENGTH);
+                    return intArray;
+                })),
+                budget("PrimitiveArrayGenerators.DOUBLE.fillArray()", 0, () -> bytesPerCall(() -> {
+                    PrimitiveArrayGenerators.DOUBLE.fillArray(doubleArray, 0, ARRAY_LENGTH);
+                    return doubleArray;
+                })),
+                // Selections return shared or cached instances
+                budget("booleans()", 0, () -> bytesPerCall(Generators.booleans()::next)),
+                budget("enumValues()", 0, () -> bytesPerCall(Generators.enumValues(TimeUnit.class)::next)),
+                budget("fixedValues()", 0, () -> bytesPerCall(Generators.fixedValues("a", "b", "c")::next)),
+                budget("weightedValues()", 0, () -> bytesPerCall(
+                        Generators.weightedValues(String.class, List.of("a", "b", "c"), 5.0, 3.0, 1.0)::next)),
+                // Strings: the String, its Latin-1 value and the buffer the value is copied from
+                budget("strings(32, 32)", STRING + 2 * byteArraySize(STRING_LENGTH),
+                        () -> bytesPerCall(Generators.strings(STRING_LENGTH, STRING_LENGTH)::next)),
+                budget("letterStrings(32, 32)", STRING + 2 * byteArraySize(STRING_LENGTH),
+                        () -> bytesPerCall(Generators.letterStrings(STRING_LENGTH, STRING_LENGTH)::next)),
+                budget("strings(1, 1)", STRING + 2 * byteArraySize(1),
+                        () -> bytesPerCall(Generators.strings(1, 1)::next)),
+                // Objects: only the result
+                budget("UUIDGenerator.next()", UUID, () -> bytesPerCall(new UUIDGenerator()::next)),
+                budget("localDates()", TEMPORAL, () -> bytesPerCall(Generators.localDates()::next)),
+                budget("numbers()", BOXED, () -> bytesPerCall(Generators.numbers()::next)),
+                budget("localTimes()", TEMPORAL, () -> bytesPerCall(Generators.localTimes()::next)),
+                budget("localDateTimes()", 3 * TEMPORAL, () -> bytesPerCall(Generators.localDateTimes()::next)),
+                // The ZonedDateTime with its LocalDateTime, LocalDate and LocalTime. Zones with daylight
+                // saving rules compute the transitions of years from 2100 on per call, as ZoneRules only
+                // caches earlier years; this affects about half of the draws. Measured 139 to 194 B on JDK 21
+                budget("zonedDateTimes()", 4 * TEMPORAL + 112, () -> bytesPerCall(Generators.zonedDateTimes()::next)),
+                budget("zoneOffsets()", 0, () -> bytesPerCall(Generators.zoneOffsets()::next)));
+    }
+
+    @ParameterizedTest(name = "{0}: {1} B per value")
+    @MethodSource("budgets")
+    void shouldStayWithinBudget(String name, long budget, DoubleSupplier measurement) {
+        var measured = measurement.getAsDouble();
+        assertTrue(measured <= budget + TOLERANCE,
+                () -> name + " allocates " + measured + " B per value, budget is " + budget + " B");
+    }
+
+    private static Arguments budget(String name, long budget, DoubleSupplier measurement) {
+        return Arguments.of(name, budget, measurement);
+    }
+}
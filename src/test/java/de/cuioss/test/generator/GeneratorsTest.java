@@ -20,10 +20,19 @@ import de.cuioss.test.generator.junit.EnableGeneratorController;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.io.IOException;
 import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.temporal.Temporal;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 import static de.cuioss.test.generator.Generators.*;
@@ -143,6 +152,38 @@ class GeneratorsTest {
             assertNotNull(fixedValues(String.class, "1", "2").next());
             assertNotNull(fixedValues("1", "2").next());
         }
+
+        @Test
+        @DisplayName("should handle weighted values")
+        void shouldHandleWeightedValues() {
+            var byList = weightedValues(String.class, List.of("1", "2"), 0.0, 1.0);
+            var weights = new LinkedHashMap<String, Integer>();
+            weights.put("1", 0);
+            weights.put("2", 3);
+            var byMap = weightedValues(String.class, weights);
+            for (int i = 0; i < 100; i++) {
+                assertEquals("2", byList.next());
+                assertEquals("2", byMap.next());
+            }
+            assertEquals(String.class, byMap.getType());
+            assertThrows(IllegalArgumentException.class, () -> weightedValues(String.class, Map.of()));
+        }
+
+        @Test
+        @DisplayName("should handle distributions")
+        void shouldHandleDistributions(@TempDir Path directory) throws IOException {
+            assertTrue(Double.isFinite(gaussianDoubles(10.0, 2.0).next()));
+            assertTrue(exponentialDoubles(5.0).next() >= 0.0);
+            var rank = zipfIntegers(100, 1.1).next();
+            assertTrue(rank >= 1 && rank <= 100);
+            assertTrue(zipfLongs(100L, 1.1).next() >= 1L);
+            var file = directory.resolve("values.hist");
+            Files.write(file, List.of("1,2,1"));
+            var value = histogramDoubles(file).next();
+            assertTrue(value >= 1.0 && value <= 2.0);
+            var missing = directory.resolve("missing.hist");
+            assertThrows(UncheckedIOException.class, () -> histogramDoubles(missing));
+        }
     }
 
     @Nested
@@ -397,6 +438,22 @@ class GeneratorsTest {
             // Next should fail
             assertThrows(IllegalStateException.class, generator::next);
         }
+
+        @Test
+        @DisplayName("should handle unique integers and longs of a range")
+        void shouldHandleUniqueRanges() {
+            final TypedGenerator<Integer> integers = uniqueIntegers(-3, 3);
+            final var seen = new HashSet<Integer>();
+            for (int i = 0; i < 7; i++) {
+                assertTrue(seen.add(integers.next()), "Each value should be returned once");
+            }
+            assertThrows(IllegalStateException.class, integers::next);
+            assertEquals(Integer.class, integers.getType());
+
+            final TypedGenerator<Long> longs = uniqueLongs(0, Long.MAX_VALUE);
+            assertNotEquals(longs.next(), longs.next());
+            assertThrows(IllegalArgumentException.class, () -> uniqueLongs(1, 0));
+        }
     }
 
     @Nested
@@ -423,4 +480,30 @@ class GeneratorsTest {
             assertEquals(Temporal.class, temporals().getType());
         }
     }
+
+    @Nested
+    @DisplayName("canonical instances that")
+    class CanonicalInstances {
+
+        @Test
+        @DisplayName("should be shared by parameterless factory methods of stateless generators")
+        void shouldShareStatelessGenerators() {
+            assertAll("parameterless factories should return canonical instances",
+                    () -> assertSame(integers(), integers()),
+                    () -> assertSame(longObjects(), longObjects()),
+                    () -> assertSame(numbers(), numbers()),
+                    () -> assertSame(localTimes(), localTimes()),
+                    () -> assertSame(localDateTimes(), localDateTimes()),
+                    () -> assertSame(zonedDateTimes(), zonedDateTimes()),
+                    () -> assertSame(zoneIds(), zoneIds()),
+                    () -> assertSame(temporals(), temporals()));
+        }
+
+        @Test
+        @DisplayName("should not be shared for generators with state or parameters")
+        void shouldNotShareOtherGenerators() {
+            assertNotSame(integers(0, 10), integers(0, 10));
+            assertNotSame(uniqueValues(integers()), uniqueValues(integers()));
+        }
+    }
 }
@@ -0,0 +1,63 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.generator;
+
+import de.cuioss.test.generator.internal.RandomContext;
+import de.cuioss.test.generator.junit.EnableGeneratorController;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnableGeneratorController
+@DisplayName("TypedGenerator batch methods should")
+class TypedGeneratorBatchTest {
+
+    private final TypedGenerator<Integer> generator = () -> RandomContext.generator().nextInt();
+
+    @Test
+    @DisplayName("provide n values matching repeated next() calls")
+    void shouldMatchRepeatedNext() {
+        RandomContext.setSeed(42L);
+        var single = new ArrayList<Integer>();
+        for (int i = 0; i < 50; i++) {
+            single.add(generator.next());
+        }
+        RandomContext.setSeed(42L);
+        List<Integer> batch = generator.next(50);
+        assertEquals(single, batch, "Batch should match repeated next() calls");
+        assertTrue(generator.next(0).isEmpty(), "Zero values should yield an empty list");
+    }
+
+    @Test
+    @DisplayName("append to a given collection")
+    void shouldAppendToCollection() {
+        List<Number> target = new ArrayList<>(List.of(1L));
+        var result = generator.nextInto(target, 5);
+        assertSame(target, result, "Target should be returned for chaining");
+        assertEquals(6, target.size(), "Values should be appended to the existing elements");
+    }
+
+    @Test
+    @DisplayName("reject invalid arguments")
+    void shouldRejectInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> generator.next(-1), "Negative count should be rejected");
+        assertThrows(NullPointerException.class, () -> generator.nextInto(null, 1), "Null target should be rejected");
+    }
+}
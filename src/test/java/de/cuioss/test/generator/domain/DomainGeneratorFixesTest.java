@@ -90,6 +90,31 @@ class DomainGeneratorFixesTest {
         }
     }
 
+    @Test
+    @DisplayName("always put at least one content word into a mail subject")
+    void mailSubjectShouldNeverBeEmpty() {
+        var prefixes = Set.of("Re:", "Fw:", "Answ:", "Yep:");
+        var contents = Set.of("Hello", "Patient", "Document", "Record", "Yes", "No", "unknown", "Disease",
+                "Hospital", "Doctor", "Healthy", "Not seen", "Referral", "Message", "Injury", "See Also", "Payment",
+                "Registration", "Physician");
+        var generator = new MailSubjectGenerator();
+        var singleWordSubjects = 0;
+        for (int i = 0; i < 2_000; i++) {
+            var subject = generator.next();
+            assertFalse(subject.isBlank(), "Subject must not be empty");
+            var tokens = subject.split(" ");
+            var contentStart = 0;
+            while (contentStart < tokens.length && prefixes.contains(tokens[contentStart])) {
+                contentStart++;
+            }
+            assertTrue(contentStart < tokens.length, "At least one content word expected, got: " + subject);
+            if (contents.contains(subject)) {
+                singleWordSubjects++;
+            }
+        }
+        assertTrue(singleWordSubjects > 0, "A single content word without prefix should be generated as well");
+    }
+
     @Test
     @DisplayName("generate reproducible mail subjects for a fixed seed (D-1)")
     void mailSubjectShouldBeReproducible() {
@@ -20,6 +20,11 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Locale;
 import java.util.UUID;
 
@@ -39,6 +44,36 @@ class DomainGeneratorTest {
             assertNotNull(new BlindTextGenerator().next());
         }
 
+        @Test
+        @DisplayName("should stream blind texts with exact counts")
+        void shouldStreamBlindTexts() throws IOException {
+            var generator = new BlindTextGenerator();
+            var writer = new StringWriter();
+            generator.writeTo(writer, 5_000);
+            assertEquals(5_000, writer.toString().length());
+            assertTrue(writer.toString().contains("\n"), "Paragraphs should be separated by line breaks");
+
+            var out = new ByteArrayOutputStream();
+            generator.writeTo(out, 5_000);
+            assertEquals(5_000, out.size());
+            assertThrows(IllegalArgumentException.class, () -> generator.writeTo(out, -1));
+        }
+
+        @Test
+        @DisplayName("should never split a multi-byte character when streaming bytes")
+        void shouldStreamWholeCharacters() throws IOException {
+            var generator = new BlindTextGenerator();
+            var decoder = StandardCharsets.UTF_8.newDecoder();
+            for (var byteCount = 0; byteCount < 400; byteCount++) {
+                var out = new ByteArrayOutputStream();
+                generator.writeTo(out, byteCount);
+                assertEquals(byteCount, out.size());
+                var text = assertDoesNotThrow(() -> decoder.decode(ByteBuffer.wrap(out.toByteArray())),
+                        "Output of " + out.size() + " bytes should be valid UTF-8");
+                assertFalse(text.toString().contains("\uFFFD"));
+            }
+        }
+
         @Test
         @DisplayName("should provide mail subjects")
         void shouldProvideMailSubjects() {
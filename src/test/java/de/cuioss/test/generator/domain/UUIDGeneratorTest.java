@@ -21,10 +21,12 @@ import de.cuioss.test.generator.junit.EnableGeneratorController;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @EnableGeneratorController
 @DisplayName("UUIDGenerator should")
@@ -73,4 +75,21 @@ class UUIDGeneratorTest {
         assertNotNull(uuid, "Generated UUID should not be null");
         assertNotNull(uuid.toString(), "UUID string representation should not be null");
     }
+
+    @Test
+    @DisplayName("generate batches identical to repeated single calls")
+    void shouldGenerateBatchesLikeSingleCalls() {
+        var generator = new UUIDGenerator();
+        RandomContext.setSeed(42L);
+        var single = new ArrayList<UUID>();
+        for (var i = 0; i < 100; i++) {
+            single.add(generator.next());
+        }
+        RandomContext.setSeed(42L);
+        var batch = generator.next(100);
+
+        assertEquals(single, batch, "Batch generation should match repeated next() calls for the same seed");
+        batch.forEach(uuid -> assertEquals(4, uuid.version(), "Batch UUIDs should be version 4"));
+        assertThrows(IllegalArgumentException.class, () -> generator.next(-1), "Negative count should be rejected");
+    }
 }
@@ -0,0 +1,118 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.generator.impl;
+
+import de.cuioss.test.generator.internal.RandomContext;
+import de.cuioss.test.generator.junit.EnableGeneratorController;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnableGeneratorController
+@DisplayName("AlphabetTable should")
+class AlphabetTableTest {
+
+    @Test
+    @DisplayName("draw every character of the alphabet evenly")
+    void shouldDrawEvenly() {
+        var alphabet = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ";
+        var target = new byte[52_000];
+        AlphabetTable.of(alphabet).fill(target);
+        var counts = new int[256];
+        for (byte b : target) {
+            counts[Byte.toUnsignedInt(b)]++;
+        }
+        for (char c : alphabet.toCharArray()) {
+            assertTrue(counts[c] > 800 && counts[c] < 1_200, "Character " + c + " should be drawn about 1000 times, was " + counts[c]);
+        }
+    }
+
+    @Test
+    @DisplayName("weigh duplicate characters by position")
+    void shouldWeighDuplicates() {
+        var target = new byte[30_000];
+        AlphabetTable.of("aab").fill(target);
+        var as = 0;
+        for (byte b : target) {
+            if (b == 'a') {
+                as++;
+            }
+        }
+        assertTrue(as > 19_000 && as < 21_000, "'a' should make up two thirds, was " + as);
+    }
+
+    @Test
+    @DisplayName("store Latin-1 alphabets as bytes and others as chars")
+    void shouldDistinguishLatin1() {
+        var latin1 = AlphabetTable.of("\u00e4\u00f6\u00fc");
+        assertTrue(latin1.isLatin1());
+        assertFalse(latin1.isAscii());
+        assertTrue(AlphabetTable.of("abc").isAscii());
+        var chars = new char[4];
+        assertThrows(IllegalStateException.class, () -> latin1.fill(chars));
+
+        var greek = AlphabetTable.of("\u03b1\u03b2");
+        assertFalse(greek.isLatin1());
+        greek.fill(chars);
+        for (char c : chars) {
+            assertTrue(c == '\u03b1' || c == '\u03b2', "Only alphabet characters expected");
+        }
+        var bytes = new byte[4];
+        assertThrows(IllegalStateException.class, () -> greek.fill(bytes));
+    }
+
+    @Test
+    @DisplayName("size the table to the alphabet")
+    void shouldSizeTableToAlphabet() {
+        assertEquals(512, AlphabetTable.of("01").tableSize(), "Two characters need 512 entries");
+        assertEquals(16_356, AlphabetTable.of("0123456789abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUV")
+                .tableSize(), "58 characters are repeated as often as they fit into 16384 entries");
+        var large = new StringBuilder();
+        for (char c = '\u0100'; c < '\u0500'; c++) {
+            large.append(c);
+        }
+        assertEquals(65_536, AlphabetTable.of(large.toString()).tableSize(), "Tables never exceed 65536 entries");
+
+        var bits = new byte[20_000];
+        AlphabetTable.of("01").fill(bits);
+        var ones = 0;
+        for (byte b : bits) {
+            ones += b == '1' ? 1 : 0;
+        }
+        assertTrue(ones > 9_500 && ones < 10_500, "'1' should make up half, was " + ones);
+    }
+
+    @Test
+    @DisplayName("cache tables per alphabet")
+    void shouldCacheTables() {
+        assertSame(AlphabetTable.of("0123456789"), AlphabetTable.of(new String("0123456789")));
+        assertThrows(IllegalArgumentException.class, () -> AlphabetTable.of(""));
+    }
+
+    @Test
+    @DisplayName("be reproducible for the same seed")
+    void shouldBeReproducible() {
+        var table = AlphabetTable.of("xyz");
+        var first = new byte[100];
+        var second = new byte[100];
+        RandomContext.setSeed(42L);
+        table.fill(first);
+        RandomContext.setSeed(42L);
+        table.fill(second);
+        assertArrayEquals(first, second);
+    }
+}
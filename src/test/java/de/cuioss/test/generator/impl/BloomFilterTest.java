@@ -0,0 +1,66 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.generator.impl;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BloomFilter should")
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("never accept a value twice")
+    void shouldRejectKnownValues() {
+        var filter = new BloomFilter(1_000, 0.01);
+        for (long value = 0; value < 1_000; value++) {
+            filter.add(value);
+        }
+        for (long value = 0; value < 1_000; value++) {
+            assertTrue(filter.mightContain(value), "Known value should be reported: " + value);
+            assertFalse(filter.add(value), "Known value should be rejected: " + value);
+        }
+    }
+
+    @Test
+    @DisplayName("stay close to the configured false-positive rate")
+    void shouldHonorFalsePositiveRate() {
+        var filter = new BloomFilter(10_000, 0.01);
+        for (long value = 0; value < 10_000; value++) {
+            filter.add(value);
+        }
+        var falsePositives = 0;
+        for (long value = 1_000_000; value < 1_010_000; value++) {
+            if (filter.mightContain(value)) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 300, "False-positive rate should be near 1%, was " + falsePositives / 100.0 + "%");
+        assertTrue(filter.bitCount() / 10_000 < 12, "Filter should need about 10 bits per value");
+        assertEquals(7, filter.hashCount(), "Optimal hash count for 1% is 7");
+    }
+
+    @Test
+    @DisplayName("forget all values on clear")
+    void shouldClear() {
+        var filter = new BloomFilter(10, 0.1);
+        filter.add(1L);
+        filter.clear();
+        assertEquals(0, filter.size());
+        assertTrue(filter.add(1L));
+    }
+}
@@ -51,4 +51,14 @@ class CharacterGeneratorTest {
     void shouldReturnCorrectType() {
         assertEquals(Character.class, new CharacterGenerator().getType());
     }
+
+    @Test
+    @DisplayName("draw unboxed characters within range")
+    void shouldDrawUnboxedCharacters() {
+        var generator = new CharacterGenerator('a', 'c');
+        for (int i = 0; i < 100; i++) {
+            char value = generator.nextChar();
+            assertTrue(value >= 'a' && value <= 'c', "Character out of range: " + value);
+        }
+    }
 }
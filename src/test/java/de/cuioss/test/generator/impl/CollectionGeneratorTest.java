@@ -16,6 +16,7 @@
 package de.cuioss.test.generator.impl;
 
 import de.cuioss.test.generator.Generators;
+import de.cuioss.test.generator.internal.RandomContext;
 import de.cuioss.test.generator.junit.EnableGeneratorController;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -23,8 +24,10 @@ import org.junit.jupiter.api.Test;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.SortedSet;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -124,4 +127,148 @@ class CollectionGeneratorTest {
                     "Should throw NPE for null generator");
         }
     }
+
+    @Nested
+    @DisplayName("handle sized and unmodifiable outputs")
+    class SizedOutputTests {
+
+        private final CollectionGenerator<Integer> integers = new CollectionGenerator<>(Generators.integers(0, 1_000));
+
+        @Test
+        @DisplayName("provide unmodifiable collections")
+        void shouldProvideUnmodifiableCollections() {
+            List<Integer> list = integers.unmodifiableList(100);
+            assertEquals(100, list.size(), "List should contain the requested count");
+            assertThrows(UnsupportedOperationException.class, () -> list.add(1), "List should be unmodifiable");
+
+            Set<Integer> set = integers.unmodifiableSet(100);
+            assertFalse(set.isEmpty(), "Set should not be empty");
+            assertThrows(UnsupportedOperationException.class, () -> set.add(1), "Set should be unmodifiable");
+
+            SortedSet<Integer> sorted = integers.unmodifiableSortedSet(100);
+            assertFalse(sorted.isEmpty(), "SortedSet should not be empty");
+            assertThrows(UnsupportedOperationException.class, () -> sorted.add(1),
+                    "SortedSet should be unmodifiable");
+        }
+
+        @Test
+        @DisplayName("provide sorted sets in natural order")
+        void shouldProvideSortedSet() {
+            var sorted = integers.sortedSet(200);
+            assertTrue(sorted.size() <= 200, "SortedSet should not exceed the requested count");
+            Integer previous = null;
+            for (Integer value : sorted) {
+                if (previous != null) {
+                    assertTrue(previous < value, "Elements should be in ascending order");
+                }
+                previous = value;
+            }
+        }
+
+        @Test
+        @DisplayName("provide maps with generated keys and values")
+        void shouldProvideMaps() {
+            Map<Integer, String> map = integers.map(Generators.letterStrings(1, 5), 50);
+            assertFalse(map.isEmpty(), "Map should not be empty");
+            assertTrue(map.size() <= 50, "Map should not exceed the requested count");
+            map.forEach((key, value) -> {
+                assertTrue(key >= 0 && key <= 1_000, "Key should come from the wrapped generator");
+                assertFalse(value.isEmpty(), "Value should come from the value generator");
+            });
+            assertFalse(integers.map(Generators.letterStrings()).isEmpty(), "Random sized map should not be empty");
+        }
+
+        @Test
+        @DisplayName("provide empty collections for a count of zero or less")
+        void shouldProvideEmptyCollectionsForNonPositiveCount() {
+            assertTrue(integers.list(-1).isEmpty(), "Negative count should result in an empty list");
+            assertTrue(integers.set(-1).isEmpty(), "Negative count should result in an empty set");
+            assertTrue(integers.sortedSet(-1).isEmpty(), "Negative count should result in an empty sorted set");
+            assertTrue(integers.unmodifiableList(0).isEmpty(), "Zero count should result in an empty list");
+        }
+
+        @Test
+        @DisplayName("reject invalid arguments")
+        void shouldRejectInvalidArguments() {
+            var values = Generators.letterStrings();
+            assertThrows(IllegalArgumentException.class, () -> integers.map(values, -1),
+                    "Negative count should be rejected");
+            assertThrows(NullPointerException.class, () -> integers.map(null, 1),
+                    "Null value generator should be rejected");
+        }
+    }
+
+    @Nested
+    @DisplayName("handle distinct sets")
+    class DistinctSetTests {
+
+        @Test
+        @DisplayName("provide the exact count for bounded integers")
+        void shouldSampleBoundedIntegers() {
+            var integers = new CollectionGenerator<>(Generators.integers(1, 100));
+            assertEquals(100, integers.distinctSet(100).size(), "Whole domain should be sampled");
+            var sample = integers.distinctSet(30);
+            assertEquals(30, sample.size(), "Exact count should be provided");
+            sample.forEach(value -> assertTrue(value >= 1 && value <= 100, "Value should be within the bounds"));
+        }
+
+        @Test
+        @DisplayName("provide the exact count for fixed values, enums and booleans")
+        void shouldSampleFiniteDomains() {
+            var fixed = new CollectionGenerator<>(Generators.fixedValues("a", "b", "a", "c"));
+            assertEquals(Set.of("a", "b", "c"), fixed.distinctSet(3), "Duplicates should not count twice");
+
+            var units = new CollectionGenerator<>(Generators.enumValues(TimeUnit.class));
+            assertEquals(Set.of(TimeUnit.values()), units.distinctSet(TimeUnit.values().length),
+                    "All enum constants should be provided");
+
+            var booleans = new CollectionGenerator<>(Generators.booleans());
+            assertEquals(Set.of(true, false), booleans.distinctSet(2), "Decorated booleans should be sampled");
+        }
+
+        @Test
+        @DisplayName("fail fast if the domain is too small")
+        void shouldRejectTooLargeCount() {
+            var booleans = new CollectionGenerator<>(Generators.booleans());
+            var ex = assertThrows(IllegalArgumentException.class, () -> booleans.distinctSet(3),
+                    "Count beyond the domain should be rejected");
+            assertTrue(ex.getMessage().contains("2"), "Message should name the domain size");
+            assertThrows(IllegalArgumentException.class, () -> booleans.distinctSet(-1),
+                    "Negative count should be rejected");
+        }
+
+        @Test
+        @DisplayName("fall back to bounded rejection for unknown domains")
+        void shouldFallBackToRejection() {
+            assertEquals(50, generator.distinctSet(50).size(), "Exact count should be provided");
+
+            var constant = new CollectionGenerator<>(() -> "constant");
+            var ex = assertThrows(IllegalStateException.class, () -> constant.distinctSet(2),
+                    "Exhausted generator should fail");
+            assertTrue(ex.getMessage().contains("attempts"), "Message should explain the failure");
+        }
+
+        @Test
+        @DisplayName("cover the whole range of longs too large to be indexed")
+        void shouldSampleWholeLongRange() {
+            var fullRange = new CollectionGenerator<>(Generators.longs()).distinctSet(100);
+            assertEquals(100, fullRange.size(), "Exact count should be provided");
+            assertTrue(fullRange.stream().anyMatch(value -> value < 0), "Negative values should be sampled");
+            assertTrue(fullRange.stream().anyMatch(value -> value > 0), "Positive values should be sampled");
+
+            var upperHalf = new CollectionGenerator<>(Generators.longs(0, Long.MAX_VALUE)).distinctSet(100);
+            assertTrue(upperHalf.stream().anyMatch(value -> value > Long.MAX_VALUE / 2),
+                    "The upper half of [0, Long.MAX_VALUE] should be sampled");
+        }
+
+        @Test
+        @DisplayName("be reproducible for the same seed")
+        void shouldBeReproducible() {
+            var integers = new CollectionGenerator<>(Generators.integers(0, 1_000_000));
+            RandomContext.setSeed(42L);
+            var first = integers.distinctSet(100);
+            RandomContext.setSeed(42L);
+            assertEquals(first, integers.distinctSet(100), "Same seed should yield the same set");
+        }
+    }
 }
@@ -15,6 +15,7 @@
  */
 package de.cuioss.test.generator.impl;
 
+import de.cuioss.test.generator.internal.RandomContext;
 import de.cuioss.test.generator.junit.EnableGeneratorController;
 import de.cuioss.test.generator.junit.GeneratorSeed;
 import org.junit.jupiter.api.DisplayName;
@@ -96,4 +97,15 @@ class DoubleGeneratorTest {
     void shouldReturnCorrectType() {
         assertEquals(Double.class, new DoubleGenerator().getType());
     }
+
+    @Test
+    @DisplayName("draw the same values unboxed and boxed")
+    void shouldDrawSameValuesUnboxed() {
+        var generator = new DoubleGenerator(-1.0, 1.0);
+        RandomContext.setSeed(42L);
+        double unboxed = generator.nextDouble();
+        RandomContext.setSeed(42L);
+        assertEquals(unboxed, generator.next());
+        assertTrue(unboxed >= -1.0 && unboxed <= 1.0, "Value out of range: " + unboxed);
+    }
 }
@@ -0,0 +1,69 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.generator.impl;
+
+import de.cuioss.test.generator.internal.RandomContext;
+import de.cuioss.test.generator.junit.EnableGeneratorController;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnableGeneratorController
+@DisplayName("ExponentialGenerator should")
+class ExponentialGeneratorTest {
+
+    private static final int SAMPLES = 200_000;
+
+    @Test
+    @DisplayName("generate non-negative values with the given mean and median")
+    void shouldFollowExponentialDistribution() {
+        RandomContext.setSeed(42L);
+        var generator = new ExponentialGenerator(250.0);
+        var sum = 0.0;
+        var belowMedian = 0;
+        for (int i = 0; i < SAMPLES; i++) {
+            var value = generator.nextDouble();
+            assertTrue(value >= 0.0, "Value must not be negative: " + value);
+            sum += value;
+            if (value < 250.0 * Math.log(2)) {
+                belowMedian++;
+            }
+        }
+        assertEquals(250.0, sum / SAMPLES, 2.5);
+        assertEquals(0.5, belowMedian / (double) SAMPLES, 0.005);
+        assertEquals(250.0, generator.getMean());
+    }
+
+    @Test
+    @DisplayName("replay values for the same seed")
+    void shouldReplayBySeed() {
+        var generator = new ExponentialGenerator(1.0);
+        RandomContext.setSeed(42L);
+        var first = generator.next(100);
+        RandomContext.setSeed(42L);
+        assertEquals(first, generator.next(100));
+    }
+
+    @Test
+    @DisplayName("reject invalid means")
+    void shouldRejectInvalidMean() {
+        assertThrows(IllegalArgumentException.class, () -> new ExponentialGenerator(0.0));
+        assertThrows(IllegalArgumentException.class, () -> new ExponentialGenerator(-1.0));
+        assertThrows(IllegalArgumentException.class, () -> new ExponentialGenerator(Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> new ExponentialGenerator(Double.POSITIVE_INFINITY));
+    }
+}
@@ -15,11 +15,13 @@
  */
 package de.cuioss.test.generator.impl;
 
+import de.cuioss.test.generator.internal.RandomContext;
 import de.cuioss.test.generator.junit.EnableGeneratorController;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
@@ -64,4 +66,22 @@ class FixedValuesGeneratorTest {
             assertTrue(value == TimeUnit.SECONDS || value == TimeUnit.MINUTES);
         }
     }
+
+    @Test
+    @DisplayName("generate batches identical to repeated single calls")
+    void shouldGenerateBatchesLikeSingleCalls() {
+        var generator = new FixedValuesGenerator<>(String.class, List.of("A", "B", "C", "D"));
+        RandomContext.setSeed(42L);
+        var single = new ArrayList<String>();
+        for (int i = 0; i < 200; i++) {
+            single.add(generator.next());
+        }
+        RandomContext.setSeed(42L);
+        assertEquals(single, generator.next(200), "Batch generation should match repeated next() calls");
+
+        var set = generator.nextInto(new HashSet<>(), 200);
+        assertEquals(4, set.size(), "All values should be drawn into the set");
+        assertThrows(IllegalArgumentException.class, () -> generator.nextInto(new ArrayList<>(), -1),
+                "Negative count should be rejected");
+    }
 }
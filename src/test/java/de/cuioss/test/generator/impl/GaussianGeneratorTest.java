@@ -0,0 +1,96 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.generator.impl;
+
+import de.cuioss.test.generator.internal.RandomContext;
+import de.cuioss.test.generator.junit.EnableGeneratorController;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnableGeneratorController
+@DisplayName("GaussianGenerator should")
+class GaussianGeneratorTest {
+
+    private static final int SAMPLES = 200_000;
+
+    @Test
+    @DisplayName("match the moments and quantiles of the standard normal distribution")
+    void shouldFollowStandardNormal() {
+        RandomContext.setSeed(42L);
+        var generator = new GaussianGenerator();
+        var sum = 0.0;
+        var sumOfSquares = 0.0;
+        var withinOne = 0;
+        var beyondThree = 0;
+        var beyondTail = 0;
+        for (int i = 0; i < SAMPLES; i++) {
+            var value = generator.nextDouble();
+            assertTrue(Double.isFinite(value));
+            sum += value;
+            sumOfSquares += value * value;
+            if (Math.abs(value) < 1.0) {
+                withinOne++;
+            }
+            if (Math.abs(value) > 3.0) {
+                beyondThree++;
+            }
+            if (Math.abs(value) > 3.442619855899) {
+                beyondTail++;
+            }
+        }
+        var mean = sum / SAMPLES;
+        assertEquals(0.0, mean, 0.01);
+        assertEquals(1.0, sumOfSquares / SAMPLES - mean * mean, 0.02);
+        assertEquals(0.6827, withinOne / (double) SAMPLES, 0.005);
+        assertEquals(0.0027, beyondThree / (double) SAMPLES, 0.0005);
+        assertTrue(beyondTail > 0, "Tail values should be generated");
+    }
+
+    @Test
+    @DisplayName("apply mean and standard deviation")
+    void shouldApplyParameters() {
+        RandomContext.setSeed(42L);
+        var generator = new GaussianGenerator(100.0, 5.0);
+        var sum = 0.0;
+        for (int i = 0; i < SAMPLES; i++) {
+            sum += generator.nextDouble();
+        }
+        assertEquals(100.0, sum / SAMPLES, 0.05);
+        assertEquals(100.0, generator.getMean());
+        assertEquals(5.0, generator.getStandardDeviation());
+        assertEquals(7.0, new GaussianGenerator(7.0, 0.0).nextDouble());
+    }
+
+    @Test
+    @DisplayName("replay values for the same seed")
+    void shouldReplayBySeed() {
+        var generator = new GaussianGenerator();
+        RandomContext.setSeed(42L);
+        var first = generator.next(100);
+        RandomContext.setSeed(42L);
+        assertEquals(first, generator.next(100));
+    }
+
+    @Test
+    @DisplayName("reject invalid parameters")
+    void shouldRejectInvalidParameters() {
+        assertThrows(IllegalArgumentException.class, () -> new GaussianGenerator(Double.NaN, 1.0));
+        assertThrows(IllegalArgumentException.class, () -> new GaussianGenerator(0.0, -1.0));
+        assertThrows(IllegalArgumentException.class, () -> new GaussianGenerator(0.0, Double.POSITIVE_INFINITY));
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.generator.impl;
+
+import de.cuioss.test.generator.internal.RandomContext;
+import de.cuioss.test.generator.junit.EnableGeneratorController;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnableGeneratorController
+@DisplayName("HistogramGenerator should")
+class HistogramGeneratorTest {
+
+    private static final int SAMPLES = 100_000;
+
+    @Test
+    @DisplayName("select bins proportional to their weights and stay within the bins")
+    void shouldFollowHistogram() {
+        RandomContext.setSeed(42L);
+        var generator = new HistogramGenerator(new double[]{0, 100, 1000}, new double[]{10, 200, 5000},
+                new double[]{70, 25, 5});
+        var counts = new int[3];
+        for (int i = 0; i < SAMPLES; i++) {
+            var value = generator.nextDouble();
+            if (value >= 0 && value <= 10) {
+                counts[0]++;
+            } else if (value >= 100 && value <= 200) {
+                counts[1]++;
+            } else if (value >= 1000 && value <= 5000) {
+                counts[2]++;
+            } else {
+                fail("Value outside all bins: " + value);
+            }
+        }
+        assertEquals(0.70, counts[0] / (double) SAMPLES, 0.01);
+        assertEquals(0.25, counts[1] / (double) SAMPLES, 0.01);
+        assertEquals(0.05, counts[2] / (double) SAMPLES, 0.01);
+    }
+
+    @Test
+    @DisplayName("load a histogram from a file")
+    void shouldLoadFromFile(@TempDir Path directory) throws IOException {
+        var file = directory.resolve("sizes.hist");
+        Files.write(file, List.of("# response sizes", "", "0, 10, 0", "10;20;1", "  30\t40 0 "));
+        var generator = HistogramGenerator.fromFile(file);
+        for (int i = 0; i < 1000; i++) {
+            var value = generator.nextDouble();
+            assertTrue(value >= 10 && value <= 20, "Unexpected value: " + value);
+        }
+    }
+
+    @Test
+    @DisplayName("report invalid lines")
+    void shouldRejectInvalidLines() {
+        var missingWeight = List.of("0,10");
+        var ex = assertThrows(IllegalArgumentException.class, () -> HistogramGenerator.fromLines(missingWeight));
+        assertTrue(ex.getMessage().contains("line 1"));
+        var invalidNumber = List.of("# header", "0,10,x");
+        ex = assertThrows(IllegalArgumentException.class, () -> HistogramGenerator.fromLines(invalidNumber));
+        assertTrue(ex.getMessage().contains("line 2"));
+        var empty = List.of("# nothing");
+        assertThrows(IllegalArgumentException.class, () -> HistogramGenerator.fromLines(empty));
+        var inverted = List.of("10,0,1");
+        assertThrows(IllegalArgumentException.class, () -> HistogramGenerator.fromLines(inverted));
+    }
+
+    @Test
+    @DisplayName("reject inconsistent arrays")
+    void shouldRejectInconsistentArrays() {
+        var one = new double[]{1};
+        var two = new double[]{1, 2};
+        assertThrows(IllegalArgumentException.class, () -> new HistogramGenerator(one, two, two));
+        assertThrows(NullPointerException.class, () -> new HistogramGenerator(null, one, one));
+    }
+
+    @Test
+    @DisplayName("replay values for the same seed")
+    void shouldReplayBySeed() {
+        var generator = HistogramGenerator.fromLines(List.of("0,1,1", "5,6,3"));
+        RandomContext.setSeed(42L);
+        var first = generator.next(100);
+        RandomContext.setSeed(42L);
+        assertEquals(first, generator.next(100));
+    }
+}
@@ -75,4 +75,26 @@ class IntegerGeneratorTest {
         int val2 = generator.next();
         assertEquals(val1, val2);
     }
+
+    @Test
+    @DisplayName("draw the same values unboxed and boxed")
+    void shouldDrawSameValuesUnboxed() {
+        var generator = new IntegerGenerator(-50, 50);
+        RandomContext.setSeed(42L);
+        int unboxed = generator.nextInt();
+        RandomContext.setSeed(42L);
+        assertEquals(unboxed, generator.next());
+        assertTrue(unboxed >= -50 && unboxed <= 50, "Value out of range: " + unboxed);
+    }
+
+    @Test
+    @DisplayName("expose its range as finite domain")
+    void shouldExposeDomain() {
+        var generator = new IntegerGenerator(-5, 5);
+        assertEquals(11, generator.domainSize());
+        assertEquals(-5, generator.valueAt(0));
+        assertEquals(5, generator.valueAt(10));
+        assertThrows(IndexOutOfBoundsException.class, () -> generator.valueAt(11));
+        assertEquals(1L << 32, new IntegerGenerator().domainSize());
+    }
 }
@@ -103,4 +103,26 @@ class LongGeneratorTest {
         long val2 = generator.next();
         assertEquals(val1, val2);
     }
+
+    @Test
+    @DisplayName("draw the same values unboxed and boxed")
+    void shouldDrawSameValuesUnboxed() {
+        var generator = new LongGenerator(-50, 50);
+        RandomContext.setSeed(42L);
+        long unboxed = generator.nextLong();
+        RandomContext.setSeed(42L);
+        assertEquals(unboxed, generator.next());
+        assertTrue(unboxed >= -50 && unboxed <= 50, "Value out of range: " + unboxed);
+    }
+
+    @Test
+    @DisplayName("expose its range as finite domain")
+    void shouldExposeDomain() {
+        var generator = new LongGenerator(-5, 5);
+        assertEquals(11, generator.domainSize());
+        assertEquals(-5L, generator.valueAt(0));
+        assertEquals(5L, generator.valueAt(10));
+        assertThrows(IndexOutOfBoundsException.class, () -> generator.valueAt(11));
+        assertEquals(Long.MAX_VALUE, new LongGenerator().domainSize());
+    }
 }
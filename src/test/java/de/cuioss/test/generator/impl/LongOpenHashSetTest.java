@@ -0,0 +1,50 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.generator.impl;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("LongOpenHashSet should")
+class LongOpenHashSetTest {
+
+    @Test
+    @DisplayName("add values only once, including zero, across growth")
+    void shouldAddValuesOnce() {
+        var set = new LongOpenHashSet();
+        for (long value = -5_000; value < 5_000; value++) {
+            assertTrue(set.add(value * 31), "Fresh value should be added: " + value);
+        }
+        for (long value = -5_000; value < 5_000; value++) {
+            assertFalse(set.add(value * 31), "Known value should be rejected: " + value);
+        }
+        assertEquals(10_000, set.size());
+    }
+
+    @Test
+    @DisplayName("forget all values on clear")
+    void shouldClear() {
+        var set = new LongOpenHashSet();
+        set.add(0L);
+        set.add(42L);
+        set.clear();
+        assertEquals(0, set.size());
+        assertTrue(set.add(0L));
+        assertTrue(set.add(42L));
+    }
+}
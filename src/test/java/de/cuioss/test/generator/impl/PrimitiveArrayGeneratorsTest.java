@@ -15,11 +15,16 @@
  */
 package de.cuioss.test.generator.impl;
 
+import de.cuioss.test.generator.internal.RandomContext;
 import de.cuioss.test.generator.junit.EnableGeneratorController;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @EnableGeneratorController
@@ -218,6 +223,113 @@ class PrimitiveArrayGeneratorsTest {
         }
     }
 
+    @Nested
+    @DisplayName("support size ranges and bulk fill")
+    class BulkFillTests {
+
+        @Test
+        @DisplayName("respect the configured size range")
+        void shouldRespectSizeRange() {
+            for (PrimitiveArrayGenerators generator : PrimitiveArrayGenerators.values()) {
+                for (var i = 0; i < 20; i++) {
+                    var array = generator.next(500, 510);
+                    var length = Array.getLength(array);
+                    assertTrue(length >= 500 && length <= 510,
+                            "Array length should be within [500, 510] for " + generator + ", was " + length);
+                }
+                assertEquals(0, Array.getLength(generator.next(0, 0)),
+                        "Empty size range should yield an empty array for " + generator);
+            }
+        }
+
+        @Test
+        @DisplayName("reject an invalid size range")
+        void shouldRejectInvalidSizeRange() {
+            var generator = PrimitiveArrayGenerators.INTEGER;
+            assertThrows(IllegalArgumentException.class, () -> generator.next(-1, 3),
+                    "Negative minSize should be rejected");
+            assertThrows(IllegalArgumentException.class, () -> generator.next(5, 3),
+                    "maxSize below minSize should be rejected");
+        }
+
+        @Test
+        @DisplayName("fill only the requested range")
+        void shouldFillOnlyRequestedRange() {
+            var ints = new int[100];
+            PrimitiveArrayGenerators.fill(ints, 10, 90);
+            for (var i = 0; i < 10; i++) {
+                assertEquals(0, ints[i], "Index before range should be untouched");
+                assertEquals(0, ints[90 + i], "Index after range should be untouched");
+            }
+            var bytes = new byte[100];
+            PrimitiveArrayGenerators.fill(bytes, 3, 97);
+            assertEquals(0, bytes[2], "Index before range should be untouched");
+            assertEquals(0, bytes[97], "Index after range should be untouched");
+            var booleans = new boolean[200];
+            PrimitiveArrayGenerators.fill(booleans, 1, 199);
+            assertFalse(booleans[0], "Index before range should be untouched");
+            assertFalse(booleans[199], "Index after range should be untouched");
+        }
+
+        @Test
+        @DisplayName("produce values within the default generator ranges")
+        void shouldProduceValuesInRange() {
+            var chars = new char[1000];
+            PrimitiveArrayGenerators.fill(chars);
+            for (char c : chars) {
+                assertTrue(c >= ' ' && c <= '~', "Character should be printable Basic Latin: " + (int) c);
+            }
+            var floats = new float[1000];
+            PrimitiveArrayGenerators.fill(floats);
+            for (float f : floats) {
+                assertTrue(Float.isFinite(f), "Float should be finite: " + f);
+            }
+            var doubles = new double[1000];
+            PrimitiveArrayGenerators.fill(doubles);
+            for (double d : doubles) {
+                assertTrue(Double.isFinite(d), "Double should be finite: " + d);
+            }
+            var shorts = new short[1000];
+            PrimitiveArrayGenerators.fill(shorts);
+            assertTrue(IntStream.range(0, shorts.length).anyMatch(i -> shorts[i] < 0),
+                    "Shorts should cover negative values");
+        }
+
+        @Test
+        @DisplayName("fill through the type-agnostic enum method")
+        void shouldFillThroughEnum() {
+            var longs = new long[64];
+            PrimitiveArrayGenerators.resolveForType(long.class).fillArray(longs, 0, longs.length);
+            assertTrue(Arrays.stream(longs).anyMatch(l -> l != 0), "Longs should have been filled");
+            var generator = PrimitiveArrayGenerators.DOUBLE;
+            var wrongType = new int[4];
+            assertThrows(ClassCastException.class, () -> generator.fillArray(wrongType, 0, 4),
+                    "Mismatching array type should be rejected");
+        }
+
+        @Test
+        @DisplayName("reject out of bounds ranges")
+        void shouldRejectOutOfBounds() {
+            var target = new double[8];
+            assertThrows(IndexOutOfBoundsException.class, () -> PrimitiveArrayGenerators.fill(target, 4, 9),
+                    "Range beyond the array should be rejected");
+            assertThrows(IndexOutOfBoundsException.class, () -> PrimitiveArrayGenerators.fill(target, 5, 4),
+                    "Inverted range should be rejected");
+        }
+
+        @Test
+        @DisplayName("be reproducible for the same seed")
+        void shouldBeReproducible() {
+            var first = new byte[256];
+            var second = new byte[256];
+            RandomContext.setSeed(42L);
+            PrimitiveArrayGenerators.fill(first);
+            RandomContext.setSeed(42L);
+            PrimitiveArrayGenerators.fill(second);
+            assertArrayEquals(first, second, "Same seed should produce identical bytes");
+        }
+    }
+
     @Nested
     @DisplayName("handle error cases")
     class ErrorHandlingTests {
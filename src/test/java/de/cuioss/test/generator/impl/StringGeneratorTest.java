@@ -15,10 +15,19 @@
  */
 package de.cuioss.test.generator.impl;
 
+import de.cuioss.test.generator.internal.RandomContext;
 import de.cuioss.test.generator.junit.EnableGeneratorController;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @EnableGeneratorController
@@ -80,4 +89,110 @@ class StringGeneratorTest {
     void shouldReturnCorrectType() {
         assertEquals(String.class, new StringGenerator().getType());
     }
+
+    @Test
+    @DisplayName("cover the whole Basic Latin range evenly")
+    void shouldCoverBasicLatinEvenly() {
+        var generator = new StringGenerator(1_000, 1_000);
+        var counts = new int[128];
+        for (int i = 0; i < 95; i++) {
+            generator.next().chars().forEach(c -> counts[c]++);
+        }
+        for (int c = 0x20; c <= 0x7E; c++) {
+            assertTrue(counts[c] > 700 && counts[c] < 1_300, "Character " + c + " should be drawn about 1000 times, was " + counts[c]);
+        }
+        assertEquals(0, counts[0x7F] + counts[0x1F], "Characters outside the range should not be drawn");
+    }
+
+    @Test
+    @DisplayName("support Latin-1, single-character and non-Latin-1 alphabets")
+    void shouldSupportAlphabets() {
+        var latin1 = new StringGenerator("\u00e4\u00f6\u00fc\u00ff", 50, 50).next();
+        assertEquals(50, latin1.length());
+        assertTrue(latin1.chars().allMatch(c -> "\u00e4\u00f6\u00fc\u00ff".indexOf(c) >= 0), "Only allowed chars expected: " + latin1);
+
+        assertEquals("xxxxx", new StringGenerator("x", 5, 5).next());
+
+        var greek = new StringGenerator("\u03b1\u03b2\u03b3", 20, 20).next();
+        assertEquals(20, greek.length());
+        assertTrue(greek.chars().allMatch(c -> c >= 0x03b1 && c <= 0x03b3), "Only allowed chars expected: " + greek);
+    }
+
+    @Test
+    @DisplayName("stream exactly the requested number of characters and bytes")
+    void shouldStreamExactCounts() throws IOException {
+        var generator = new StringGenerator();
+        var writer = new StringWriter();
+        generator.writeTo(writer, 20_000);
+        assertEquals(20_000, writer.toString().length());
+        assertTrue(writer.toString().chars().allMatch(c -> c >= 0x20 && c <= 0x7E), "Only Basic Latin expected");
+
+        var bytes = new ByteArrayOutputStream();
+        generator.writeTo(bytes, 9_000);
+        assertEquals(9_000, bytes.size());
+
+        var channelBytes = new ByteArrayOutputStream();
+        generator.writeLinesTo(Channels.newChannel(channelBytes), 10_000);
+        assertEquals(10_000, channelBytes.size());
+
+        var empty = new StringWriter();
+        generator.writeTo(empty, 0);
+        assertEquals("", empty.toString());
+    }
+
+    @Test
+    @DisplayName("stream lines with the configured lengths")
+    void shouldStreamLines() throws IOException {
+        var out = new ByteArrayOutputStream();
+        new StringGenerator("ab", 3, 5).writeLinesTo(out, 10_000);
+        var lines = out.toString(StandardCharsets.ISO_8859_1).split("\n", -1);
+        for (int i = 0; i < lines.length - 1; i++) {
+            assertTrue(lines[i].length() >= 3 && lines[i].length() <= 5, "Line length out of range: " + lines[i]);
+            assertTrue(lines[i].chars().allMatch(c -> c == 'a' || c == 'b'), "Only allowed chars expected");
+        }
+        assertTrue(lines[lines.length - 1].length() <= 5, "The last line may be cut at the requested count");
+    }
+
+    @Test
+    @DisplayName("stream the same text for the same seed regardless of the sink")
+    void shouldStreamReproducibly() throws IOException {
+        var generator = new StringGenerator(0, 80);
+        RandomContext.setSeed(42L);
+        var writer = new StringWriter();
+        generator.writeLinesTo(writer, 50_000);
+        RandomContext.setSeed(42L);
+        var out = new ByteArrayOutputStream();
+        generator.writeLinesTo(out, 50_000);
+        assertEquals(writer.toString(), out.toString(StandardCharsets.ISO_8859_1));
+    }
+
+    @Test
+    @DisplayName("stream alphabets beyond ASCII as whole UTF-8 characters")
+    void shouldStreamNonAsciiAsUtf8() throws IOException {
+        var generator = new StringGenerator("\u03b1\u03b2\u03b3", 1, 10);
+        var writer = new StringWriter();
+        generator.writeTo(writer, 100);
+        assertTrue(writer.toString().chars().allMatch(c -> c >= 0x03b1 && c <= 0x03b3), "Only allowed chars expected");
+        assertThrows(IllegalArgumentException.class, () -> generator.writeTo(writer, -1));
+
+        for (var byteCount : new int[]{0, 1, 2, 3, 20_001}) {
+            var out = new ByteArrayOutputStream();
+            generator.writeTo(out, byteCount);
+            assertEquals(byteCount, out.size());
+            var text = decodeStrictly(out.toByteArray());
+            var content = text.stripTrailing();
+            assertTrue(text.length() - content.length() <= 1, "At most one character may be padded");
+            assertTrue(content.chars().allMatch(c -> c >= 0x03b1 && c <= 0x03b3), "Only allowed chars expected");
+        }
+
+        var latin1 = new ByteArrayOutputStream();
+        new StringGenerator("\u00e4\u00f6\u00fc", 1, 10).writeLinesTo(latin1, 10_001);
+        assertEquals(10_001, latin1.size());
+        assertTrue(decodeStrictly(latin1.toByteArray()).chars()
+                .allMatch(c -> c == '\u00e4' || c == '\u00f6' || c == '\u00fc' || c == '\n' || c == ' '));
+    }
+
+    private static String decodeStrictly(byte[] bytes) throws CharacterCodingException {
+        return StandardCharsets.UTF_8.newDecoder().decode(ByteBuffer.wrap(bytes)).toString();
+    }
 }
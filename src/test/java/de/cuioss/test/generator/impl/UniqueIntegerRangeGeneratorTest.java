@@ -0,0 +1,81 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.generator.impl;
+
+import de.cuioss.test.generator.internal.RandomContext;
+import de.cuioss.test.generator.junit.EnableGeneratorController;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnableGeneratorController
+@DisplayName("UniqueIntegerRangeGenerator should")
+class UniqueIntegerRangeGeneratorTest {
+
+    @Test
+    @DisplayName("return every value of the range exactly once")
+    void shouldCoverRangeExactlyOnce() {
+        var generator = new UniqueIntegerRangeGenerator(-3, 3);
+        assertEquals(-3, generator.getMin());
+        assertEquals(3, generator.getMax());
+        assertEquals(7, generator.remaining());
+        var seen = new BitSet(7);
+        for (var i = 0; i < 7; i++) {
+            int value = generator.nextInt();
+            assertTrue(value >= -3 && value <= 3, "Value out of range: " + value);
+            assertFalse(seen.get(value + 3), "Value returned twice: " + value);
+            seen.set(value + 3);
+        }
+        assertEquals(0, generator.remaining());
+        assertThrows(IllegalStateException.class, generator::nextInt);
+        assertEquals(Integer.class, generator.getType());
+    }
+
+    @Test
+    @DisplayName("handle the full int range")
+    void shouldHandleFullRange() {
+        var generator = new UniqueIntegerRangeGenerator(Integer.MIN_VALUE, Integer.MAX_VALUE);
+        assertEquals(1L << 32, generator.remaining());
+        generator.nextInt();
+        assertEquals((1L << 32) - 1, generator.remaining());
+        assertThrows(IllegalArgumentException.class, () -> new UniqueIntegerRangeGenerator(1, 0));
+    }
+
+    @Test
+    @DisplayName("restart the same order on reset")
+    void shouldRestartOnReset() {
+        RandomContext.setSeed(42L);
+        var generator = new UniqueIntegerRangeGenerator(0, 99);
+        var first = draw(generator);
+        assertThrows(IllegalStateException.class, generator::nextInt);
+        generator.reset();
+        assertEquals(100, generator.remaining());
+        assertEquals(first, draw(generator));
+    }
+
+    private static List<Integer> draw(UniqueIntegerRangeGenerator generator) {
+        var values = new ArrayList<Integer>();
+        for (var i = 0; i < 100; i++) {
+            values.add(generator.nextInt());
+        }
+        return values;
+    }
+}
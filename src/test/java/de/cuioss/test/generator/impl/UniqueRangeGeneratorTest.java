@@ -0,0 +1,112 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.generator.impl;
+
+import de.cuioss.test.generator.internal.RandomContext;
+import de.cuioss.test.generator.junit.EnableGeneratorController;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnableGeneratorController
+@DisplayName("UniqueRangeGenerator should")
+class UniqueRangeGeneratorTest {
+
+    @ParameterizedTest
+    @CsvSource({"0, 0", "1, 6", "-5, 5", "0, 1023", "0, 1024", "-1000, 4095"})
+    @DisplayName("return every value of the range exactly once")
+    void shouldCoverRangeExactlyOnce(long min, long max) {
+        var generator = new UniqueRangeGenerator(min, max);
+        var size = (int) (max - min + 1);
+        var seen = new BitSet(size);
+        for (var i = 0; i < size; i++) {
+            long value = generator.nextLong();
+            assertTrue(value >= min && value <= max, "Value out of range: " + value);
+            assertFalse(seen.get((int) (value - min)), "Value returned twice: " + value);
+            seen.set((int) (value - min));
+        }
+        assertEquals(0, generator.remaining());
+        var ex = assertThrows(IllegalStateException.class, generator::nextLong);
+        assertTrue(ex.getMessage().contains(String.valueOf(size)), "Message should name the range size");
+    }
+
+    @Test
+    @DisplayName("not return values in ascending order")
+    void shouldShuffle() {
+        var generator = new UniqueRangeGenerator(0, 999);
+        var values = new ArrayList<Long>();
+        for (var i = 0; i < 1000; i++) {
+            values.add(generator.nextLong());
+        }
+        var ascending = IntStream.range(1, values.size()).filter(i -> values.get(i) > values.get(i - 1)).count();
+        assertTrue(ascending > 300 && ascending < 700, "Order should look random, ascending steps: " + ascending);
+    }
+
+    @Test
+    @DisplayName("handle the full long range")
+    void shouldHandleFullRange() {
+        var generator = new UniqueRangeGenerator(Long.MIN_VALUE, Long.MAX_VALUE);
+        var seen = new HashSet<Long>();
+        for (var i = 0; i < 10_000; i++) {
+            assertTrue(seen.add(generator.nextLong()), "Values should be unique");
+        }
+        assertEquals(Long.MAX_VALUE, generator.remaining());
+    }
+
+    @Test
+    @DisplayName("be reproducible for a seed and restart on reset")
+    void shouldBeReproducible() {
+        RandomContext.setSeed(42L);
+        var first = new UniqueRangeGenerator(1, 1_000_000);
+        RandomContext.setSeed(42L);
+        var second = new UniqueRangeGenerator(1, 1_000_000);
+        var firstValues = new ArrayList<Long>();
+        for (var i = 0; i < 100; i++) {
+            firstValues.add(first.nextLong());
+            assertEquals(firstValues.get(i), second.nextLong(), "Same seed should produce the same order");
+        }
+        first.reset();
+        assertEquals(1_000_000, first.remaining());
+        for (var i = 0; i < 100; i++) {
+            assertEquals(firstValues.get(i), first.nextLong(), "Reset should restart the same order");
+        }
+    }
+
+    @Test
+    @DisplayName("never return a value twice under concurrent access")
+    void shouldBeThreadSafe() {
+        var generator = new UniqueRangeGenerator(0, 99_999);
+        Set<Long> seen = ConcurrentHashMap.newKeySet();
+        IntStream.range(0, 100_000).parallel().forEach(i -> assertTrue(seen.add(generator.nextLong())));
+        assertEquals(100_000, seen.size());
+    }
+
+    @Test
+    @DisplayName("reject an inverted range")
+    void shouldRejectInvertedRange() {
+        assertThrows(IllegalArgumentException.class, () -> new UniqueRangeGenerator(5, 4));
+    }
+}
@@ -115,4 +115,55 @@ class UniqueValuesGeneratorTest {
         assertEquals(0, duplicates.get(), "Concurrent generation must not yield duplicates");
         assertEquals(threads * perThread, collected.size());
     }
+
+    @Test
+    @DisplayName("generate unique values when tracking fingerprints")
+    void shouldGenerateUniqueValuesHashed() {
+        var generator = UniqueValuesGenerator.hashed(new IntegerGenerator(0, 10_000));
+        var seen = new HashSet<Integer>();
+        for (int i = 0; i < 5_000; i++) {
+            assertTrue(seen.add(generator.next()), "Duplicate value generated");
+        }
+        var strings = UniqueValuesGenerator.hashed(new FixedValuesGenerator<>(String.class, List.of("Aa", "BB")));
+        assertNotEquals(strings.next(), strings.next(), "Strings with equal hashCode should be distinguished");
+        assertThrows(IllegalStateException.class, strings::next);
+    }
+
+    @Test
+    @DisplayName("generate unique values when tracking with a Bloom filter")
+    void shouldGenerateUniqueValuesWithBloomFilter() {
+        var generator = UniqueValuesGenerator.bloomFilter(new LongGenerator(), 10_000, 0.01);
+        var seen = new HashSet<Long>();
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(seen.add(generator.next()), "Duplicate value generated");
+        }
+        var source = new IntegerGenerator();
+        assertThrows(IllegalArgumentException.class, () -> UniqueValuesGenerator.bloomFilter(source, 0, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> UniqueValuesGenerator.bloomFilter(source, 10, 1.0));
+        assertThrows(NullPointerException.class, () -> UniqueValuesGenerator.bloomFilter(null, 10, 0.1));
+    }
+
+    @Test
+    @DisplayName("allow values again after reset")
+    void shouldResetInAllModes() {
+        List<UniqueValuesGenerator<Boolean>> generators = List.of(
+                new UniqueValuesGenerator<>(new BooleanGenerator()),
+                UniqueValuesGenerator.hashed(new BooleanGenerator()),
+                UniqueValuesGenerator.bloomFilter(new BooleanGenerator(), 100, 0.001));
+        for (var generator : generators) {
+            assertNotEquals(generator.next(), generator.next(), "Both values should be provided");
+            assertThrows(IllegalStateException.class, generator::next);
+            generator.reset();
+            assertNotEquals(generator.next(), generator.next(), "Both values should be provided again");
+        }
+    }
+
+    @Test
+    @DisplayName("fingerprint equal values equally")
+    void shouldFingerprintConsistently() {
+        assertEquals(UniqueValuesGenerator.fingerprint("abc"), UniqueValuesGenerator.fingerprint(new String("abc")));
+        assertNotEquals(UniqueValuesGenerator.fingerprint("Aa"), UniqueValuesGenerator.fingerprint("BB"));
+        assertEquals(UniqueValuesGenerator.fingerprint(List.of(1, 2)), UniqueValuesGenerator.fingerprint(List.of(1, 2)));
+        assertEquals(-7L, UniqueValuesGenerator.fingerprint(-7L));
+    }
 }
@@ -0,0 +1,130 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.generator.impl;
+
+import de.cuioss.test.generator.internal.RandomContext;
+import de.cuioss.test.generator.junit.EnableGeneratorController;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnableGeneratorController
+@DisplayName("WeightedValuesGenerator should")
+class WeightedValuesGeneratorTest {
+
+    private static final int SAMPLES = 100_000;
+
+    @Test
+    @DisplayName("select values proportional to their weights")
+    void shouldFollowWeights() {
+        RandomContext.setSeed(42L);
+        var weights = new double[]{1.0, 2.0, 3.0, 4.0};
+        var generator = new WeightedValuesGenerator<>(String.class, List.of("A", "B", "C", "D"), weights);
+        var counts = count(generator.next(SAMPLES));
+        assertEquals(0.1, counts.get("A") / (double) SAMPLES, 0.01);
+        assertEquals(0.2, counts.get("B") / (double) SAMPLES, 0.01);
+        assertEquals(0.3, counts.get("C") / (double) SAMPLES, 0.01);
+        assertEquals(0.4, counts.get("D") / (double) SAMPLES, 0.01);
+    }
+
+    @Test
+    @DisplayName("never select values with zero weight")
+    void shouldSkipZeroWeights() {
+        var generator = new WeightedValuesGenerator<>(String.class, List.of("A", "never", "B", "nope"),
+                new double[]{0.3, 0.0, 0.7, 0.0});
+        for (var value : generator.next(10_000)) {
+            assertTrue("A".equals(value) || "B".equals(value), "Unexpected value: " + value);
+        }
+    }
+
+    @Test
+    @DisplayName("handle highly skewed weights")
+    void shouldHandleSkewedWeights() {
+        RandomContext.setSeed(42L);
+        var generator = new WeightedValuesGenerator<>(String.class, List.of("common", "rare"),
+                new double[]{999.0, 1.0});
+        var counts = count(generator.next(SAMPLES));
+        assertEquals(0.001, counts.getOrDefault("rare", 0) / (double) SAMPLES, 0.0005);
+    }
+
+    @Test
+    @DisplayName("always return a single value")
+    void shouldReturnSingleValue() {
+        var generator = new WeightedValuesGenerator<>(String.class, List.of("only"), new double[]{5.0});
+        for (int i = 0; i < 100; i++) {
+            assertEquals("only", generator.next());
+        }
+    }
+
+    @Test
+    @DisplayName("be reproducible and generate batches identical to repeated single calls")
+    void shouldBeReproducible() {
+        var generator = new WeightedValuesGenerator<>(String.class, List.of("A", "B", "C"),
+                new double[]{5.0, 1.0, 2.5});
+        RandomContext.setSeed(42L);
+        var single = new ArrayList<String>();
+        for (int i = 0; i < 200; i++) {
+            single.add(generator.next());
+        }
+        RandomContext.setSeed(42L);
+        assertEquals(single, generator.next(200));
+    }
+
+    @Test
+    @DisplayName("return correct type")
+    void shouldReturnCorrectType() {
+        var generator = new WeightedValuesGenerator<>(String.class, List.of("A"), new double[]{1.0});
+        assertEquals(String.class, generator.getType());
+    }
+
+    @Test
+    @DisplayName("reject invalid arguments")
+    void shouldRejectInvalidArguments() {
+        var values = List.of("A", "B");
+        assertThrows(NullPointerException.class,
+                () -> new WeightedValuesGenerator<>(String.class, null, new double[]{1.0}));
+        assertThrows(NullPointerException.class,
+                () -> new WeightedValuesGenerator<>(String.class, values, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> new WeightedValuesGenerator<>(String.class, List.of(), new double[0]));
+        assertThrows(IllegalArgumentException.class,
+                () -> new WeightedValuesGenerator<>(String.class, values, new double[]{1.0}));
+        assertThrows(IllegalArgumentException.class,
+                () -> new WeightedValuesGenerator<>(String.class, values, new double[]{1.0, -1.0}));
+        assertThrows(IllegalArgumentException.class,
+                () -> new WeightedValuesGenerator<>(String.class, values, new double[]{1.0, Double.NaN}));
+        assertThrows(IllegalArgumentException.class,
+                () -> new WeightedValuesGenerator<>(String.class, values,
+                        new double[]{1.0, Double.POSITIVE_INFINITY}));
+        assertThrows(IllegalArgumentException.class,
+                () -> new WeightedValuesGenerator<>(String.class, values, new double[]{0.0, 0.0}));
+        assertThrows(IllegalArgumentException.class,
+                () -> new WeightedValuesGenerator<>(String.class, values,
+                        new double[]{Double.MAX_VALUE, Double.MAX_VALUE}));
+    }
+
+    private static Map<String, Integer> count(List<String> values) {
+        var counts = new HashMap<String, Integer>();
+        values.forEach(value -> counts.merge(value, 1, Integer::sum));
+        return counts;
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.generator.impl;
+
+import de.cuioss.test.generator.internal.RandomContext;
+import de.cuioss.test.generator.junit.EnableGeneratorController;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnableGeneratorController
+@DisplayName("ZipfGenerator should")
+class ZipfGeneratorTest {
+
+    private static final int SAMPLES = 200_000;
+
+    @ParameterizedTest
+    @CsvSource({"10, 1.0", "100, 1.5", "50, 0.5", "5, 3.0"})
+    @DisplayName("match the exact probability mass function")
+    void shouldMatchProbabilities(int numberOfElements, double exponent) {
+        RandomContext.setSeed(42L);
+        var generator = new ZipfGenerator(numberOfElements, exponent);
+        var counts = new int[numberOfElements + 1];
+        for (int i = 0; i < SAMPLES; i++) {
+            var value = generator.nextLong();
+            assertTrue(value >= 1 && value <= numberOfElements, "Out of range: " + value);
+            counts[(int) value]++;
+        }
+        var harmonic = 0.0;
+        for (int k = 1; k <= numberOfElements; k++) {
+            harmonic += Math.pow(k, -exponent);
+        }
+        for (int k = 1; k <= Math.min(5, numberOfElements); k++) {
+            var expected = Math.pow(k, -exponent) / harmonic;
+            assertEquals(expected, counts[k] / (double) SAMPLES, 0.005, "Probability of rank " + k);
+        }
+    }
+
+    @Test
+    @DisplayName("handle huge numbers of elements without setup cost")
+    void shouldHandleHugeDomains() {
+        var generator = new ZipfGenerator(Long.MAX_VALUE, 1.2);
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(generator.nextLong() >= 1);
+        }
+    }
+
+    @Test
+    @DisplayName("always return 1 for a single element")
+    void shouldHandleSingleElement() {
+        var generator = new ZipfGenerator(1, 1.0);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(1L, generator.nextLong());
+        }
+    }
+
+    @Test
+    @DisplayName("replay values for the same seed")
+    void shouldReplayBySeed() {
+        var generator = new ZipfGenerator(1000, 1.1);
+        RandomContext.setSeed(42L);
+        var first = generator.next(100);
+        RandomContext.setSeed(42L);
+        assertEquals(first, generator.next(100));
+    }
+
+    @Test
+    @DisplayName("reject invalid parameters")
+    void shouldRejectInvalidParameters() {
+        assertThrows(IllegalArgumentException.class, () -> new ZipfGenerator(0, 1.0));
+        assertThrows(IllegalArgumentException.class, () -> new ZipfGenerator(10, 0.0));
+        assertThrows(IllegalArgumentException.class, () -> new ZipfGenerator(10, Double.NaN));
+    }
+}
@@ -21,16 +21,22 @@ import de.cuioss.test.generator.junit.GeneratorSeed;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.time.Instant;
 import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.*;
 
 @EnableGeneratorController
 @GeneratorSeed(42L)
 @DisplayName("ZoneOffsetGenerator should")
 class ZoneOffsetGeneratorTest {
 
+    private static final Instant WINTER = Instant.parse("2024-01-15T12:00:00Z");
+    private static final Instant SUMMER = Instant.parse("2024-07-15T12:00:00Z");
+
     @Test
     @DisplayName("return ZoneOffset.class as type")
     void shouldReturnCorrectType() {
@@ -56,4 +62,68 @@ class ZoneOffsetGeneratorTest {
         ZoneOffset second = generator.next();
         assertEquals(first, second, "Same seed must yield the same offset");
     }
+
+    @Test
+    @DisplayName("be reproducible across instances for a fixed instant")
+    void shouldBeReproducibleForFixedInstant() {
+        RandomContext.setSeed(42L);
+        var first = new ZoneOffsetGenerator(WINTER, ZoneOffsetGenerator.Weighting.BY_ZONE_COUNT);
+        var firstValues = Stream.generate(first::next).limit(20).toList();
+        RandomContext.setSeed(42L);
+        var second = new ZoneOffsetGenerator(WINTER, ZoneOffsetGenerator.Weighting.BY_ZONE_COUNT);
+        var secondValues = Stream.generate(second::next).limit(20).toList();
+        assertEquals(firstValues, secondValues);
+    }
+
+    @Test
+    @DisplayName("resolve offsets against the given instant")
+    void shouldResolveAgainstInstant() {
+        var winter = new ZoneOffsetGenerator(WINTER, ZoneOffsetGenerator.Weighting.UNIFORM);
+        var summer = new ZoneOffsetGenerator(SUMMER, ZoneOffsetGenerator.Weighting.UNIFORM);
+        assertEquals(WINTER, winter.getInstant());
+        assertTrue(winter.distinctOffsets().contains(ZoneOffset.ofHours(1)), "Berlin in winter");
+        assertTrue(summer.distinctOffsets().contains(ZoneOffset.ofHours(2)), "Berlin in summer");
+        assertTrue(winter.distinctOffsets().contains(ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("draw only distinct offsets, each with similar frequency, in uniform mode")
+    void shouldDrawDistinctOffsetsUniformly() {
+        var generator = new ZoneOffsetGenerator(WINTER, ZoneOffsetGenerator.Weighting.UNIFORM);
+        var distinct = generator.distinctOffsets();
+        int draws = distinct.size() * 200;
+        Map<ZoneOffset, Integer> counts = new HashMap<>();
+        for (int i = 0; i < draws; i++) {
+            counts.merge(generator.next(), 1, Integer::sum);
+        }
+        assertEquals(distinct.size(), counts.size(), "Every distinct offset should be drawn");
+        assertTrue(counts.get(ZoneOffset.UTC) < 400, "UTC must not be favoured, was " + counts.get(ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("favour offsets shared by many zones when weighted by zone count")
+    void shouldWeightByZoneCount() {
+        var weighted = new ZoneOffsetGenerator(WINTER, ZoneOffsetGenerator.Weighting.BY_ZONE_COUNT);
+        var uniform = new ZoneOffsetGenerator(WINTER, ZoneOffsetGenerator.Weighting.UNIFORM);
+        assertEquals(uniform.distinctOffsets(), weighted.distinctOffsets());
+        int weightedUtc = 0;
+        int uniformUtc = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (ZoneOffset.UTC.equals(weighted.next())) {
+                weightedUtc++;
+            }
+            if (ZoneOffset.UTC.equals(uniform.next())) {
+                uniformUtc++;
+            }
+        }
+        assertTrue(weightedUtc > 2 * uniformUtc, "weighted " + weightedUtc + ", uniform " + uniformUtc);
+    }
+
+    @Test
+    @DisplayName("reject null parameters")
+    void shouldRejectNull() {
+        assertThrows(NullPointerException.class,
+                () -> new ZoneOffsetGenerator(null, ZoneOffsetGenerator.Weighting.UNIFORM));
+        assertThrows(NullPointerException.class, () -> new ZoneOffsetGenerator(WINTER, null));
+    }
 }
@@ -0,0 +1,51 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.generator.internal;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("GeneratorPreconditions should")
+class GeneratorPreconditionsTest {
+
+    @Test
+    @DisplayName("accept non-negative counts and name the parameter otherwise")
+    void shouldCheckCount() {
+        assertEquals(0L, GeneratorPreconditions.checkCount("count", 0));
+        assertEquals(5L, GeneratorPreconditions.checkCount("count", 5));
+        var thrown = assertThrows(IllegalArgumentException.class,
+                () -> GeneratorPreconditions.checkCount("byteCount", -1));
+        assertEquals("byteCount must be >= 0, given: -1", thrown.getMessage());
+    }
+
+    @Test
+    @DisplayName("check and return the target of a nextInto call")
+    void shouldPrepareTarget() {
+        List<String> list = new ArrayList<>(List.of("a"));
+        assertSame(list, GeneratorPreconditions.prepareTarget(list, 10));
+        assertEquals(List.of("a"), list);
+        var set = new HashSet<String>();
+        assertSame(set, GeneratorPreconditions.prepareTarget(set, 0));
+        assertThrows(NullPointerException.class, () -> GeneratorPreconditions.prepareTarget(null, 1));
+        assertThrows(IllegalArgumentException.class, () -> GeneratorPreconditions.prepareTarget(set, -1));
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.generator.internal;
+
+import de.cuioss.test.generator.Generators;
+import de.cuioss.test.generator.TypedGenerator;
+import de.cuioss.test.generator.impl.UniqueRangeGenerator;
+import de.cuioss.test.generator.impl.UniqueValuesGenerator;
+import de.cuioss.test.generator.junit.EnableGeneratorController;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnableGeneratorController
+@DisplayName("GeneratorSpliterator should")
+class GeneratorSpliteratorTest {
+
+    private final TypedGenerator<Integer> generator = Generators.integers();
+
+    @Test
+    @DisplayName("provide exactly the requested number of values")
+    void shouldProvideRequestedCount() {
+        assertEquals(1000, generator.stream(1000).count(), "Stream should contain the requested count");
+        assertEquals(0, generator.stream(0).count(), "Empty stream should contain no values");
+        assertEquals(17, generator.stream().limit(17).count(), "Unbounded stream should be limitable");
+    }
+
+    @Test
+    @DisplayName("reject a negative size")
+    void shouldRejectNegativeSize() {
+        assertThrows(IllegalArgumentException.class, () -> generator.stream(-1),
+                "Negative size should be rejected");
+    }
+
+    @Test
+    @DisplayName("produce the same values sequentially and in parallel for a seed")
+    void shouldBeDeterministicInParallel() {
+        RandomContext.setSeed(42L);
+        List<Integer> sequential = generator.stream(10_000).toList();
+        RandomContext.setSeed(42L);
+        List<Integer> parallel = generator.stream(10_000).parallel().toList();
+        assertEquals(sequential, parallel, "Parallel stream should reproduce the sequential values");
+        assertTrue(new HashSet<>(sequential).size() > 9_000, "Values should be random");
+    }
+
+    @Test
+    @DisplayName("produce the same values regardless of how it is split")
+    void shouldBeIndependentOfSplitting() {
+        RandomContext.setSeed(4711L);
+        var whole = new ArrayList<Integer>();
+        generator.spliterator(1000).forEachRemaining(whole::add);
+
+        RandomContext.setSeed(4711L);
+        var split = generator.spliterator(1000);
+        var first = new ArrayList<Integer>();
+        assertTrue(split.tryAdvance(first::add), "Spliterator should provide a first value");
+        Spliterator<Integer> prefix = split.trySplit();
+        assertNotNull(prefix, "Spliterator should be splittable");
+        prefix.forEachRemaining(first::add);
+        split.forEachRemaining(first::add);
+
+        assertEquals(whole, first, "Splitting should not change the values or their order");
+    }
+
+    @Test
+    @DisplayName("report size characteristics")
+    void shouldReportCharacteristics() {
+        var sized = generator.spliterator(100);
+        assertTrue(sized.hasCharacteristics(Spliterator.SIZED | Spliterator.ORDERED),
+                "Bounded spliterator should be sized and ordered");
+        assertEquals(100, sized.estimateSize(), "Estimate should be exact");
+        var unbounded = GeneratorSpliterator.unbounded(generator);
+        assertFalse(unbounded.hasCharacteristics(Spliterator.SIZED), "Unbounded spliterator is not sized");
+    }
+
+    @Test
+    @DisplayName("consume only the base seed from the global random state")
+    void shouldNotConsumeGlobalState() {
+        RandomContext.setSeed(42L);
+        RandomContext.generator().nextLong();
+        long expected = RandomContext.generator().nextLong();
+
+        RandomContext.setSeed(42L);
+        assertEquals(500, generator.stream(500).toList().size(), "Stream should contain the requested count");
+        assertEquals(expected, RandomContext.generator().nextLong(),
+                "Consuming a stream should draw exactly one value from the global random state");
+    }
+
+    @Test
+    @DisplayName("run consumers outside the block scope and close it afterwards")
+    void shouldRunConsumersOutsideScope() {
+        RandomContext.setSeed(4711L);
+        var plain = generator.stream(200).toList();
+
+        RandomContext.setSeed(4711L);
+        var consumed = new ArrayList<Integer>();
+        generator.spliterator(200).forEachRemaining(value -> {
+            assertEquals(0, RandomContext.activeScopes(), "Consumer must not run inside a scope");
+            // Drawing here must not shift the generated elements
+            RandomContext.generator().nextInt();
+            consumed.add(value);
+        });
+
+        assertEquals(plain, consumed);
+        assertEquals(0, RandomContext.activeScopes(), "All scopes must be closed");
+    }
+
+    @Test
+    @DisplayName("not generate ahead of demand for an unbounded stream")
+    void shouldNotGenerateAheadOfDemand() {
+        var range = new UniqueRangeGenerator(1, 5);
+        assertEquals(Set.of(1L, 2L, 3L, 4L, 5L), range.stream().limit(5).collect(Collectors.toSet()),
+                "All values of the range should be provided without exhausting it");
+
+        var unique = new UniqueValuesGenerator<>(Generators.integers(1, 10));
+        assertEquals(3, unique.stream().limit(3).distinct().count(), "Only the consumed values should be drawn");
+        assertEquals(7, unique.stream().limit(7).distinct().count(), "The remaining values should still be available");
+    }
+
+    @Test
+    @DisplayName("produce the same values element by element and in blocks")
+    void shouldMatchElementWiseAndBlockGeneration() {
+        RandomContext.setSeed(815L);
+        var blocks = generator.stream(200).toList();
+
+        RandomContext.setSeed(815L);
+        assertEquals(blocks, generator.stream().limit(200).toList(), "Unbounded stream should yield the same values");
+
+        RandomContext.setSeed(815L);
+        var mixed = new ArrayList<Integer>();
+        var spliterator = generator.spliterator(200);
+        for (int i = 0; i < 70; i++) {
+            assertTrue(spliterator.tryAdvance(mixed::add), "Spliterator should provide a value");
+        }
+        spliterator.forEachRemaining(mixed::add);
+        assertEquals(blocks, mixed, "Mixing tryAdvance and forEachRemaining should not change the values");
+    }
+}
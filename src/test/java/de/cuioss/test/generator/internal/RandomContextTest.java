@@ -18,8 +18,16 @@ package de.cuioss.test.generator.internal;
 import de.cuioss.test.generator.junit.EnableGeneratorController;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -96,6 +104,157 @@ class RandomContextTest {
         assertNotNull(RandomContext.getConfiguredSeed());
     }
 
+    @Test
+    @DisplayName("reproduce sequences per thread in thread-local mode")
+    void shouldBeReproducibleInThreadLocalMode() {
+        RandomContext.setThreadLocal(true);
+        try {
+            RandomContext.setSeed(4711L);
+            var first = List.of(RandomContext.generator().nextLong(), RandomContext.generator().nextLong());
+            RandomContext.setSeed(4711L);
+            var second = List.of(RandomContext.generator().nextLong(), RandomContext.generator().nextLong());
+            assertEquals(first, second);
+            assertEquals(4711L, RandomContext.getLastSeed());
+        } finally {
+            RandomContext.setThreadLocal(false);
+        }
+    }
+
+    @Test
+    @DisplayName("isolate seeds between threads in thread-local mode")
+    void shouldIsolateThreadsInThreadLocalMode() throws InterruptedException {
+        RandomContext.setThreadLocal(true);
+        try {
+            RandomContext.setSeed(1L);
+            var otherSeed = new AtomicLong();
+            var otherValues = new AtomicReference<List<Long>>();
+            var thread = new Thread(() -> {
+                RandomContext.setSeed(2L);
+                otherSeed.set(RandomContext.getLastSeed());
+                otherValues.set(draw(3));
+            });
+            thread.start();
+            thread.join();
+
+            assertEquals(1L, RandomContext.getLastSeed(), "Other thread must not re-seed this thread");
+            assertEquals(2L, otherSeed.get());
+            RandomContext.setSeed(2L);
+            assertEquals(otherValues.get(), draw(3), "Same seed must yield same sequence on any thread");
+        } finally {
+            RandomContext.setThreadLocal(false);
+        }
+    }
+
+    @Test
+    @DisplayName("replay the values of unseeded worker threads started after a seed in thread-local mode")
+    void shouldReproduceWorkerThreadsInThreadLocalMode() throws InterruptedException {
+        RandomContext.setThreadLocal(true);
+        try {
+            RandomContext.setSeed(4711L);
+            var first = drawInWorkers();
+            RandomContext.setSeed(4711L);
+            var second = drawInWorkers();
+            assertEquals(first, second, "Fresh worker threads must replay their values for the same seed");
+            assertNotEquals(first.get(0), first.get(1), "Every worker must derive its own seed");
+        } finally {
+            RandomContext.setThreadLocal(false);
+        }
+    }
+
+    private static List<List<Long>> drawInWorkers() throws InterruptedException {
+        List<List<Long>> values = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            var drawn = new AtomicReference<List<Long>>();
+            var thread = new Thread(() -> drawn.set(draw(3)));
+            thread.start();
+            thread.join();
+            values.add(drawn.get());
+        }
+        return values;
+    }
+
+    @Test
+    @DisplayName("provide a Random view in thread-local mode")
+    void shouldProvideRandomViewInThreadLocalMode() {
+        RandomContext.setThreadLocal(true);
+        try {
+            RandomContext.setSeed(99L);
+            int fromView = RandomContext.random().nextInt();
+            RandomContext.setSeed(99L);
+            assertEquals(RandomContext.generator().nextInt(), fromView);
+        } finally {
+            RandomContext.setThreadLocal(false);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"L64X128MixRandom", "Xoshiro256PlusPlus", "SplittableRandom", "Random"})
+    @DisplayName("replay the same values for a seed with any selected algorithm")
+    void shouldBeReproducibleForAlgorithm(String algorithm) {
+        try {
+            RandomContext.setSeed(4711L, algorithm);
+            assertEquals(algorithm, RandomContext.getAlgorithm());
+            var first = draw(3);
+            RandomContext.setSeed(4711L);
+            assertEquals(algorithm, RandomContext.getAlgorithm(), "setSeed(long) must keep the algorithm");
+            assertEquals(first, draw(3));
+        } finally {
+            RandomContext.setSeed(RandomContext.getLastSeed(), null);
+        }
+    }
+
+    @Test
+    @DisplayName("reject an unknown algorithm")
+    void shouldRejectUnknownAlgorithm() {
+        assertThrows(IllegalArgumentException.class, () -> RandomContext.setSeed(1L, "NoSuchRandom"));
+    }
+
+    @Test
+    @DisplayName("fall back to the default algorithm on an unknown algorithm system property")
+    void shouldFallBackOnUnknownAlgorithmProperty() {
+        var property = RandomContext.ALGORITHM_SYSTEM_PROPERTY;
+        var previous = System.getProperty(property);
+        try {
+            System.setProperty(property, "NoSuchRandom");
+            assertNull(RandomContext.readAlgorithmProperty());
+            System.setProperty(property, " Xoshiro256PlusPlus ");
+            assertEquals("Xoshiro256PlusPlus", RandomContext.readAlgorithmProperty());
+        } finally {
+            restore(property, previous);
+        }
+    }
+
+    @Test
+    @DisplayName("switch to the shared mode after starting in thread-local mode")
+    void shouldSwitchToSharedModeWhenStartedThreadLocal() throws Exception {
+        var property = RandomContext.THREAD_LOCAL_SYSTEM_PROPERTY;
+        var previous = System.getProperty(property);
+        System.setProperty(property, "true");
+        try (var loader = new IsolatingClassLoader()) {
+            // A fresh copy of the class, initialized with the property set
+            var type = Class.forName(RandomContext.class.getName(), true, loader);
+            assertEquals(true, type.getMethod("isThreadLocal").invoke(null));
+            assertNotNull(type.getMethod("generator").invoke(null));
+
+            type.getMethod("setThreadLocal", boolean.class).invoke(null, false);
+            assertNotNull(type.getMethod("generator").invoke(null), "Shared generator must exist");
+            assertEquals("Random", type.getMethod("getAlgorithm").invoke(null));
+            type.getMethod("setSeed", long.class).invoke(null, 42L);
+            var random = (Random) type.getMethod("random").invoke(null);
+            assertEquals(new Random(42L).nextLong(), random.nextLong(), "Shared mode should apply the seed");
+        } finally {
+            restore(property, previous);
+        }
+    }
+
+    private static List<Long> draw(int count) {
+        var values = new ArrayList<Long>();
+        for (int i = 0; i < count; i++) {
+            values.add(RandomContext.generator().nextLong());
+        }
+        return values;
+    }
+
     private static void withProperty(String value, Runnable assertion) {
         var property = RandomContext.SEED_SYSTEM_PROPERTY;
         var previous = System.getProperty(property);
@@ -114,4 +273,26 @@ class RandomContextTest {
             System.setProperty(property, previous);
         }
     }
+
+    /**
+     * Loads the classes of this package itself, so that they are initialized anew.
+     */
+    private static final class IsolatingClassLoader extends URLClassLoader {
+
+        IsolatingClassLoader() {
+            super(new URL[]{RandomContext.class.getProtectionDomain().getCodeSource().getLocation()},
+                    RandomContextTest.class.getClassLoader());
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!name.startsWith(RandomContext.class.getPackageName() + ".")) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                var loaded = findLoadedClass(name);
+                return loaded != null ? loaded : findClass(name);
+            }
+        }
+    }
 }
@@ -0,0 +1,55 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.generator.internal;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.TimeZone;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ZoneCatalogue should")
+class ZoneCatalogueTest {
+
+    @Test
+    @DisplayName("provide all available zone IDs, sorted by ID")
+    void shouldProvideZoneIds() {
+        var zoneIds = ZoneCatalogue.zoneIds();
+        assertEquals(ZoneId.getAvailableZoneIds().size(), zoneIds.size());
+        assertTrue(zoneIds.contains(ZoneId.of("Europe/Berlin")));
+        assertEquals(zoneIds.stream().sorted(Comparator.comparing(ZoneId::getId)).toList(), zoneIds);
+    }
+
+    @Test
+    @DisplayName("provide all available time zones, sorted by ID")
+    void shouldProvideTimeZones() {
+        var timeZones = ZoneCatalogue.timeZones();
+        assertEquals(TimeZone.getAvailableIDs().length, timeZones.size());
+        assertEquals(timeZones.stream().sorted(Comparator.comparing(TimeZone::getID)).toList(), timeZones);
+    }
+
+    @Test
+    @DisplayName("share immutable lists")
+    void shouldShareImmutableLists() {
+        assertSame(ZoneCatalogue.zoneIds(), ZoneCatalogue.zoneIds());
+        assertSame(ZoneCatalogue.timeZones(), ZoneCatalogue.timeZones());
+        var zoneIds = ZoneCatalogue.zoneIds();
+        assertThrows(UnsupportedOperationException.class, () -> zoneIds.add(ZoneId.of("UTC")));
+    }
+}
@@ -123,6 +123,34 @@ class GeneratorControllerExtensionTest {
         }
     }
 
+    // cui-rewrite:disable InvalidExceptionUsageRecipe
+    @Test
+    void shouldReportConfiguredAlgorithm() {
+        var extension = new GeneratorControllerExtension();
+        RandomContext.setSeed(DEFAULT_SEED);
+        try {
+            extension.handleTestExecutionException(null, new IllegalStateException("bad state"));
+            fail("Should have thrown exception");
+        } catch (Throwable e) {
+            assertEquals(RandomContext.getConfiguredAlgorithm().isPresent(),
+                    e.getMessage().contains(RandomContext.ALGORITHM_SYSTEM_PROPERTY));
+        }
+    }
+
+    /**
+     * Verifies that a class-level algorithm selection is applied together with the seed.
+     */
+    @Nested
+    @EnableGeneratorController(algorithm = "Xoshiro256PlusPlus")
+    class NestedWithAlgorithm {
+
+        @Test
+        void shouldApplyAlgorithmAndInheritSeed() {
+            assertEquals("Xoshiro256PlusPlus", RandomContext.getAlgorithm());
+            assertEquals(5L, RandomContext.getLastSeed());
+        }
+    }
+
     /**
      * Verifies that a {@code @Nested} test without its own seed inherits the
      * enclosing class-level {@code @GeneratorSeed} (S-7).
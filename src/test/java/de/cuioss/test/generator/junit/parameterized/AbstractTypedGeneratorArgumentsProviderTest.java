@@ -17,6 +17,7 @@ package de.cuioss.test.generator.junit.parameterized;
 
 import de.cuioss.test.generator.Generators;
 import de.cuioss.test.generator.TypedGenerator;
+import de.cuioss.test.generator.impl.DecoratorGenerator;
 import de.cuioss.test.generator.internal.RandomContext;
 import de.cuioss.test.generator.junit.EnableGeneratorController;
 import de.cuioss.test.generator.junit.GeneratorSeed;
@@ -29,9 +30,13 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.junit.platform.commons.JUnitException;
 
 import java.lang.reflect.AnnotatedElement;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import static org.easymock.EasyMock.*;
@@ -118,9 +123,9 @@ class AbstractTypedGeneratorArgumentsProviderTest {
         long seed = 987654321L;
         var generator = Generators.integers(Integer.MIN_VALUE, Integer.MAX_VALUE);
 
-        // Baseline: three values from the very start of the seed's stream
+        // Baseline: three values streamed from the very start of the seed
         RandomContext.setSeed(seed);
-        var baseline = List.of(generator.next(), generator.next(), generator.next());
+        var baseline = generator.stream(3).toList();
 
         // Advance the shared RNG mid-stream while lastSeed still equals the explicit seed
         RandomContext.setSeed(seed);
@@ -134,6 +139,78 @@ class AbstractTypedGeneratorArgumentsProviderTest {
                 "Explicit seed must be re-applied so arguments do not depend on prior consumption");
     }
 
+    @Test
+    @DisplayName("Should create the generator per call without a context or with caching disabled")
+    void shouldNotCacheWithoutContext() {
+        var provider = new TestArgumentsProvider(TEST_SEED, 1);
+        var key = List.of(TypeGeneratorSource.class, "key");
+
+        var first = provider.getOrCreateGenerator(null, true, key, Generators::nonEmptyStrings);
+        var second = provider.getOrCreateGenerator(null, true, key, () -> Generators.strings(1, 2));
+        assertNotSame(first, second);
+
+        ExtensionContext context = createMock(ExtensionContext.class);
+        replay(context);
+        assertNotNull(provider.getOrCreateGenerator(context, false, key, Generators::nonEmptyStrings));
+        verify(context);
+    }
+
+    @Test
+    @DisplayName("Should cache a stateless generator in the root store")
+    void shouldCacheStatelessGenerators() {
+        var provider = new TestArgumentsProvider(TEST_SEED, 1);
+        var key = List.of(TypeGeneratorSource.class, "stateless");
+        var context = createStoreContext(key, 2);
+
+        var first = provider.getOrCreateGenerator(context, true, key, Generators::nonEmptyStrings);
+        var second = provider.getOrCreateGenerator(context, true, key, Generators::nonEmptyStrings);
+
+        assertSame(first, second);
+        verify(context);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {"uniqueValues", "uniqueIntegers", "uniqueLongs", "decorated"})
+    @DisplayName("Should never cache a stateful generator")
+    void shouldNotCacheStatefulGenerators(String kind) {
+        var provider = new TestArgumentsProvider(TEST_SEED, 1);
+        var key = List.of(TypeGeneratorSource.class, kind);
+        var context = createStoreContext(key, 3);
+        Supplier<TypedGenerator<?>> factory = switch (kind) {
+            case "uniqueValues" -> () -> Generators.uniqueValues(Generators.integers());
+            case "uniqueIntegers" -> () -> Generators.uniqueIntegers(1, 10);
+            case "uniqueLongs" -> () -> Generators.uniqueLongs(1, 10);
+            default -> () -> new DecoratorGenerator<>(Integer.class, Generators.uniqueIntegers(1, 10));
+        };
+
+        var first = provider.getOrCreateGenerator(context, true, key, factory);
+        var second = provider.getOrCreateGenerator(context, true, key, factory);
+        var third = provider.getOrCreateGenerator(context, true, key, factory);
+
+        assertNotSame(first, second);
+        assertNotSame(second, third);
+        verify(context);
+    }
+
+    /**
+     * A context whose root store computes absent values into a map, expecting the given number
+     * of lookups for the key.
+     */
+    @SuppressWarnings("unchecked")
+    private static ExtensionContext createStoreContext(List<?> key, int lookups) {
+        Map<Object, Optional<?>> values = new HashMap<>();
+        ExtensionContext context = createMock(ExtensionContext.class);
+        ExtensionContext.Store store = createMock(ExtensionContext.Store.class);
+        expect(context.getRoot()).andReturn(context).anyTimes();
+        expect(context.getStore(AbstractTypedGeneratorArgumentsProvider.GENERATOR_CACHE)).andReturn(store).anyTimes();
+        expect(store.computeIfAbsent(eq(key), anyObject(Function.class), eq(Optional.class)))
+                .andAnswer(() -> values.computeIfAbsent(getCurrentArgument(0),
+                        (Function<Object, Optional<?>>) getCurrentArgument(1)))
+                .times(lookups);
+        replay(context, store);
+        return context;
+    }
+
     @ParameterizedTest(name = "With count={0}, should generate {0} arguments")
     @ValueSource(ints = {1, 3, 5, 10})
     @DisplayName("Should generate correct number of arguments")
@@ -170,7 +247,7 @@ class AbstractTypedGeneratorArgumentsProviderTest {
 
         @Override
         protected Stream<? extends Arguments> provideArgumentsForGenerators(ExtensionContext context) {
-            return generateArguments(generator).stream();
+            return streamArguments(generator);
         }
 
         @Override
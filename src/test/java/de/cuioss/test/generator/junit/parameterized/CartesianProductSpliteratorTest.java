@@ -0,0 +1,80 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.generator.junit.parameterized;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.platform.commons.JUnitException;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.StreamSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CartesianProductSpliterator should")
+class CartesianProductSpliteratorTest {
+
+    @Test
+    @DisplayName("enumerate all combinations with the last parameter varying fastest")
+    void shouldEnumerateInNestedLoopOrder() {
+        var combinations = stream(List.of(List.of("a", "b"), List.of(1, 2, 3)), false);
+        assertEquals(List.of(
+                List.of("a", 1), List.of("a", 2), List.of("a", 3),
+                List.of("b", 1), List.of("b", 2), List.of("b", 3)), combinations);
+    }
+
+    @Test
+    @DisplayName("yield the same combinations in parallel as sequentially")
+    void shouldSplitConsistently() {
+        List<List<Object>> values = List.of(List.of(1, 2, 3, 4), List.of("x", "y", "z"), List.of(true, false));
+        assertEquals(stream(values, false), stream(values, true));
+        assertEquals(24, CartesianProductSpliterator.of(values).estimateSize());
+    }
+
+    @Test
+    @DisplayName("report the size without materializing a huge product")
+    void shouldHandleHugeProductsLazily() {
+        List<Object> thousand = Collections.nCopies(1000, "v");
+        var spliterator = CartesianProductSpliterator.of(List.of(thousand, thousand, thousand, thousand));
+        assertEquals(1_000_000_000_000L, spliterator.estimateSize());
+        assertTrue(spliterator.tryAdvance(arguments -> assertEquals(4, arguments.get().length)));
+    }
+
+    @Test
+    @DisplayName("be empty for no lists or an empty list")
+    void shouldHandleEmptyInput() {
+        assertEquals(0, CartesianProductSpliterator.of(List.of()).estimateSize());
+        assertEquals(0, CartesianProductSpliterator.of(List.of(List.of(1), List.of())).estimateSize());
+    }
+
+    @Test
+    @DisplayName("reject products exceeding Long.MAX_VALUE combinations")
+    void shouldRejectOverflow() {
+        List<Object> large = Collections.nCopies(1 << 20, "v");
+        var values = List.of(large, large, large, large);
+        assertThrows(JUnitException.class, () -> CartesianProductSpliterator.of(values));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<List<Object>> stream(List<? extends List<?>> values, boolean parallel) {
+        return StreamSupport.stream(CartesianProductSpliterator.of((List<List<Object>>) values), parallel)
+                .map(Arguments::get)
+                .map(List::of)
+                .toList();
+    }
+}
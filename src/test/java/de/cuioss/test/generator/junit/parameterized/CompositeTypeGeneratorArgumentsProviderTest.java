@@ -53,6 +53,8 @@ class CompositeTypeGeneratorArgumentsProviderTest {
         expect(annotation.generators()).andReturn(new GeneratorType[0]).anyTimes();
         expect(annotation.count()).andReturn(5).anyTimes();
         expect(annotation.cartesianProduct()).andReturn(true).anyTimes();
+        expect(annotation.combinationStrategy()).andReturn(CombinationStrategy.DEFAULT).anyTimes();
+        expect(annotation.strength()).andReturn(3).anyTimes();
         replay(annotation);
 
         // when
@@ -75,6 +77,8 @@ class CompositeTypeGeneratorArgumentsProviderTest {
         expect(annotation.generators()).andReturn(new GeneratorType[0]).anyTimes();
         expect(annotation.count()).andReturn(0).anyTimes(); // Should use default of 1
         expect(annotation.cartesianProduct()).andReturn(false).anyTimes();
+        expect(annotation.combinationStrategy()).andReturn(CombinationStrategy.DEFAULT).anyTimes();
+        expect(annotation.strength()).andReturn(3).anyTimes();
         replay(annotation);
 
         // when
@@ -97,6 +101,8 @@ class CompositeTypeGeneratorArgumentsProviderTest {
         expect(annotation.generators()).andReturn(new GeneratorType[0]).anyTimes();
         expect(annotation.count()).andReturn(1).anyTimes();
         expect(annotation.cartesianProduct()).andReturn(false).anyTimes();
+        expect(annotation.combinationStrategy()).andReturn(CombinationStrategy.DEFAULT).anyTimes();
+        expect(annotation.strength()).andReturn(3).anyTimes();
         replay(annotation);
         provider.accept(annotation);
 
@@ -120,6 +126,8 @@ class CompositeTypeGeneratorArgumentsProviderTest {
         expect(annotation.generators()).andReturn(new GeneratorType[0]).anyTimes();
         expect(annotation.count()).andReturn(3).anyTimes();
         expect(annotation.cartesianProduct()).andReturn(false).anyTimes();
+        expect(annotation.combinationStrategy()).andReturn(CombinationStrategy.DEFAULT).anyTimes();
+        expect(annotation.strength()).andReturn(3).anyTimes();
         replay(annotation);
         provider.accept(annotation);
 
@@ -153,6 +161,8 @@ class CompositeTypeGeneratorArgumentsProviderTest {
         expect(annotation.generators()).andReturn(new GeneratorType[0]).anyTimes();
         expect(annotation.count()).andReturn(2).anyTimes();
         expect(annotation.cartesianProduct()).andReturn(false).anyTimes();
+        expect(annotation.combinationStrategy()).andReturn(CombinationStrategy.DEFAULT).anyTimes();
+        expect(annotation.strength()).andReturn(3).anyTimes();
         replay(annotation);
         provider.accept(annotation);
 
@@ -186,6 +196,8 @@ class CompositeTypeGeneratorArgumentsProviderTest {
         expect(annotation.generators()).andReturn(new GeneratorType[0]).anyTimes();
         expect(annotation.count()).andReturn(2).anyTimes();
         expect(annotation.cartesianProduct()).andReturn(true).anyTimes();
+        expect(annotation.combinationStrategy()).andReturn(CombinationStrategy.DEFAULT).anyTimes();
+        expect(annotation.strength()).andReturn(3).anyTimes();
         replay(annotation);
         provider.accept(annotation);
 
@@ -220,6 +232,8 @@ class CompositeTypeGeneratorArgumentsProviderTest {
         expect(annotation.generators()).andReturn(new GeneratorType[0]).anyTimes();
         expect(annotation.count()).andReturn(3).anyTimes();
         expect(annotation.cartesianProduct()).andReturn(false).anyTimes();
+        expect(annotation.combinationStrategy()).andReturn(CombinationStrategy.DEFAULT).anyTimes();
+        expect(annotation.strength()).andReturn(3).anyTimes();
         replay(annotation);
         provider.accept(annotation);
 
@@ -241,6 +255,64 @@ class CompositeTypeGeneratorArgumentsProviderTest {
         verify(context);
     }
 
+    @Test
+    void shouldProvidePairwiseCombinations() throws Exception {
+        // given
+        expect(annotation.generatorClasses()).andReturn(new Class[0]).anyTimes();
+        expect(annotation.generatorMethods()).andReturn(new String[0]).anyTimes();
+        expect(annotation.generators()).andReturn(new GeneratorType[]{GeneratorType.NON_EMPTY_STRINGS,
+                GeneratorType.INTEGERS, GeneratorType.LOCAL_DATES, GeneratorType.DOUBLES}).anyTimes();
+        expect(annotation.count()).andReturn(4).anyTimes();
+        expect(annotation.cartesianProduct()).andReturn(true).anyTimes();
+        expect(annotation.combinationStrategy()).andReturn(CombinationStrategy.PAIRWISE).anyTimes();
+        expect(annotation.strength()).andReturn(3).anyTimes();
+        replay(annotation);
+        provider.accept(annotation);
+
+        expect(context.getElement()).andReturn(Optional.empty()).anyTimes();
+        expect(context.getParent()).andReturn(Optional.empty()).anyTimes();
+        replay(context);
+
+        // when
+        List<Arguments> arguments = provider.provideArguments(null, context)
+                .collect(Collectors.toList());
+
+        // then
+        assertTrue(arguments.size() >= 16 && arguments.size() < 256,
+                "Expected far fewer than 4^4 invocations, got " + arguments.size());
+        for (int first = 0; first < 4; first++) {
+            for (int second = first + 1; second < 4; second++) {
+                int a = first;
+                int b = second;
+                long pairs = arguments.stream().map(args -> List.of(args.get()[a], args.get()[b])).distinct().count();
+                assertEquals(16, pairs, "All value pairs of parameters " + a + " and " + b);
+            }
+        }
+        verify(context);
+    }
+
+    @Test
+    void shouldRejectTWayStrengthBelowTwo() {
+        // given
+        @SuppressWarnings("unchecked") Class<? extends TypedGenerator<?>>[] generatorClasses = new Class[]{StringGenerator.class};
+        expect(annotation.generatorClasses()).andReturn(generatorClasses).anyTimes();
+        expect(annotation.generatorMethods()).andReturn(new String[0]).anyTimes();
+        expect(annotation.generators()).andReturn(new GeneratorType[0]).anyTimes();
+        expect(annotation.count()).andReturn(2).anyTimes();
+        expect(annotation.cartesianProduct()).andReturn(true).anyTimes();
+        expect(annotation.combinationStrategy()).andReturn(CombinationStrategy.T_WAY).anyTimes();
+        expect(annotation.strength()).andReturn(1).anyTimes();
+        replay(annotation);
+        provider.accept(annotation);
+
+        expect(context.getElement()).andReturn(Optional.empty()).anyTimes();
+        expect(context.getParent()).andReturn(Optional.empty()).anyTimes();
+        replay(context);
+
+        // when/then
+        assertThrows(JUnitException.class, () -> provider.provideArguments(null, context));
+    }
+
     @Test
     void shouldProvideArgumentsFromDomainGeneratorType() throws Exception {
         // Regression for J-1: DOMAIN_* types (methodName == null) previously NPE'd here.
@@ -251,6 +323,8 @@ class CompositeTypeGeneratorArgumentsProviderTest {
         expect(annotation.generators()).andReturn(new GeneratorType[]{GeneratorType.DOMAIN_CITY}).anyTimes();
         expect(annotation.count()).andReturn(3).anyTimes();
         expect(annotation.cartesianProduct()).andReturn(false).anyTimes();
+        expect(annotation.combinationStrategy()).andReturn(CombinationStrategy.DEFAULT).anyTimes();
+        expect(annotation.strength()).andReturn(3).anyTimes();
         replay(annotation);
         provider.accept(annotation);
 
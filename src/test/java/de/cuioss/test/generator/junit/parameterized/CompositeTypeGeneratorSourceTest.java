@@ -23,6 +23,8 @@ import de.cuioss.test.generator.junit.GeneratorSeed;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.params.ParameterizedTest;
 
+import java.time.LocalDate;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -123,6 +125,47 @@ class CompositeTypeGeneratorSourceTest {
         assertNotNull(flag);
     }
 
+    @ParameterizedTest
+    @DisplayName("Should generate a pairwise covering array")
+    @CompositeTypeGeneratorSource(
+            generatorMethods = {
+                    "stringGenerator",
+                    "integerGenerator"
+            },
+            generators = {
+                    GeneratorType.BOOLEANS,
+                    GeneratorType.LOCAL_DATES
+            },
+            count = 3,
+            combinationStrategy = CombinationStrategy.PAIRWISE
+    )
+    void shouldGeneratePairwiseCombinations(String text, Integer number, Boolean flag, LocalDate date) {
+        assertNotNull(text);
+        assertNotNull(number);
+        assertNotNull(flag);
+        assertNotNull(date);
+    }
+
+    @ParameterizedTest
+    @DisplayName("Should generate a t-way covering array")
+    @CompositeTypeGeneratorSource(
+            generatorMethods = {
+                    "fixedStringGenerator",
+                    "fixedIntegerGenerator",
+                    "integerGenerator",
+                    "stringGenerator"
+            },
+            count = 2,
+            combinationStrategy = CombinationStrategy.T_WAY,
+            strength = 3
+    )
+    void shouldGenerateThreeWayCombinations(String text, Integer number, Integer other, String second) {
+        assertNotNull(text);
+        assertNotNull(number);
+        assertNotNull(other);
+        assertNotNull(second);
+    }
+
     /**
      * Creates a generator for strings with length between 3 and 10.
      * 
@@ -0,0 +1,129 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.generator.junit.parameterized;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CoveringArray should")
+class CoveringArrayTest {
+
+    static Stream<Arguments> configurations() {
+        return Stream.of(
+                Arguments.of(new int[]{3, 3, 3, 3}, 2),
+                Arguments.of(new int[]{2, 5, 3, 4, 2, 6}, 2),
+                Arguments.of(new int[]{10, 10, 10, 10, 10, 10, 10, 10}, 2),
+                Arguments.of(new int[]{3, 3, 3, 3, 3}, 3),
+                Arguments.of(new int[]{2, 4, 3, 2, 5, 2}, 3),
+                Arguments.of(new int[]{2, 2, 2, 2, 2, 2}, 4),
+                Arguments.of(new int[]{1, 4, 1, 3}, 2));
+    }
+
+    @ParameterizedTest
+    @MethodSource("configurations")
+    @DisplayName("cover every t-way combination of values")
+    void shouldCoverAllInteractions(int[] sizes, int strength) {
+        var rows = CoveringArray.build(sizes, strength);
+        for (int[] row : rows) {
+            assertEquals(sizes.length, row.length);
+            for (int p = 0; p < sizes.length; p++) {
+                assertTrue(row[p] >= 0 && row[p] < sizes[p], "value index out of range");
+            }
+        }
+        for (int[] subset : subsets(sizes.length, strength)) {
+            Set<List<Integer>> covered = new HashSet<>();
+            for (int[] row : rows) {
+                List<Integer> tuple = new ArrayList<>();
+                for (int p : subset) {
+                    tuple.add(row[p]);
+                }
+                covered.add(tuple);
+            }
+            long expected = 1;
+            for (int p : subset) {
+                expected *= sizes[p];
+            }
+            assertEquals(expected, covered.size(), "Missing tuples for parameters " + List.of(subset));
+        }
+    }
+
+    @Test
+    @DisplayName("need far fewer rows than the cartesian product")
+    void shouldBeSmallerThanProduct() {
+        var pairwise = CoveringArray.build(new int[]{10, 10, 10, 10, 10, 10, 10, 10}, 2);
+        assertTrue(pairwise.size() < 250, "10^8 product, pairwise got " + pairwise.size());
+        var threeWay = CoveringArray.build(new int[]{3, 3, 3, 3, 3, 3}, 3);
+        assertTrue(threeWay.size() < 100, "3^6 = 729 product, 3-way got " + threeWay.size());
+    }
+
+    @Test
+    @DisplayName("yield the cartesian product if the strength covers all parameters")
+    void shouldYieldProductForFullStrength() {
+        assertEquals(24, CoveringArray.build(new int[]{2, 3, 4}, 3).size());
+        assertEquals(24, CoveringArray.build(new int[]{2, 3, 4}, 5).size());
+        assertEquals(4, CoveringArray.build(new int[]{4}, 2).size());
+        assertTrue(CoveringArray.build(new int[0], 2).isEmpty());
+    }
+
+    @Test
+    @DisplayName("be deterministic")
+    void shouldBeDeterministic() {
+        int[] sizes = {4, 3, 5, 2, 4};
+        var first = CoveringArray.build(sizes, 2);
+        var second = CoveringArray.build(sizes, 2);
+        assertEquals(first.size(), second.size());
+        for (int r = 0; r < first.size(); r++) {
+            assertArrayEquals(first.get(r), second.get(r));
+        }
+    }
+
+    @Test
+    @DisplayName("reject invalid arguments")
+    void shouldRejectInvalidArguments() {
+        int[] sizes = {2, 2};
+        assertThrows(IllegalArgumentException.class, () -> CoveringArray.build(sizes, 1));
+        int[] empty = {2, 0};
+        assertThrows(IllegalArgumentException.class, () -> CoveringArray.build(empty, 2));
+    }
+
+    private static List<int[]> subsets(int parameters, int strength) {
+        List<int[]> result = new ArrayList<>();
+        addSubsets(result, new int[Math.min(strength, parameters)], 0, 0, parameters);
+        return result;
+    }
+
+    private static void addSubsets(List<int[]> result, int[] current, int depth, int from, int parameters) {
+        if (depth == current.length) {
+            result.add(current.clone());
+            return;
+        }
+        for (int p = from; p < parameters; p++) {
+            current[depth] = p;
+            addSubsets(result, current, depth + 1, p + 1, parameters);
+        }
+    }
+}
@@ -16,6 +16,7 @@
 package de.cuioss.test.generator.junit.parameterized;
 
 import de.cuioss.test.generator.Generators;
+import de.cuioss.test.generator.TypedGenerator;
 import de.cuioss.test.generator.internal.RandomContext;
 import de.cuioss.test.generator.junit.EnableGeneratorController;
 import de.cuioss.test.generator.junit.GeneratorSeed;
@@ -28,13 +29,14 @@ import org.junit.jupiter.params.provider.ValueSource;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
- * Additional tests for the generateArguments method in {@link AbstractTypedGeneratorArgumentsProvider}.
+ * Additional tests for the streamArguments method in {@link AbstractTypedGeneratorArgumentsProvider}.
  *
- * <p>The count-based cardinality of {@code generateArguments} is covered in
+ * <p>The count-based cardinality of {@code streamArguments} is covered in
  * {@link AbstractTypedGeneratorArgumentsProviderTest}; this class focuses on the edge cases not
  * exercised there: zero count, seed reproducibility and seed sensitivity.</p>
  */
@@ -74,6 +76,65 @@ class GenerateArgumentsTest {
                 "A full-range generator must not collapse to a single value");
     }
 
+    @Test
+    @DisplayName("Should draw values lazily, only as the arguments are consumed")
+    void shouldGenerateLazily() {
+        var provider = new TestArgumentsProvider(TEST_SEED, 1_000_000);
+        var drawn = new AtomicInteger();
+        TypedGenerator<Integer> counting = new TypedGenerator<>() {
+            @Override
+            public Integer next() {
+                return drawn.incrementAndGet();
+            }
+
+            @Override
+            public Class<Integer> getType() {
+                return Integer.class;
+            }
+        };
+
+        var firstThree = provider.streamArguments(counting).limit(3).toList();
+
+        assertEquals(3, firstThree.size());
+        assertTrue(drawn.get() <= 64, "Only the block of the consumed values may be generated, was " + drawn.get());
+    }
+
+    @Test
+    @DisplayName("Should keep the sequence fixed once created, whatever happens to the seed afterwards")
+    void shouldBeSeedStableAfterCreation() {
+        var provider = new TestArgumentsProvider(TEST_SEED, 5);
+        var generator = Generators.integers(Integer.MIN_VALUE, Integer.MAX_VALUE);
+
+        RandomContext.setSeed(TEST_SEED);
+        var expected = extractValues(provider.streamArguments(generator).toList());
+
+        RandomContext.setSeed(TEST_SEED);
+        var stream = provider.streamArguments(generator);
+        // Simulates the seed being restored and other tests drawing before consumption
+        RandomContext.initSeed();
+        RandomContext.random().nextInt();
+
+        assertEquals(expected, extractValues(stream.toList()));
+    }
+
+    @Test
+    @DisplayName("Should keep the deprecated list variant drawing consecutive values")
+    @SuppressWarnings("deprecation")
+    void shouldKeepDeprecatedListVariant() {
+        var provider = new TestArgumentsProvider(TEST_SEED, 5);
+        var generator = Generators.integers(Integer.MIN_VALUE, Integer.MAX_VALUE);
+
+        RandomContext.setSeed(TEST_SEED);
+        var expected = generator.next(5);
+
+        RandomContext.setSeed(TEST_SEED);
+        var arguments = provider.generateArguments(generator);
+
+        assertEquals(expected, extractValues(arguments));
+        arguments.add(Arguments.of(0));
+        assertEquals(6, arguments.size(), "The list should stay mutable, as before 3.1");
+    }
+
     private static List<Object> extractValues(List<Arguments> arguments) {
         List<Object> values = new ArrayList<>();
         for (var argument : arguments) {
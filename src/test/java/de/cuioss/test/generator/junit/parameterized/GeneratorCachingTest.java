@@ -0,0 +1,167 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.test.generator.junit.parameterized;
+
+import de.cuioss.test.generator.Generators;
+import de.cuioss.test.generator.TypedGenerator;
+import de.cuioss.test.generator.impl.DecoratorGenerator;
+import de.cuioss.test.generator.junit.EnableGeneratorController;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.params.ParameterizedTest;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the caching of generator instances across test methods declaring the same generator
+ * attributes, see {@link AbstractTypedGeneratorArgumentsProvider#getOrCreateGenerator}.
+ */
+@EnableGeneratorController
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class GeneratorCachingTest {
+
+    @ParameterizedTest
+    @Order(1)
+    @DisplayName("Should create a cached generator for the first method")
+    @TypeGeneratorSource(value = CachedGenerator.class, count = 2, cacheGenerator = true)
+    void firstCachedUse(String value) {
+        assertNotNull(value);
+    }
+
+    @ParameterizedTest
+    @Order(2)
+    @DisplayName("Should reuse the cached generator for a second method with the same attributes")
+    @TypeGeneratorSource(value = CachedGenerator.class, count = 3, seed = 7L, cacheGenerator = true)
+    void secondCachedUse(String value) {
+        assertNotNull(value);
+    }
+
+    @ParameterizedTest
+    @Order(3)
+    @DisplayName("Should create a fresh user-supplied generator per method by default")
+    @TypeGeneratorSource(value = UncachedGenerator.class, count = 2)
+    void firstUncachedUse(String value) {
+        assertNotNull(value);
+    }
+
+    @ParameterizedTest
+    @Order(4)
+    @TypeGeneratorSource(value = UncachedGenerator.class, count = 2)
+    void secondUncachedUse(String value) {
+        assertNotNull(value);
+    }
+
+    @ParameterizedTest
+    @Order(5)
+    @DisplayName("Should create a unique generator from a factory for the first method, despite opting in")
+    @TypeGeneratorFactorySource(factoryClass = UniqueFactory.class, factoryMethod = "uniqueIntegers", count = 3,
+            cacheGenerator = true)
+    void firstUniqueUse(Integer value) {
+        assertTrue(value >= 1 && value <= 3);
+    }
+
+    @ParameterizedTest
+    @Order(6)
+    @DisplayName("Should create a fresh unique generator for a second method, as the first one is exhausted")
+    @TypeGeneratorFactorySource(factoryClass = UniqueFactory.class, factoryMethod = "uniqueIntegers", count = 3,
+            cacheGenerator = true)
+    void secondUniqueUse(Integer value) {
+        assertTrue(value >= 1 && value <= 3);
+    }
+
+    @ParameterizedTest
+    @Order(7)
+    @DisplayName("Should not cache a decorated unique generator")
+    @TypeGeneratorFactorySource(factoryClass = UniqueFactory.class, factoryMethod = "decoratedUniqueIntegers",
+            count = 3, cacheGenerator = true)
+    void firstDecoratedUniqueUse(Integer value) {
+        assertTrue(value >= 1 && value <= 3);
+    }
+
+    @ParameterizedTest
+    @Order(8)
+    @TypeGeneratorFactorySource(factoryClass = UniqueFactory.class, factoryMethod = "decoratedUniqueIntegers",
+            count = 3, cacheGenerator = true)
+    void secondDecoratedUniqueUse(Integer value) {
+        assertTrue(value >= 1 && value <= 3);
+    }
+
+    @Test
+    @Order(9)
+    @DisplayName("Should have created each generator as often as expected")
+    void shouldCountCreations() {
+        assertEquals(1, CachedGenerator.CREATED.get(), "Cached generator must be created once");
+        assertEquals(2, UncachedGenerator.CREATED.get(), "Uncached generator must be created per method");
+        assertEquals(4, UniqueFactory.CREATED.get(), "Unique generators must be created per method");
+    }
+
+    public static class UniqueFactory {
+
+        static final AtomicInteger CREATED = new AtomicInteger();
+
+        public static TypedGenerator<Integer> uniqueIntegers() {
+            CREATED.incrementAndGet();
+            return Generators.uniqueIntegers(1, 3);
+        }
+
+        public static TypedGenerator<Integer> decoratedUniqueIntegers() {
+            return new DecoratorGenerator<>(Integer.class, uniqueIntegers());
+        }
+    }
+
+    public static class CachedGenerator implements TypedGenerator<String> {
+
+        static final AtomicInteger CREATED = new AtomicInteger();
+
+        public CachedGenerator() {
+            CREATED.incrementAndGet();
+        }
+
+        @Override
+        public String next() {
+            return Generators.nonEmptyStrings().next();
+        }
+
+        @Override
+        public Class<String> getType() {
+            return String.class;
+        }
+    }
+
+    public static class UncachedGenerator implements TypedGenerator<String> {
+
+        static final AtomicInteger CREATED = new AtomicInteger();
+
+        public UncachedGenerator() {
+            CREATED.incrementAndGet();
+        }
+
+        @Override
+        public String next() {
+            return Generators.nonEmptyStrings().next();
+        }
+
+        @Override
+        public Class<String> getType() {
+            return String.class;
+        }
+    }
+}
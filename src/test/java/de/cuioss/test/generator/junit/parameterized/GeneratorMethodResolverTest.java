@@ -163,4 +163,13 @@ class GeneratorMethodResolverTest {
         }
     }
 
+    @Test
+    void shouldCacheFoundMethods() {
+        var first = GeneratorMethodResolver.findMethod(SharedTestFactory.class, "createGenerator");
+        var second = GeneratorMethodResolver.findMethod(SharedTestFactory.class, "createGenerator");
+
+        assertSame(first, second);
+        assertSame(first, GeneratorMethodResolver.findMethod(SharedTestFactory.class, "createGenerator"));
+        assertTrue(GeneratorMethodResolver.findMethod(SharedTestFactory.class, "nonExistentMethod").isEmpty());
+    }
 }
@@ -39,6 +39,7 @@ class GeneratorsSourceSeedTest {
         expect(annotation.high()).andReturn("100").anyTimes();
         expect(annotation.count()).andReturn(3).anyTimes();
         expect(annotation.seed()).andReturn(42L).anyTimes();
+        expect(annotation.cacheGenerator()).andReturn(true).anyTimes();
         replay(annotation);
 
         var provider = new GeneratorsSourceArgumentsProvider();
@@ -48,10 +49,10 @@ class GeneratorsSourceSeedTest {
         List<Object> produced = provider.provideArguments(null, null)
                 .map(args -> args.get()[0]).toList();
 
-        // Baseline generated directly from the same seed, in the same order.
+        // Baseline streamed directly from the same seed, as the provider does.
         RandomContext.setSeed(42L);
         var generator = Generators.integers(1, 100);
-        List<Object> baseline = List.of(generator.next(), generator.next(), generator.next());
+        var baseline = generator.stream(3).toList();
 
         assertEquals(baseline, produced, "The seed attribute must drive reproducible generation");
         verify(annotation);
@@ -99,6 +99,87 @@ class JpmsReflectionHelperTest {
                 () -> JpmsReflectionHelper.invokeMethod(method, null));
     }
 
+    @Test
+    @DisplayName("Should invoke repeatedly through the cached handle")
+    void shouldInvokeRepeatedly() throws Exception {
+        var method = TestFactory.class.getDeclaredMethod("echo", String.class);
+        assertEquals("first", JpmsReflectionHelper.invokeMethod(method, null, "first"));
+        assertEquals("second", JpmsReflectionHelper.invokeMethod(method, null, "second"));
+        var copy = TestFactory.class.getDeclaredMethod("echo", String.class);
+        assertEquals("third", JpmsReflectionHelper.invokeMethod(copy, null, "third"));
+    }
+
+    @Test
+    @DisplayName("Should pass the target of an instance method through the cached handle")
+    void shouldInvokeInstanceMethodRepeatedly() throws Exception {
+        var method = TestFactory.class.getDeclaredMethod("prefixed", String.class);
+        assertEquals("a:x", JpmsReflectionHelper.invokeMethod(method, new TestFactory("a"), "x"));
+        assertEquals("b:y", JpmsReflectionHelper.invokeMethod(method, new TestFactory("b"), "y"));
+    }
+
+    @Test
+    @DisplayName("Should wrap exceptions thrown through the cached handle like Method#invoke")
+    void shouldWrapExceptionsFromCachedHandle() throws Exception {
+        var method = TestFactory.class.getDeclaredMethod("echo", String.class);
+        JpmsReflectionHelper.invokeMethod(method, null, "warm up");
+        var thrown = assertThrows(InvocationTargetException.class,
+                () -> JpmsReflectionHelper.invokeMethod(method, null, "fail"));
+        assertInstanceOf(IllegalArgumentException.class, thrown.getTargetException());
+    }
+
+    @Test
+    @DisplayName("Should unbox primitive arguments through the cached handle")
+    void shouldUnboxPrimitiveArguments() throws Exception {
+        var method = TestFactory.class.getDeclaredMethod("sum", int.class, int.class);
+        assertEquals(3, JpmsReflectionHelper.invokeMethod(method, null, 1, 2));
+        assertEquals(7, JpmsReflectionHelper.invokeMethod(method, null, 3, 4));
+    }
+
+    @Test
+    @DisplayName("Should reject mismatching arguments like Method#invoke after caching the handle")
+    void shouldRejectMismatchingArgumentsLikeReflection() throws Exception {
+        var method = TestFactory.class.getDeclaredMethod("echo", String.class);
+        JpmsReflectionHelper.invokeMethod(method, null, "warm up");
+        assertThrows(IllegalArgumentException.class, () -> JpmsReflectionHelper.invokeMethod(method, null, 42));
+        assertThrows(IllegalArgumentException.class, () -> JpmsReflectionHelper.invokeMethod(method, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> JpmsReflectionHelper.invokeMethod(method, null, "a", "b"));
+
+        var instanceMethod = TestFactory.class.getDeclaredMethod("prefixed", String.class);
+        JpmsReflectionHelper.invokeMethod(instanceMethod, new TestFactory("a"), "warm up");
+        assertThrows(IllegalArgumentException.class, () -> JpmsReflectionHelper.invokeMethod(instanceMethod, "x", "y"));
+        assertThrows(NullPointerException.class, () -> JpmsReflectionHelper.invokeMethod(instanceMethod, null, "y"));
+    }
+
+    @Test
+    @DisplayName("Should apply widening conversions like Method#invoke after caching the handle")
+    void shouldWidenArgumentsLikeReflection() throws Exception {
+        var method = TestFactory.class.getDeclaredMethod("twice", long.class);
+        assertEquals(4L, JpmsReflectionHelper.invokeMethod(method, null, 2L));
+        assertEquals(6L, JpmsReflectionHelper.invokeMethod(method, null, 3));
+        assertThrows(IllegalArgumentException.class,
+                () -> JpmsReflectionHelper.invokeMethod(method, null, (Object) null));
+    }
+
+    @Test
+    @DisplayName("Should wrap a ClassCastException thrown by the method on every call")
+    void shouldWrapClassCastExceptionFromMethod() throws Exception {
+        var method = TestFactory.class.getDeclaredMethod("cast", Object.class);
+        for (int i = 0; i < 2; i++) {
+            var thrown = assertThrows(InvocationTargetException.class,
+                    () -> JpmsReflectionHelper.invokeMethod(method, null, 42));
+            assertInstanceOf(ClassCastException.class, thrown.getTargetException());
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep rejecting an inaccessible method on every call")
+    void shouldNotCacheRejectedAccess() throws Exception {
+        var method = TestFactory.class.getDeclaredMethod("privateMethod");
+        assertThrows(IllegalAccessException.class, () -> JpmsReflectionHelper.invokeMethod(method, null));
+        assertThrows(IllegalAccessException.class, () -> JpmsReflectionHelper.invokeMethod(method, null));
+    }
+
     // --- isJpmsAccessException tests ---
 
     @Test
@@ -320,6 +401,16 @@ class JpmsReflectionHelperTest {
 
     @SuppressWarnings("unused")
     public static class TestFactory {
+        private final String prefix;
+
+        public TestFactory() {
+            this("");
+        }
+
+        TestFactory(String prefix) {
+            this.prefix = prefix;
+        }
+
         public static TypedGenerator<String> createGenerator() {
             return Generators.strings(5, 10);
         }
@@ -335,5 +426,28 @@ class JpmsReflectionHelperTest {
         private static String privateMethod() {
             return "private";
         }
+
+        public static String echo(String value) {
+            if ("fail".equals(value)) {
+                throw new IllegalArgumentException("test exception from echo");
+            }
+            return value;
+        }
+
+        public static long twice(long value) {
+            return 2 * value;
+        }
+
+        public static String cast(Object value) {
+            return (String) value;
+        }
+
+        public static int sum(int first, int second) {
+            return first + second;
+        }
+
+        public String prefixed(String value) {
+            return prefix + ":" + value;
+        }
     }
 }
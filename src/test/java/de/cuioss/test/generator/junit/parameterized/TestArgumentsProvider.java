@@ -24,7 +24,7 @@ import java.util.stream.Stream;
 
 /**
  * Shared test implementation of {@link AbstractTypedGeneratorArgumentsProvider} used by the
- * provider tests in this package. It exposes the protected {@code generateArguments} and
+ * provider tests in this package. It exposes the protected {@code streamArguments} and
  * {@code createGeneratorInstance} hooks so tests can exercise them directly. Consolidates the
  * previously duplicated {@code TestProvider} definitions.
  */
@@ -54,7 +54,7 @@ class TestArgumentsProvider extends AbstractTypedGeneratorArgumentsProvider {
     }
 
     List<Arguments> generateArgumentsPublic(TypedGenerator<?> generator) {
-        return generateArguments(generator);
+        return streamArguments(generator).toList();
     }
 
     TypedGenerator<?> createGeneratorInstancePublic(Class<? extends TypedGenerator<?>> generatorClass) {
@@ -206,7 +206,7 @@ class TypeGeneratorMethodArgumentsProviderTest {
         // then the values match those produced from the annotated seed
         RandomContext.setSeed(4242L);
         var generator = SharedTestFactory.createIntegerGenerator();
-        List<Object> baseline = List.of(generator.next(), generator.next(), generator.next());
+        var baseline = generator.stream(3).toList();
         assertEquals(baseline, produced, "@GeneratorSeed must drive @TypeGeneratorMethodSource output");
         verify(context);
     }